@@ -21,6 +21,7 @@ package io.ballerina.shell.invoker;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.DiagnosticResult;
 import io.ballerina.projects.Document;
@@ -102,6 +103,13 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
      * or a temp file.
      */
     private File bufferFile;
+    /**
+     * Offline and online projects loaded from the buffer file.
+     * Subsequent snippets with the same imports update the document of these projects instead of loading new ones,
+     * so that the compiler context with the already resolved and loaded dependencies is reused.
+     */
+    private Project offlineBufferProject;
+    private Project onlineBufferProject;
 
     protected ShellSnippetsInvoker() {
         this.scheduler = new Scheduler(false);
@@ -249,17 +257,47 @@ public abstract class ShellSnippetsInvoker extends DiagnosticReporter {
     protected Project getProject(String source, boolean isOffline) throws InvokerException {
         try {
             File mainBal = writeToFile(source);
+            Project bufferProject = isOffline ? offlineBufferProject : onlineBufferProject;
+            if (bufferProject != null) {
+                Module module = bufferProject.currentPackage().getDefaultModule();
+                Document document = module.document(module.documentIds().iterator().next());
+                Document updatedDocument = document.modify().withContent(source).apply();
+                // A project is loaded again when the imports change, since it may have failed to resolve them before
+                if (getImports(updatedDocument).equals(getImports(document))) {
+                    return updatedDocument.module().project();
+                }
+            }
             BuildOptions buildOptions = BuildOptions.builder()
                     .setOffline(isOffline)
                     .targetDir(ProjectUtils.getTemporaryTargetPath())
                     .build();
-            return SingleFileProject.load(mainBal.toPath(), buildOptions);
+            Project project = SingleFileProject.load(mainBal.toPath(), buildOptions);
+            if (isOffline) {
+                offlineBufferProject = project;
+            } else {
+                onlineBufferProject = project;
+            }
+            return project;
         } catch (IOException e) {
             addErrorDiagnostic("File writing failed: " + e.getMessage());
             throw new InvokerException(e);
         }
     }
 
+    /**
+     * Discards the projects loaded from the buffer file.
+     * The next project request will load a new project with a fresh compiler context.
+     */
+    protected void releaseProject() {
+        this.offlineBufferProject = null;
+        this.onlineBufferProject = null;
+    }
+
+    private static List<String> getImports(Document document) {
+        ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+        return modulePartNode.imports().stream().map(importNode -> importNode.toSourceCode().strip()).toList();
+    }
+
     /* Compilation methods */
 
     /**
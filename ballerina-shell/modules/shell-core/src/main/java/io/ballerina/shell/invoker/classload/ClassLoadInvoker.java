@@ -201,6 +201,7 @@ public class ClassLoadInvoker extends ShellSnippetsInvoker {
         this.initialized.set(false);
         this.importsManager.reset();
         this.availableModuleDeclarations.clear();
+        this.releaseProject();
     }
 
     @Override
@@ -19,7 +19,9 @@
 package io.ballerina.shell.test.unit;
 
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
 import io.ballerina.shell.exceptions.BallerinaShellException;
 import io.ballerina.shell.exceptions.InvokerException;
 import io.ballerina.shell.invoker.classload.ClassLoadInvoker;
@@ -30,6 +32,7 @@ import io.ballerina.shell.snippet.factory.SnippetFactory;
 import io.ballerina.shell.test.TestUtils;
 import io.ballerina.shell.test.unit.base.TestCase;
 import io.ballerina.shell.test.unit.base.TestCases;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Collection;
@@ -78,6 +81,39 @@ public class InvokerTest {
         testInvoker(SAME_PREFIX_FOUND);
     }
 
+    @Test
+    public void testProjectReuse() throws BallerinaShellException {
+        ProjectReuseInvoker invoker = new ProjectReuseInvoker();
+        String importStr = "import ballerina/lang.'int as ints;\n";
+
+        // Consecutive sources with the same imports reuse the project
+        Project offlineProject = invoker.loadProject(importStr + "int i = ints:sum(1, 2);\n", true);
+        String source = importStr + "int j = ints:abs(-1);\n";
+        Assert.assertSame(invoker.loadProject(source, true), offlineProject);
+        Assert.assertEquals(getSource(offlineProject), source);
+
+        // Online projects are reused separately from the offline ones
+        Project onlineProject = invoker.loadProject(source, false);
+        Assert.assertNotSame(onlineProject, offlineProject);
+        Assert.assertSame(invoker.loadProject(importStr + "int k = 1;\n", false), onlineProject);
+
+        // An import change invalidates the project
+        source = importStr + "import ballerina/lang.'float as floats;\nfloat f = floats:abs(-1.0);\n";
+        Project updatedProject = invoker.loadProject(source, true);
+        Assert.assertNotSame(updatedProject, offlineProject);
+        Assert.assertEquals(getSource(updatedProject), source);
+        Assert.assertSame(invoker.loadProject(source + "int l = 1;\n", true), updatedProject);
+
+        // Resetting the invoker discards the projects
+        invoker.reset();
+        Assert.assertNotSame(invoker.loadProject(source, true), updatedProject);
+    }
+
+    private static String getSource(Project project) {
+        Module module = project.currentPackage().getDefaultModule();
+        return module.document(module.documentIds().iterator().next()).textDocument().toString();
+    }
+
     private void testInvoker(String fileName) throws BallerinaShellException {
         TestCases testCases = TestUtils.loadTestCases(fileName, TestCases.class);
         TreeParser treeParser = TestUtils.getTestTreeParser();
@@ -91,4 +127,13 @@ public class InvokerTest {
             invoker.execute(Optional.ofNullable(compilation));
         }
     }
+
+    /**
+     * Invoker which exposes the projects loaded from the buffer file.
+     */
+    private static class ProjectReuseInvoker extends ClassLoadInvoker {
+        Project loadProject(String source, boolean isOffline) throws InvokerException {
+            return getProject(source, isOffline);
+        }
+    }
 }
@@ -61,6 +61,7 @@ public class Profiler {
     private String balJarArgs = null;
     private String balJarName = null;
     private String profilerDebugArg = null;
+    private Integer samplingInterval = null;
     private final List<String> instrumentedPaths = new ArrayList<>();
     private final List<String> instrumentedFiles = new ArrayList<>();
     private final List<String> utilInitPaths = new ArrayList<>();
@@ -141,6 +142,10 @@ public class Profiler {
                     this.profilerDebugArg = args[i + 1];
                     addToUsedArgs(args, usedArgs, i);
                 }
+                case "--sampling-interval" -> {
+                    this.samplingInterval = extractSamplingIntervalArg(args[i + 1]);
+                    addToUsedArgs(args, usedArgs, i);
+                }
                 default -> handleUnrecognizedArgument(args[i], usedArgs);
             }
         }
@@ -153,6 +158,19 @@ public class Profiler {
         return value;
     }
 
+    private Integer extractSamplingIntervalArg(String value) {
+        int interval;
+        try {
+            interval = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new ProfilerException("Invalid sampling interval found: " + value, e);
+        }
+        if (interval <= 0) {
+            throw new ProfilerException("Invalid sampling interval found: " + value);
+        }
+        return interval;
+    }
+
     private String extractBalJarArgs(String value) {
         if (value == null || !value.startsWith("[") || !value.endsWith("]")) {
             throw new ProfilerException("Invalid JAR arguments found: " + value);
@@ -201,6 +219,10 @@ public class Profiler {
         } catch (Exception e) {
             throw new ProfilerException("error occurred while performing analysis", e);
         }
+        if (samplingInterval != null) {
+            prepareSampling(classNames);
+            return;
+        }
         OUT_STREAM.printf("%s[4/6] Instrumenting functions...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
         try (JarFile jarFile = new JarFile(balJarName)) {
             String mainClassPackage = profilerMethodWrapper.mainClassFinder(new URLClassLoader(new URL[]{
@@ -231,6 +253,24 @@ public class Profiler {
         }
     }
 
+    private void prepareSampling(List<String> classNames) {
+        // The functions are not instrumented in the sampling mode. Only the sampler, which wraps the main class of
+        // the program, is added to the executable.
+        OUT_STREAM.printf("%s[4/6] Preparing sampler...%s%n", Constants.ANSI_CYAN, Constants.ANSI_RESET);
+        for (String className : classNames) {
+            if (className.endsWith("/$_init.class")) {
+                moduleCount++;
+            }
+        }
+        OUT_STREAM.printf("      Module count: %d%n", moduleCount);
+        OUT_STREAM.printf("      Sampling interval: %d ms%n", samplingInterval);
+        try {
+            modifyJar();
+        } catch (Throwable throwable) {
+            throw new ProfilerException(throwable);
+        }
+    }
+
     private void modifyJar() throws InterruptedException, IOException {
         try {
             final File userDirectory = new File(System.getProperty("user.dir")); // Get the user directory
@@ -244,7 +284,13 @@ public class Profiler {
             }
             Path filePath = Paths.get("io/ballerina/runtime/profiler/runtime");
             FileUtils.deleteDirectory(new File(filePath.toString()));
-            profilerMethodWrapper.invokeMethods(profilerDebugArg);
+            if (samplingInterval != null) {
+                profilerMethodWrapper.invokeSampledMethods(profilerDebugArg, samplingInterval,
+                        profilerMethodWrapper.mainClassNameFinder(new URLClassLoader(new URL[]{
+                                new File(balJarName).toURI().toURL()})));
+            } else {
+                profilerMethodWrapper.invokeMethods(profilerDebugArg);
+            }
         }
     }
 
@@ -55,9 +55,8 @@ public class ProfilerMethodWrapper extends ClassLoader {
     public static final String JAVA_OPTS = "JAVA_OPTS";
 
     public void invokeMethods(String debugArg) throws IOException, InterruptedException {
-        String balJarArgs = Main.getBalJarArgs();
-        List<String> commands = new ArrayList<>();
         String javaOpts = System.getenv().get(JAVA_OPTS);
+        List<String> commands = new ArrayList<>();
         commands.add(System.getenv("java.command"));
         if (javaOpts != null) {
             commands.add(javaOpts.trim());
@@ -67,6 +66,31 @@ public class ProfilerMethodWrapper extends ClassLoader {
             commands.add(debugArg);
         }
         commands.add(Paths.get(System.getProperty(USER_DIR), Constants.TEMP_JAR_FILE_NAME).toString());
+        runExecutable(commands, javaOpts);
+    }
+
+    public void invokeSampledMethods(String debugArg, int samplingInterval, String mainClassName)
+            throws IOException, InterruptedException {
+        String javaOpts = System.getenv().get(JAVA_OPTS);
+        List<String> commands = new ArrayList<>();
+        commands.add(System.getenv("java.command"));
+        if (javaOpts != null) {
+            commands.add(javaOpts.trim());
+        }
+        if (debugArg != null) {
+            commands.add(debugArg);
+        }
+        // The sampler runs the main class of the program while periodically sampling the strand call stacks.
+        commands.add("-cp");
+        commands.add(Paths.get(System.getProperty(USER_DIR), Constants.TEMP_JAR_FILE_NAME).toString());
+        commands.add(Constants.STRAND_SAMPLER_CLASS);
+        commands.add(String.valueOf(samplingInterval));
+        commands.add(mainClassName);
+        runExecutable(commands, javaOpts);
+    }
+
+    private void runExecutable(List<String> commands, String javaOpts) throws IOException, InterruptedException {
+        String balJarArgs = Main.getBalJarArgs();
         if (balJarArgs != null) {
             commands.add(balJarArgs);
         }
@@ -86,11 +110,16 @@ public class ProfilerMethodWrapper extends ClassLoader {
     }
 
     public String mainClassFinder(URLClassLoader manifestClassLoader) {
+        String mainClassName = mainClassNameFinder(manifestClassLoader);
+        return mainClassName == null ? null : mainClassName.replace(".$_init", "").replace(".", "/");
+    }
+
+    public String mainClassNameFinder(URLClassLoader manifestClassLoader) {
         try {
             URL manifestURL = manifestClassLoader.findResource("META-INF/MANIFEST.MF");
             Manifest manifest = new Manifest(manifestURL.openStream());
             Attributes attributes = manifest.getMainAttributes();
-            return attributes.getValue("Main-Class").replace(".$_init", "").replace(".", "/");
+            return attributes.getValue("Main-Class");
         } catch (Throwable throwable) {
             ERROR_STREAM.println(throwable + "%n");
             return null;
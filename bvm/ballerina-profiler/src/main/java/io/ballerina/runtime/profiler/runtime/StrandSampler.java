@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.profiler.runtime;
+
+import io.ballerina.runtime.internal.scheduling.FunctionFrame;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.Strand;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Stack;
+
+import static io.ballerina.runtime.profiler.util.Constants.CPU_PRE_JSON;
+
+/**
+ * Samples the call stacks of the strands of a Ballerina program at a fixed interval. This is used by the sampling
+ * mode of the Ballerina profiler instead of instrumenting every function. The call stacks of the running strands
+ * are read from the threads which run them, and those of the suspended strands from the function frames they have
+ * saved when yielding. Each sample adds the sampling interval to the time of the sampled call stack and all of its
+ * callers, so the output has the same shape as the one written by {@link ProfileAnalyzer}.
+ *
+ * @since 2201.10.0
+ */
+public class StrandSampler implements Runnable {
+
+    private static final String ROOT_STACK_ELEMENT = "Root";
+    private static final String INIT_CLASS_FILE = "/$_init.class";
+    private static final String GENERATED_METHOD_MARKER = "$gen$";
+
+    private final long samplingInterval;
+    private final ClassLoader classLoader;
+    private final Map<String, Data> profiles = new HashMap<>();
+    private final Map<String, Boolean> modulePackages = new HashMap<>();
+    private volatile boolean sampling = true;
+    private boolean stopped = false;
+
+    StrandSampler(long samplingInterval, ClassLoader classLoader) {
+        this.samplingInterval = samplingInterval;
+        this.classLoader = classLoader;
+    }
+
+    /**
+     * Runs the main class of a Ballerina program while sampling its strands.
+     *
+     * @param args sampling interval in milliseconds, name of the main class and the program arguments
+     * @throws Throwable if the program fails
+     */
+    public static void main(String[] args) throws Throwable {
+        long samplingInterval = Long.parseLong(args[0]);
+        Class<?> mainClass = Class.forName(args[1]);
+        StrandSampler sampler = new StrandSampler(samplingInterval, mainClass.getClassLoader());
+        Thread samplerThread = new Thread(sampler, "ballerina-profiler-sampler");
+        samplerThread.setDaemon(true);
+        // Programs which exit without returning from the main method, such as when they fail or when their
+        // listeners are stopped by a signal, can only be stopped from a shutdown hook.
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> sampler.stop(samplerThread)));
+        samplerThread.start();
+        try {
+            mainClass.getMethod("main", String[].class).invoke(null, (Object) Arrays.copyOfRange(args, 2,
+                    args.length));
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            sampler.stop(samplerThread);
+        }
+    }
+
+    @Override
+    public void run() {
+        while (sampling) {
+            try {
+                Thread.sleep(samplingInterval);
+            } catch (InterruptedException e) {
+                return;
+            }
+            synchronized (profiles) {
+                sampleRunningStrands();
+                sampleSuspendedStrands();
+            }
+        }
+    }
+
+    private void sampleRunningStrands() {
+        Thread currentThread = Thread.currentThread();
+        for (Map.Entry<Thread, StackTraceElement[]> threadStack : Thread.getAllStackTraces().entrySet()) {
+            if (threadStack.getKey() == currentThread) {
+                continue;
+            }
+            StackTraceElement[] stackTrace = threadStack.getValue();
+            List<String> stack = new ArrayList<>();
+            // Stack trace elements start from the innermost call, hence they are added in the reverse order.
+            for (int i = stackTrace.length - 1; i >= 0; i--) {
+                StackTraceElement element = stackTrace[i];
+                if (isModuleFunction(element)) {
+                    stack.add(element.getClassName().replace('.', '/') + "." + element.getMethodName());
+                }
+            }
+            addSample(stack);
+        }
+    }
+
+    private void sampleSuspendedStrands() {
+        for (Strand strand : Scheduler.getCurrentStrands().values()) {
+            Stack<FunctionFrame> frames = strand.frames;
+            if (!strand.isYielded() || frames == null) {
+                continue;
+            }
+            List<String> stack = new ArrayList<>();
+            try {
+                // Frames are saved starting from the innermost function while the strand yields.
+                for (FunctionFrame frame : frames) {
+                    String yieldLocation = frame.yieldLocation;
+                    if (yieldLocation != null) {
+                        int locationIndex = yieldLocation.indexOf('(');
+                        stack.add(0, locationIndex == -1 ? yieldLocation : yieldLocation.substring(0,
+                                locationIndex));
+                    }
+                }
+            } catch (ConcurrentModificationException e) {
+                // The strand has resumed while the frames were being read, it is sampled as a running strand instead.
+                continue;
+            }
+            addSample(stack);
+        }
+    }
+
+    private boolean isModuleFunction(StackTraceElement element) {
+        if (element.getMethodName().contains(GENERATED_METHOD_MARKER)) {
+            return false;
+        }
+        String className = element.getClassName();
+        int packageIndex = className.lastIndexOf('.');
+        if (packageIndex == -1) {
+            return false;
+        }
+        // Classes generated for a Ballerina module are in the same package as its `$_init` class.
+        return modulePackages.computeIfAbsent(className.substring(0, packageIndex), packageName ->
+                classLoader.getResource(packageName.replace('.', '/') + INIT_CLASS_FILE) != null);
+    }
+
+    private void addSample(List<String> stack) {
+        if (stack.isEmpty()) {
+            return;
+        }
+        StringBuilder stackKey = new StringBuilder(StackTraceMap.getStackIndex(ROOT_STACK_ELEMENT)).append('$');
+        for (String stackElement : stack) {
+            String stackIndex = StackTraceMap.getStackIndex(stackElement) + "$";
+            stackKey.append(stackIndex);
+            String key = stackKey.toString();
+            Data data = profiles.computeIfAbsent(key, k -> new Data(stackIndex, k));
+            data.totalTime += samplingInterval;
+        }
+    }
+
+    private void stop(Thread samplerThread) {
+        sampling = false;
+        samplerThread.interrupt();
+        try {
+            samplerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (profiles) {
+            if (stopped) {
+                return;
+            }
+            stopped = true;
+            StringBuilder sb = new StringBuilder("[");
+            String separator = "";
+            for (Data data : profiles.values()) {
+                data.stackTrace = StackTraceMap.getCallStackString(data.stackKey);
+                sb.append(separator).append(data);
+                separator = ",\n";
+            }
+            sb.append("\n]");
+            try (Writer writer = new FileWriter(CPU_PRE_JSON, StandardCharsets.UTF_8)) {
+                writer.write(sb.toString());
+            } catch (IOException e) {
+                throw new ProfilerRuntimeException("Error occurred while writing to the " + CPU_PRE_JSON + " file",
+                        e);
+            }
+        }
+    }
+}
@@ -49,6 +49,7 @@ public class Constants {
     public static final String STOP_PROFILE_DESCRIPTOR =
             "(L" + STRAND_CLASS + ";L" + DATA_CLASS + ";)V";
     public static final String PROFILE_ANALYZER = "io/ballerina/runtime/profiler/runtime/ProfileAnalyzer";
+    public static final String STRAND_SAMPLER_CLASS = "io.ballerina.runtime.profiler.runtime.StrandSampler";
     public static final String GET_INSTANCE_DESCRIPTOR = "()L" + PROFILE_ANALYZER + ";";
     public static final String BALLERINA_HOME = "ballerina.home";
     public static final String WORKING_DIRECTORY = "user.dir";
@@ -119,6 +119,7 @@ public class TransactionLocalContext {
         transactionBlockIdStack.push(localTransactionID);
         currentTransactionRetryCounts.put(localTransactionID, 0);
         ++transactionLevel;
+        transactionResourceManager.beginTransaction(globalTransactionId, localTransactionID);
     }
 
     public void incrementCurrentRetryCount(String localTransactionID) {
@@ -30,6 +30,11 @@ import io.ballerina.runtime.internal.configurable.VariableKey;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
 import io.ballerina.runtime.internal.scheduling.Strand;
 import io.ballerina.runtime.internal.util.RuntimeUtils;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.MetricId;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,11 +47,13 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.transaction.HeuristicMixedException;
 import javax.transaction.HeuristicRollbackException;
@@ -73,7 +80,7 @@ import static javax.transaction.xa.XAResource.TMSUCCESS;
  */
 public class TransactionResourceManager {
 
-    private static TransactionResourceManager transactionResourceManager = null;
+    private static volatile TransactionResourceManager transactionResourceManager = null;
     private  static UserTransactionManager userTransactionManager = null;
 
     private static final StrandMetadata COMMIT_METADATA = new StrandMetadata(BALLERINA_BUILTIN_PKG_PREFIX,
@@ -87,12 +94,21 @@ public class TransactionResourceManager {
     private static final String ATOMIKOS_REGISTERED_PROPERTY = "com.atomikos.icatch.registered";
 
     private static final Logger log = LoggerFactory.getLogger(TransactionResourceManager.class);
-    private Map<String, List<BallerinaTransactionContext>> resourceRegistry;
+    // The registries are accessed by the strands of all the concurrently running transactions. Concurrent maps keep
+    // the lookups on the commit and abort paths lock-free, and the per transaction lists are only copied on the
+    // comparatively rare registrations.
+    private final Map<String, List<BallerinaTransactionContext>> resourceRegistry;
     private Map<String, Transaction> trxRegistry;
     private Map<String, Xid> xidRegistry;
 
-    private Map<String, List<BFunctionPointer>> committedFuncRegistry;
-    private Map<String, List<BFunctionPointer>> abortedFuncRegistry;
+    private final Map<String, List<BFunctionPointer>> committedFuncRegistry;
+    private final Map<String, List<BFunctionPointer>> abortedFuncRegistry;
+
+    private final LongAdder commitCount = new LongAdder();
+    private final LongAdder commitLatencyNanos = new LongAdder();
+    private final LongAdder commitFailureCount = new LongAdder();
+    private final LongAdder abortCount = new LongAdder();
+    private final Set<String> inFlightTransactions = ConcurrentHashMap.newKeySet();
 
     private ConcurrentSkipListSet<String> failedResourceParticipantSet = new ConcurrentSkipListSet<>();
     private ConcurrentSkipListSet<String> failedLocalParticipantSet = new ConcurrentSkipListSet<>();
@@ -104,17 +120,38 @@ public class TransactionResourceManager {
     Map<ByteBuffer, Object> transactionInfoMap;
 
     private TransactionResourceManager() {
-        resourceRegistry = new HashMap<>();
-        committedFuncRegistry = new HashMap<>();
-        abortedFuncRegistry = new HashMap<>();
+        resourceRegistry = new ConcurrentHashMap<>();
+        committedFuncRegistry = new ConcurrentHashMap<>();
+        abortedFuncRegistry = new ConcurrentHashMap<>();
         transactionInfoMap = new ConcurrentHashMap<>();
         transactionManagerEnabled = getTransactionManagerEnabled();
         if (transactionManagerEnabled) {
-            trxRegistry = new HashMap<>();
+            trxRegistry = new ConcurrentHashMap<>();
             setLogProperties();
             userTransactionManager = new UserTransactionManager();
         } else {
-            xidRegistry = new HashMap<>();
+            xidRegistry = new ConcurrentHashMap<>();
+        }
+    }
+
+    private void registerMetrics() {
+        MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+        Set<Tag> tags = Collections.emptySet();
+        try {
+            metricRegistry.polledGauge(new MetricId("transactions_inflight", "In-flight transactions", tags),
+                    this, TransactionResourceManager::getInFlightTransactionCount);
+            metricRegistry.polledGauge(new MetricId("transaction_commits_total",
+                    "Total number of committed transactions", tags), this, TransactionResourceManager::getCommitCount);
+            metricRegistry.polledGauge(new MetricId("transaction_commit_failures_total",
+                    "Total number of transactions failed to commit", tags), this,
+                    TransactionResourceManager::getCommitFailureCount);
+            metricRegistry.polledGauge(new MetricId("transaction_aborts_total",
+                    "Total number of aborted transactions", tags), this, TransactionResourceManager::getAbortCount);
+            metricRegistry.polledGauge(new MetricId("transaction_commit_time_seconds",
+                    "Average commit time of the committed transactions", tags), this,
+                    manager -> manager.getAverageCommitLatency() / 1E9);
+        } catch (RuntimeException e) {
+            log.error("error in registering transaction metrics: " + e.getMessage(), e);
         }
     }
 
@@ -122,7 +159,11 @@ public class TransactionResourceManager {
         if (transactionResourceManager == null) {
             synchronized (TransactionResourceManager.class) {
                 if (transactionResourceManager == null) {
-                    transactionResourceManager = new TransactionResourceManager();
+                    TransactionResourceManager manager = new TransactionResourceManager();
+                    if (ObserveUtils.isMetricsEnabled()) {
+                        manager.registerMetrics();
+                    }
+                    transactionResourceManager = manager;
                 }
             }
         }
@@ -196,7 +237,7 @@ public class TransactionResourceManager {
      */
     public void register(String transactionId, String transactionBlockId, BallerinaTransactionContext txContext) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
-        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new ArrayList<>()).add(txContext);
+        resourceRegistry.computeIfAbsent(combinedId, resourceList -> new CopyOnWriteArrayList<>()).add(txContext);
     }
 
     /**
@@ -207,7 +248,8 @@ public class TransactionResourceManager {
      */
     public void registerCommittedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            committedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new CopyOnWriteArrayList<>())
+                    .add(fpValue);
         }
     }
 
@@ -219,10 +261,22 @@ public class TransactionResourceManager {
      */
     public void registerAbortedFunction(String transactionBlockId, BFunctionPointer fpValue) {
         if (fpValue != null) {
-            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new ArrayList<>()).add(fpValue);
+            abortedFuncRegistry.computeIfAbsent(transactionBlockId, list -> new CopyOnWriteArrayList<>())
+                    .add(fpValue);
         }
     }
 
+    /**
+     * This method marks the beginning of a transaction block, which is in flight until it is committed, aborted or
+     * cleaned.
+     *
+     * @param transactionId      the global transaction id
+     * @param transactionBlockId the block id of the transaction
+     */
+    void beginTransaction(String transactionId, String transactionBlockId) {
+        inFlightTransactions.add(generateCombinedTransactionId(transactionId, transactionBlockId));
+    }
+
     /**
      * Register a participation in a global transaction.
      *
@@ -285,6 +339,7 @@ public class TransactionResourceManager {
      * @return the status of the commit operation
      */
     public boolean notifyCommit(String transactionId, String transactionBlockId) {
+        long commitStartTime = System.nanoTime();
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         boolean commitSuccess = true;
         List<BallerinaTransactionContext> txContextList = resourceRegistry.get(combinedId);
@@ -322,7 +377,14 @@ public class TransactionResourceManager {
                     ctx.close();
                 }
             }
+            if (commitSuccess) {
+                commitLatencyNanos.add(System.nanoTime() - commitStartTime);
+                commitCount.increment();
+            } else {
+                commitFailureCount.increment();
+            }
         }
+        inFlightTransactions.remove(combinedId);
         return commitSuccess;
     }
 
@@ -332,6 +394,7 @@ public class TransactionResourceManager {
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
+        inFlightTransactions.remove(combinedId);
     }
 
     /**
@@ -379,6 +442,7 @@ public class TransactionResourceManager {
                     ctx.close();
                 }
             }
+            abortCount.increment();
         }
         //For the retry  attempt failures the aborted function should not be invoked. It should invoked only when the
         //whole transaction aborts after all the retry attempts.
@@ -389,6 +453,7 @@ public class TransactionResourceManager {
         failedResourceParticipantSet.remove(transactionId);
         failedLocalParticipantSet.remove(transactionId);
         localParticipants.remove(transactionId);
+        inFlightTransactions.remove(combinedId);
         return abortSuccess;
     }
 
@@ -403,23 +468,23 @@ public class TransactionResourceManager {
     public void beginXATransaction(String transactionId, String transactionBlockId, XAResource xaResource) {
         String combinedId = generateCombinedTransactionId(transactionId, transactionBlockId);
         if (transactionManagerEnabled) {
-            Transaction trx = trxRegistry.get(combinedId);
+            if (trxRegistry.containsKey(combinedId)) {
+                return;
+            }
+            // The transaction is begun outside the registry, as beginning it may block on the transaction manager.
             try {
-                if (trx == null) {
-                    userTransactionManager.begin();
-
-                    trx = userTransactionManager.getTransaction();
-                    trxRegistry.put(combinedId, trx);
+                userTransactionManager.begin();
+                Transaction trx = userTransactionManager.getTransaction();
+                if (trxRegistry.putIfAbsent(combinedId, trx) != null) {
+                    // Another participant has begun the transaction in the meantime. Rolling back through the
+                    // transaction manager also disassociates the extra transaction from this thread.
+                    userTransactionManager.rollback();
                 }
             } catch (SystemException | NotSupportedException e) {
                 log.error("error in initiating transaction " + transactionId + ":" + e.getMessage(), e);
             }
         } else {
-            Xid xid = xidRegistry.get(combinedId);
-            if (xid == null) {
-                xid = XIDGenerator.createXID();
-                xidRegistry.put(combinedId, xid);
-            }
+            Xid xid = xidRegistry.computeIfAbsent(combinedId, id -> XIDGenerator.createXID());
             try {
                 xaResource.start(xid, TMNOFLAGS);
             } catch (XAException e) {
@@ -481,6 +546,7 @@ public class TransactionResourceManager {
         List<BFunctionPointer> abortFunctions =
                 abortedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
         if (abortFunctions != null && !abortFunctions.isEmpty()) {
+            abortFunctions = new ArrayList<>(abortFunctions);
             Collections.reverse(abortFunctions);
             return ValueCreator.createArrayValue(abortFunctions.toArray(),
                     TypeCreator.createArrayType(abortFunctions.get(0).getType()));
@@ -497,6 +563,7 @@ public class TransactionResourceManager {
         List<BFunctionPointer> commitFunctions =
                 committedFuncRegistry.get(Scheduler.getStrand().currentTrxContext.getGlobalTransactionId());
         if (commitFunctions != null && !commitFunctions.isEmpty()) {
+            commitFunctions = new ArrayList<>(commitFunctions);
             Collections.reverse(commitFunctions);
             return ValueCreator.createArrayValue(commitFunctions.toArray(),
                     TypeCreator.createArrayType(commitFunctions.get(0).getType()));
@@ -611,11 +678,52 @@ public class TransactionResourceManager {
     }
 
     public Object getTransactionRecord(BArray xid) {
-        synchronized (transactionInfoMap) {
-            if (transactionInfoMap.containsKey(ByteBuffer.wrap(xid.getBytes()))) {
-                return transactionInfoMap.get(ByteBuffer.wrap(xid.getBytes()));
-            }
-            return null;
-        }
+        return transactionInfoMap.get(ByteBuffer.wrap(xid.getBytes()));
+    }
+
+    /**
+     * Returns the number of transaction blocks which have begun and are not yet committed, aborted or cleaned.
+     *
+     * @return the number of in-flight transactions
+     */
+    public int getInFlightTransactionCount() {
+        return inFlightTransactions.size();
+    }
+
+    /**
+     * Returns the number of transactions whose participating resources were committed successfully.
+     *
+     * @return the number of commits
+     */
+    public long getCommitCount() {
+        return commitCount.sum();
+    }
+
+    /**
+     * Returns the number of transactions which failed to commit one or more of their participating resources.
+     *
+     * @return the number of failed commits
+     */
+    public long getCommitFailureCount() {
+        return commitFailureCount.sum();
+    }
+
+    /**
+     * Returns the number of transactions whose participating resources were rolled back.
+     *
+     * @return the number of aborts
+     */
+    public long getAbortCount() {
+        return abortCount.sum();
+    }
+
+    /**
+     * Returns the average time taken to commit the participating resources of a transaction.
+     *
+     * @return the average commit latency in nanoseconds, or 0 if no transaction has been committed
+     */
+    public long getAverageCommitLatency() {
+        long count = commitCount.sum();
+        return count == 0 ? 0 : commitLatencyNanos.sum() / count;
     }
 }
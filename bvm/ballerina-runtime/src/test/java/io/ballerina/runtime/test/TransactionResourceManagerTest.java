@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.runtime.test;
+
+import io.ballerina.runtime.transactions.BallerinaTransactionContext;
+import io.ballerina.runtime.transactions.TransactionLocalContext;
+import io.ballerina.runtime.transactions.TransactionResourceManager;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.transaction.xa.XAException;
+import javax.transaction.xa.XAResource;
+import javax.transaction.xa.Xid;
+
+/**
+ * Test cases for the transaction counters of {@link TransactionResourceManager}.
+ *
+ * @since 2201.10.0
+ */
+public class TransactionResourceManagerTest {
+
+    private static final String BLOCK_ID = "0";
+
+    private final TransactionResourceManager manager = TransactionResourceManager.getInstance();
+
+    @Test
+    public void testCommittedTransactionCounters() {
+        long commitCount = manager.getCommitCount();
+        long commitFailureCount = manager.getCommitFailureCount();
+        int inFlightCount = manager.getInFlightTransactionCount();
+
+        String transactionId = beginTransaction("committed-transaction");
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount + 1);
+        TestTransactionContext context = new TestTransactionContext(null);
+        manager.register(transactionId, BLOCK_ID, context);
+
+        Assert.assertTrue(manager.notifyCommit(transactionId, BLOCK_ID));
+        Assert.assertTrue(context.committed);
+        Assert.assertEquals(manager.getCommitCount(), commitCount + 1);
+        Assert.assertEquals(manager.getCommitFailureCount(), commitFailureCount);
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount);
+        manager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testFailedCommitCounters() {
+        long commitCount = manager.getCommitCount();
+        long commitFailureCount = manager.getCommitFailureCount();
+        int inFlightCount = manager.getInFlightTransactionCount();
+
+        String transactionId = beginTransaction("failed-transaction");
+        manager.register(transactionId, BLOCK_ID, new TestTransactionContext(new FailingXAResource()));
+
+        Assert.assertFalse(manager.notifyCommit(transactionId, BLOCK_ID));
+        Assert.assertEquals(manager.getCommitCount(), commitCount);
+        Assert.assertEquals(manager.getCommitFailureCount(), commitFailureCount + 1);
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount);
+        manager.cleanTransaction(transactionId, BLOCK_ID);
+    }
+
+    @Test
+    public void testAbortedTransactionCounters() {
+        long commitCount = manager.getCommitCount();
+        long abortCount = manager.getAbortCount();
+        int inFlightCount = manager.getInFlightTransactionCount();
+
+        String transactionId = beginTransaction("aborted-transaction");
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount + 1);
+        TestTransactionContext context = new TestTransactionContext(null);
+        manager.register(transactionId, BLOCK_ID, context);
+
+        Assert.assertTrue(manager.notifyAbort(transactionId, BLOCK_ID));
+        Assert.assertTrue(context.rolledBack);
+        Assert.assertEquals(manager.getAbortCount(), abortCount + 1);
+        Assert.assertEquals(manager.getCommitCount(), commitCount);
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount);
+    }
+
+    @Test
+    public void testCleanedTransactionIsNotInFlight() {
+        int inFlightCount = manager.getInFlightTransactionCount();
+
+        String transactionId = beginTransaction("cleaned-transaction");
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount + 1);
+
+        manager.cleanTransaction(transactionId, BLOCK_ID);
+        Assert.assertEquals(manager.getInFlightTransactionCount(), inFlightCount);
+    }
+
+    private static String beginTransaction(String transactionId) {
+        TransactionLocalContext.create(transactionId, "", "").beginTransactionBlock(BLOCK_ID);
+        return transactionId;
+    }
+
+    private static class TestTransactionContext implements BallerinaTransactionContext {
+
+        private final XAResource xaResource;
+        private boolean committed;
+        private boolean rolledBack;
+
+        TestTransactionContext(XAResource xaResource) {
+            this.xaResource = xaResource;
+        }
+
+        @Override
+        public void commit() {
+            committed = true;
+        }
+
+        @Override
+        public void rollback() {
+            rolledBack = true;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public XAResource getXAResource() {
+            return xaResource;
+        }
+    }
+
+    private static class FailingXAResource implements XAResource {
+
+        @Override
+        public void commit(Xid xid, boolean onePhase) throws XAException {
+            throw new XAException(XAException.XAER_RMERR);
+        }
+
+        @Override
+        public void end(Xid xid, int flags) {
+        }
+
+        @Override
+        public void forget(Xid xid) {
+        }
+
+        @Override
+        public int getTransactionTimeout() {
+            return 0;
+        }
+
+        @Override
+        public boolean isSameRM(XAResource xaResource) {
+            return xaResource == this;
+        }
+
+        @Override
+        public int prepare(Xid xid) {
+            return XA_OK;
+        }
+
+        @Override
+        public Xid[] recover(int flag) {
+            return new Xid[0];
+        }
+
+        @Override
+        public void rollback(Xid xid) {
+        }
+
+        @Override
+        public boolean setTransactionTimeout(int seconds) {
+            return false;
+        }
+
+        @Override
+        public void start(Xid xid, int flags) {
+        }
+    }
+}
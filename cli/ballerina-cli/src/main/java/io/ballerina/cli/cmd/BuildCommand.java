@@ -198,6 +198,18 @@ public class BuildCommand implements BLauncherCmd {
             "generation")
     private String graalVMBuildOptions;
 
+    @CommandLine.Option(names = "--cds", description = "generate a class data sharing archive to reduce the " +
+            "startup time of the executable")
+    private Boolean classDataSharing;
+
+    @CommandLine.Option(names = "--eliminate-dead-code", description = "remove the classes of the Ballerina " +
+            "modules that are not reachable from the program from the executable")
+    private Boolean eliminateDeadCode;
+
+    @CommandLine.Option(names = "--parallel-queries", description = "run eligible query expressions over " +
+            "large lists in parallel")
+    private Boolean parallelQueries;
+
     @Override
     public void execute() {
         long start = 0;
@@ -317,7 +329,10 @@ public class BuildCommand implements BLauncherCmd {
                 .setNativeImage(nativeImage)
                 .disableSyntaxTreeCaching(disableSyntaxTreeCaching)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
-                .setShowDependencyDiagnostics(showDependencyDiagnostics);
+                .setShowDependencyDiagnostics(showDependencyDiagnostics)
+                .setClassDataSharing(classDataSharing)
+                .setEliminateDeadCode(eliminateDeadCode)
+                .setParallelQueries(parallelQueries);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir.toString());
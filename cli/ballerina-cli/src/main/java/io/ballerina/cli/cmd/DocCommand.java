@@ -114,6 +114,10 @@ public class DocCommand implements BLauncherCmd {
             "generated by the dependencies")
     private Boolean showDependencyDiagnostics;
 
+    @CommandLine.Option(names = "--incremental", description = "Regenerate the docs only if the public API of the " +
+            "package has changed since the docs were last generated.")
+    private boolean incremental;
+
     @Override
     public void execute() {
         if (this.helpFlag) {
@@ -132,7 +136,8 @@ public class DocCommand implements BLauncherCmd {
                 defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
                 BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
                 try {
-                    BallerinaDocGenerator.generateAPIDocs(balaProject, this.projectPath.toString(), false);
+                    BallerinaDocGenerator.generateAPIDocs(balaProject, this.projectPath.toString(), false,
+                            this.incremental);
                 } catch (IOException e) {
                     CommandUtil.printError(this.errStream, e.getMessage(), null, false);
                     CommandUtil.exitError(this.exitWhenFinish);
@@ -190,7 +195,7 @@ public class DocCommand implements BLauncherCmd {
                 .addTask(new RunBuildToolsTask(outStream)) // run build tools
                 .addTask(new ResolveMavenDependenciesTask(outStream)) // resolve maven dependencies in Ballerina.toml
                 .addTask(new CompileTask(outStream, errStream)) // compile the modules
-                .addTask(new CreateDocsTask(outStream, outputPath)) // creates API documentation
+                .addTask(new CreateDocsTask(outStream, outputPath, incremental)) // creates API documentation
                 .build();
 
         taskExecutor.executeTasks(project);
@@ -91,6 +91,10 @@ public class ProfileCommand implements BLauncherCmd {
             "generated by the dependencies")
     private Boolean showDependencyDiagnostics;
 
+    @CommandLine.Option(names = "--sampling-interval", description = "profile by sampling the call stacks of the " +
+            "strands at the given interval in milliseconds instead of instrumenting every function")
+    private Integer samplingInterval;
+
     private static final String PROFILE_CMD = "bal profile [--debug <port>] [<ballerina-file | package-path>]\n ";
 
     public ProfileCommand() {
@@ -199,7 +203,7 @@ public class ProfileCommand implements BLauncherCmd {
                         buildOptions.enableCache()))
                 .addTask(new CreateExecutableTask(outStream, null, null, false), false)
                 .addTask(new DumpBuildTimeTask(outStream), false)
-                .addTask(new RunProfilerTask(errStream), false).build();
+                .addTask(new RunProfilerTask(errStream, samplingInterval), false).build();
     }
 
     @Override
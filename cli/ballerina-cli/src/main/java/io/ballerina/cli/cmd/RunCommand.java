@@ -27,7 +27,9 @@ import io.ballerina.cli.task.DumpBuildTimeTask;
 import io.ballerina.cli.task.ResolveMavenDependenciesTask;
 import io.ballerina.cli.task.RunBuildToolsTask;
 import io.ballerina.cli.task.RunExecutableTask;
+import io.ballerina.cli.task.Task;
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.ExecutableCacheUtils;
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.Project;
@@ -46,8 +48,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.PathMatcher;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static io.ballerina.cli.cmd.Constants.RUN_COMMAND;
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
@@ -111,7 +115,7 @@ public class RunCommand implements BLauncherCmd {
     @CommandLine.Option(names = "--target-dir", description = "target directory path")
     private Path targetDir;
 
-    @CommandLine.Option(names = "--enable-cache", description = "enable caches for the compilation", hidden = true)
+    @CommandLine.Option(names = "--enable-cache", description = "enable caches for the compilation")
     private Boolean enableCache;
 
     @CommandLine.Option(names = "--disable-syntax-tree-caching", hidden = true, description = "disable syntax tree " +
@@ -252,6 +256,27 @@ public class RunCommand implements BLauncherCmd {
             throw createLauncherException("unable to create the executable:" + e.getMessage());
         }
 
+        // Reuse the executable of an unchanged single file from a previous run when caches are enabled
+        Optional<String> executableCacheKey = Optional.empty();
+        if (isSingleFileBuild && isExecutableCacheApplicable()) {
+            executableCacheKey = ExecutableCacheUtils.getCacheKey(project);
+            Optional<Path> cachedExecutable = executableCacheKey.flatMap(ExecutableCacheUtils::getCachedExecutable);
+            if (cachedExecutable.isPresent()) {
+                try {
+                    Files.copy(cachedExecutable.get(), target.getExecutablePath(project.currentPackage()),
+                            StandardCopyOption.REPLACE_EXISTING);
+                    TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
+                            .addTask(new RunExecutableTask(args, outStream, errStream, target))
+                            .addTask(new DumpBuildTimeTask(outStream), !project.buildOptions().dumpBuildTime())
+                            .build();
+                    taskExecutor.executeTasks(project);
+                    return;
+                } catch (IOException e) {
+                    // Fall back to compiling the file
+                }
+            }
+        }
+
         // Check package files are modified after last build
         boolean isPackageModified = isProjectUpdated(project);
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
@@ -266,6 +291,8 @@ public class RunCommand implements BLauncherCmd {
                         isPackageModified, buildOptions.enableCache()))
 //                .addTask(new CopyResourcesTask(), isSingleFileBuild)
                 .addTask(new CreateExecutableTask(outStream, null, target, true))
+                .addTask(cacheExecutableTask(executableCacheKey.orElse(null), target),
+                        executableCacheKey.isEmpty())
                 .addTask(new RunExecutableTask(args, outStream, errStream, target))
                 .addTask(new DumpBuildTimeTask(outStream), !project.buildOptions().dumpBuildTime())
                 .build();
@@ -295,6 +322,22 @@ public class RunCommand implements BLauncherCmd {
     public void setParentCmdParser(CommandLine parentCmdParser) {
     }
 
+    private boolean isExecutableCacheApplicable() {
+        // Dumping options need the compilation to run
+        return Boolean.TRUE.equals(enableCache) && !dumpBIR && !dumpGraph && !dumpRawGraphs
+                && !Boolean.TRUE.equals(configSchemaGen);
+    }
+
+    private static Task cacheExecutableTask(String cacheKey, Target target) {
+        return project -> {
+            try {
+                ExecutableCacheUtils.cacheExecutable(cacheKey, target.getExecutablePath(project.currentPackage()));
+            } catch (IOException e) {
+                // ignore, the executable is not cached
+            }
+        };
+    }
+
     private BuildOptions constructBuildOptions() {
         BuildOptions.BuildOptionsBuilder buildOptionsBuilder = BuildOptions.builder();
 
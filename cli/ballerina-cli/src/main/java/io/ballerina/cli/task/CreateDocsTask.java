@@ -37,10 +37,16 @@ public class CreateDocsTask implements Task {
 
     private final transient PrintStream out;
     private Path outputPath;
+    private final boolean incremental;
 
     public CreateDocsTask(PrintStream out, Path outputPath) {
+        this(out, outputPath, false);
+    }
+
+    public CreateDocsTask(PrintStream out, Path outputPath, boolean incremental) {
         this.out = out;
         this.outputPath = outputPath;
+        this.incremental = incremental;
     }
 
     @Override
@@ -57,7 +63,7 @@ public class CreateDocsTask implements Task {
         }
         this.out.println("Generating API Documentation");
         try {
-            BallerinaDocGenerator.generateAPIDocs(project, outputPath.toString(), false);
+            BallerinaDocGenerator.generateAPIDocs(project, outputPath.toString(), false, incremental);
             this.out.println("Saved to: " + sourceRootPath.relativize(outputPath).toString());
 
         } catch (IOException e) {
@@ -20,6 +20,7 @@ package io.ballerina.cli.task;
 
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.cli.utils.BuildUtils;
+import io.ballerina.cli.utils.ClassDataSharingUtils;
 import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.cli.utils.GraalVMCompatibilityUtils;
 import io.ballerina.projects.EmitResult;
@@ -134,11 +135,27 @@ public class CreateExecutableTask implements Task {
             }
         }
 
+        if (project.buildOptions().classDataSharing() && !project.buildOptions().nativeImage()) {
+            createClassDataSharingArchive(executablePath);
+        }
+
         // notify plugin
         // todo following call has to be refactored after introducing new plugin architecture
         BuildUtils.notifyPlugins(project, target);
     }
 
+    private void createClassDataSharingArchive(Path executablePath) {
+        try {
+            Path archivePath = ClassDataSharingUtils.getOrCreateArchive(executablePath);
+            if (!isHideTaskOutput) {
+                this.out.println("\t" + archivePath.getFileName() + " (run with 'java -XX:SharedArchiveFile=" +
+                        archivePath.getFileName() + " -jar " + executablePath.getFileName() + "')");
+            }
+        } catch (ProjectException e) {
+            this.out.println("\twarning: " + e.getMessage());
+        }
+    }
+
     private Target getTarget(Project project) {
         Target target;
         try {
@@ -22,6 +22,8 @@ import com.google.gson.JsonObject;
 import io.ballerina.cli.utils.BuildTime;
 import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerPhaseProfiler;
 
 import java.io.File;
 import java.io.FileOutputStream;
@@ -30,6 +32,7 @@ import java.io.OutputStreamWriter;
 import java.io.PrintStream;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -42,6 +45,8 @@ import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
  */
 public class DumpBuildTimeTask implements Task {
     private static final String BUILD_TIME_JSON = "build-time.json";
+    private static final String BUILD_PHASES_JSON = "build-phases.json";
+    private static final String BUILD_PHASES_TRACE_JSON = "build-phases-trace.json";
     private final transient PrintStream out;
     private final Path currentDir = Paths.get(System.getProperty("user.dir"));
 
@@ -58,9 +63,28 @@ public class DumpBuildTimeTask implements Task {
             Path buildTimeFileRelativePath = Paths.get(System.getProperty("user.dir")).relativize(buildTimeFile);
             this.out.println("\nDumping build time information\n\t" + buildTimeFileRelativePath);
             persistBuildTimeToFile(buildTimeFile);
+            persistPhaseProfile(project, buildTimeFile.getParent());
         }
     }
 
+    private void persistPhaseProfile(Project project, Path dir) {
+        CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(compilerContext);
+        if (profiler.timings().isEmpty()) {
+            return;
+        }
+        Path phasesFile = dir.resolve(BUILD_PHASES_JSON);
+        Path traceFile = dir.resolve(BUILD_PHASES_TRACE_JSON);
+        try {
+            Files.writeString(phasesFile, profiler.toJson(), StandardCharsets.UTF_8);
+            Files.writeString(traceFile, profiler.toChromeTrace(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw createLauncherException("couldn't write compiler phase profile to file : " + e.getMessage());
+        }
+        this.out.println("\tcompiler phase profile : " + currentDir.relativize(phasesFile));
+        this.out.println("\tcompiler phase trace : " + currentDir.relativize(traceFile));
+    }
+
     private void persistBuildTimeToFile(Path filepath) {
         File jsonFile = new File(filepath.toString());
         try (FileOutputStream fileOutputStream = new FileOutputStream(jsonFile)) {
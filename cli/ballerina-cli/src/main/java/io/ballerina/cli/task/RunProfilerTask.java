@@ -50,12 +50,18 @@ import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_HOME
  */
 public class RunProfilerTask implements Task {
     private final PrintStream err;
+    private final Integer samplingInterval;
     private static final String JAVA_OPTS = "JAVA_OPTS";
     private static final String CURRENT_DIR_KEY = "current.dir";
     private static final Path TARGET_OUTPUT_PATH = Paths.get(System.getProperty(USER_DIR));
 
     public RunProfilerTask(PrintStream errStream) {
+        this(errStream, null);
+    }
+
+    public RunProfilerTask(PrintStream errStream, Integer samplingInterval) {
         this.err = errStream;
+        this.samplingInterval = samplingInterval;
     }
 
     private void initiateProfiler(Project project) {
@@ -84,6 +90,10 @@ public class RunProfilerTask implements Task {
                 commands.add("--profiler-debug");
                 commands.add(getProfileDebugArg(err));
             }
+            if (samplingInterval != null) {
+                commands.add("--sampling-interval");
+                commands.add(String.valueOf(samplingInterval));
+            }
             ProcessBuilder pb = new ProcessBuilder(commands).inheritIO();
             if (javaOpts != null) {
                 pb.environment().put(JAVA_OPTS, javaOpts.trim());
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.cli.utils;
+
+import io.ballerina.projects.ProjectException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Utilities to generate and locate the class data sharing (AppCDS) archive of an executable jar.
+ * <p>
+ * The archive is dumped from a static class list made of every class in the executable jar, so no training run of
+ * the program is needed. The JVM skips classes it cannot archive.
+ * <p>
+ * The JVM rejects an archive whose jar has a different modified time than the one it was dumped from. The archive
+ * is therefore keyed on the modified time of the jar and a digest of its entries (names, sizes and CRCs), which are
+ * recorded next to it. An archive whose key does not match the executable is regenerated, the executable itself is
+ * never modified.
+ *
+ * @since 2201.10.0
+ */
+public class ClassDataSharingUtils {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String ARCHIVE_FILE_EXTENSION = ".jsa";
+    private static final String ARCHIVE_KEY_FILE_EXTENSION = ".jsa.key";
+    private static final String JAR_DIGEST_KEY = "jarDigest";
+    private static final String JAR_MODIFIED_TIME_KEY = "jarModifiedTime";
+    private static final String MODULE_INFO_CLASS = "module-info.class";
+    private static final String VERSIONED_ENTRY_PREFIX = "META-INF/";
+
+    private ClassDataSharingUtils() {
+    }
+
+    public static Path getArchivePath(Path executablePath) {
+        String fileName = FileUtils.getFileNameWithoutExtension(executablePath.getFileName());
+        return executablePath.resolveSibling(fileName + ARCHIVE_FILE_EXTENSION);
+    }
+
+    public static Path getArchiveKeyPath(Path executablePath) {
+        String fileName = FileUtils.getFileNameWithoutExtension(executablePath.getFileName());
+        return executablePath.resolveSibling(fileName + ARCHIVE_KEY_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the archive of the given executable if it exists and was dumped from the same jar.
+     *
+     * @param executablePath path to the executable jar
+     * @return archive path if it can be used with the executable
+     */
+    public static Optional<Path> getArchive(Path executablePath) {
+        Path archivePath = getArchivePath(executablePath);
+        Path keyPath = getArchiveKeyPath(executablePath);
+        if (!Files.exists(archivePath) || !Files.exists(keyPath)) {
+            return Optional.empty();
+        }
+        try {
+            Properties key = new Properties();
+            try (Reader reader = Files.newBufferedReader(keyPath, StandardCharsets.UTF_8)) {
+                key.load(reader);
+            }
+            String jarModifiedTime = String.valueOf(Files.getLastModifiedTime(executablePath).toMillis());
+            if (!jarModifiedTime.equals(key.getProperty(JAR_MODIFIED_TIME_KEY))
+                    || !getJarDigest(executablePath).equals(key.getProperty(JAR_DIGEST_KEY))) {
+                return Optional.empty();
+            }
+            return Optional.of(archivePath);
+        } catch (IOException e) {
+            // Run without the archive if its key cannot be read
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the archive of the given executable, dumping it again if the executable has changed since the archive
+     * was created.
+     *
+     * @param executablePath path to the executable jar
+     * @return path to the archive
+     */
+    public static Path getOrCreateArchive(Path executablePath) {
+        return getArchive(executablePath).orElseGet(() -> createArchive(executablePath));
+    }
+
+    /**
+     * Dumps a class data sharing archive for the given executable jar next to it.
+     *
+     * @param executablePath path to the executable jar
+     * @return path to the created archive
+     */
+    public static Path createArchive(Path executablePath) {
+        Path archivePath = getArchivePath(executablePath);
+        Path keyPath = getArchiveKeyPath(executablePath);
+        Path classListPath = null;
+        try {
+            Files.deleteIfExists(archivePath);
+            Files.deleteIfExists(keyPath);
+            classListPath = Files.createTempFile("ballerina-cds", ".classlist");
+            Files.write(classListPath, getClassNames(executablePath), StandardCharsets.UTF_8);
+
+            List<String> commands = new ArrayList<>();
+            commands.add(System.getProperty("java.command"));
+            commands.add("-Xshare:dump");
+            commands.add("-XX:SharedClassListFile=" + classListPath);
+            commands.add("-XX:SharedArchiveFile=" + archivePath);
+            commands.add("-cp");
+            commands.add(executablePath.toString());
+            Process process = new ProcessBuilder(commands)
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            if (process.waitFor() != 0 || !Files.exists(archivePath)) {
+                throw new ProjectException("failed to dump the class data sharing archive, exit code: " +
+                        process.exitValue());
+            }
+            writeArchiveKey(executablePath, keyPath);
+            return archivePath;
+        } catch (IOException e) {
+            throw new ProjectException("failed to create the class data sharing archive: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProjectException("interrupted while creating the class data sharing archive", e);
+        } finally {
+            if (classListPath != null) {
+                try {
+                    Files.deleteIfExists(classListPath);
+                } catch (IOException e) {
+                    // ignore, the class list is created in the temp directory
+                }
+            }
+        }
+    }
+
+    private static void writeArchiveKey(Path executablePath, Path keyPath) throws IOException {
+        Properties key = new Properties();
+        key.setProperty(JAR_DIGEST_KEY, getJarDigest(executablePath));
+        key.setProperty(JAR_MODIFIED_TIME_KEY,
+                String.valueOf(Files.getLastModifiedTime(executablePath).toMillis()));
+        try (Writer writer = Files.newBufferedWriter(keyPath, StandardCharsets.UTF_8)) {
+            key.store(writer, null);
+        }
+    }
+
+    /**
+     * Computes a digest of the entries of the given jar. Entry timestamps are left out, since they change every time
+     * the executable is emitted.
+     */
+    static String getJarDigest(Path executablePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        try (ZipFile zipFile = new ZipFile(executablePath.toFile())) {
+            List<ZipEntry> entries = new ArrayList<>(Collections.list(zipFile.entries()));
+            entries.sort(Comparator.comparing(ZipEntry::getName));
+            for (ZipEntry entry : entries) {
+                digest.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+                digest.update(ByteBuffer.allocate(2 * Long.BYTES).putLong(entry.getSize()).putLong(entry.getCrc())
+                        .array());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static List<String> getClassNames(Path executablePath) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(executablePath.toFile())) {
+            for (ZipEntry entry : Collections.list(zipFile.entries())) {
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.endsWith(CLASS_FILE_SUFFIX) || name.endsWith(MODULE_INFO_CLASS)
+                        || name.startsWith(VERSIONED_ENTRY_PREFIX)) {
+                    continue;
+                }
+                classNames.add(name.substring(0, name.length() - CLASS_FILE_SUFFIX.length()));
+            }
+        }
+        return classNames;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.cli.utils;
+
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.PackageResolution;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.ballerina.projects.ResolvedPackageDependency;
+import io.ballerina.projects.util.ProjectConstants;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Utilities to cache the executable jars of single file projects under the user's Ballerina home.
+ * <p>
+ * An executable is cached against a hash of the source file, the resolved dependencies and their files, the build
+ * options that affect code generation and the distribution version, so that running an unchanged file again can skip
+ * the compilation and reuse the previously emitted jar.
+ *
+ * @since 2201.10.0
+ */
+public class ExecutableCacheUtils {
+
+    private static final String RUN_CACHE_DIR = "run-cache";
+    private static final int MAX_CACHED_EXECUTABLES = 64;
+
+    private ExecutableCacheUtils() {
+    }
+
+    /**
+     * Returns the cache key of the executable of the given single file project. The key is empty if the project
+     * is not a single file project or its dependencies cannot be resolved or read.
+     *
+     * @param project single file project
+     * @return cache key of the executable
+     */
+    public static Optional<String> getCacheKey(Project project) {
+        if (project.kind() != ProjectKind.SINGLE_FILE_PROJECT) {
+            return Optional.empty();
+        }
+        PackageResolution resolution = project.currentPackage().getResolution();
+        if (resolution.diagnosticResult().hasErrors()) {
+            return Optional.empty();
+        }
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            return Optional.empty();
+        }
+        update(digest, RepoUtils.getBallerinaVersion());
+        update(digest, String.valueOf(project.buildOptions().observabilityIncluded()));
+        update(digest, String.valueOf(project.buildOptions().remoteManagement()));
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        for (DocumentId documentId : defaultModule.documentIds()) {
+            Document document = defaultModule.document(documentId);
+            update(digest, document.name());
+            update(digest, document.textDocument().toString());
+        }
+        List<ResolvedPackageDependency> dependencies = resolution.dependencyGraph().getNodes().stream()
+                .filter(dependency -> dependency.packageInstance() != project.currentPackage())
+                .sorted(Comparator.comparing(dependency -> dependency.packageInstance().descriptor().toString()))
+                .toList();
+        try {
+            for (ResolvedPackageDependency dependency : dependencies) {
+                update(digest, dependency.packageInstance().descriptor().toString() + ":" + dependency.scope());
+                updateFiles(digest, dependency.packageInstance().project().sourceRoot());
+            }
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        return Optional.of(HexFormat.of().formatHex(digest.digest()));
+    }
+
+    /**
+     * Adds the path, size and last modified time of each file of a dependency to the digest, so that a dependency
+     * that is pulled or built again under the same version does not reuse a stale executable.
+     */
+    private static void updateFiles(MessageDigest digest, Path sourceRoot) throws IOException {
+        if (sourceRoot == null || !Files.exists(sourceRoot)) {
+            return;
+        }
+        update(digest, sourceRoot.toAbsolutePath().normalize().toString());
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(sourceRoot)) {
+            files = paths.filter(Files::isRegularFile).sorted().toList();
+        }
+        for (Path file : files) {
+            update(digest, sourceRoot.relativize(file).toString());
+            update(digest, String.valueOf(Files.size(file)));
+            update(digest, String.valueOf(Files.getLastModifiedTime(file).toMillis()));
+        }
+    }
+
+    /**
+     * Returns the cached executable for the given key, if there is one.
+     *
+     * @param cacheKey cache key of the executable
+     * @return path to the cached executable jar
+     */
+    public static Optional<Path> getCachedExecutable(String cacheKey) {
+        Path executablePath = getCacheDir().resolve(cacheKey + ProjectConstants.BLANG_COMPILED_JAR_EXT);
+        if (!Files.isRegularFile(executablePath)) {
+            return Optional.empty();
+        }
+        try {
+            // Marks the executable as recently used, so that it is not evicted
+            Files.setLastModifiedTime(executablePath, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // ignore, the executable can still be used
+        }
+        return Optional.of(executablePath);
+    }
+
+    /**
+     * Copies the given executable into the cache against the given key. Failures are ignored since the cache is
+     * only an optimization.
+     *
+     * @param cacheKey       cache key of the executable
+     * @param executablePath path to the executable jar
+     */
+    public static void cacheExecutable(String cacheKey, Path executablePath) {
+        Path cacheDir = getCacheDir();
+        Path tempPath = null;
+        try {
+            Files.createDirectories(cacheDir);
+            tempPath = Files.createTempFile(cacheDir, cacheKey, ".tmp");
+            Files.copy(executablePath, tempPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(tempPath, cacheDir.resolve(cacheKey + ProjectConstants.BLANG_COMPILED_JAR_EXT),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            evictExecutables(cacheDir);
+        } catch (IOException e) {
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException ignore) {
+                    // ignore, the temp file is left in the cache directory
+                }
+            }
+        }
+    }
+
+    private static void evictExecutables(Path cacheDir) throws IOException {
+        List<Path> executables;
+        try (Stream<Path> paths = Files.list(cacheDir)) {
+            executables = paths
+                    .filter(path -> path.getFileName().toString().endsWith(ProjectConstants.BLANG_COMPILED_JAR_EXT))
+                    .sorted(Comparator.comparing(ExecutableCacheUtils::getLastModifiedTime).reversed())
+                    .toList();
+        }
+        for (int i = MAX_CACHED_EXECUTABLES; i < executables.size(); i++) {
+            Files.deleteIfExists(executables.get(i));
+        }
+    }
+
+    private static FileTime getLastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static Path getCacheDir() {
+        return RepoUtils.createAndGetHomeReposPath().resolve(RUN_CACHE_DIR);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
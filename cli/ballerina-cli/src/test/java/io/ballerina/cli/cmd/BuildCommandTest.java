@@ -20,6 +20,7 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.cli.utils.BuildTime;
+import io.ballerina.cli.utils.ClassDataSharingUtils;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.SemanticVersion;
 import io.ballerina.projects.environment.Environment;
@@ -48,8 +49,10 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.jar.JarFile;
 
 import static io.ballerina.cli.cmd.CommandOutputUtils.assertTomlFilesEquals;
@@ -289,6 +292,47 @@ public class BuildCommandTest extends BaseCommandTest {
         }
     }
 
+    @Test(description = "Check the help text of the class data sharing option")
+    public void testBuildHelpContainsClassDataSharingOption() throws IOException {
+        BuildCommand buildCommand = new BuildCommand(this.testResources.resolve("validApplicationProject"),
+                printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--help");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+        Assert.assertTrue(buildLog.contains("--cds"));
+        Assert.assertTrue(buildLog.contains("class data sharing (CDS) archive"));
+    }
+
+    @Test(description = "Build a project with a class data sharing archive", dependsOnMethods = "testBuildBalProject")
+    public void testBuildBalProjectWithClassDataSharing() throws IOException {
+        Path projectPath = this.testResources.resolve("validApplicationProject");
+        System.setProperty(USER_DIR_PROPERTY, projectPath.toString());
+        BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false);
+        new CommandLine(buildCommand).parseArgs("--cds");
+        buildCommand.execute();
+        String buildLog = readOutput(true);
+
+        Path executablePath = projectPath.resolve("target").resolve("bin").resolve("winery.jar");
+        Path archivePath = ClassDataSharingUtils.getArchivePath(executablePath);
+        Assert.assertTrue(Files.exists(executablePath));
+        Assert.assertTrue(Files.exists(archivePath), buildLog);
+        Assert.assertTrue(Files.exists(ClassDataSharingUtils.getArchiveKeyPath(executablePath)));
+        Assert.assertTrue(buildLog.contains("winery.jsa"));
+
+        Assert.assertEquals(ClassDataSharingUtils.getArchive(executablePath), Optional.of(archivePath));
+
+        // A re-emitted executable changes the archive key, so the archive is regenerated and the jar is not touched
+        FileTime modifiedTime = FileTime.fromMillis(System.currentTimeMillis() + 10000);
+        Files.setLastModifiedTime(executablePath, modifiedTime);
+        Assert.assertTrue(ClassDataSharingUtils.getArchive(executablePath).isEmpty());
+        Assert.assertEquals(ClassDataSharingUtils.getOrCreateArchive(executablePath), archivePath);
+        Assert.assertEquals(Files.getLastModifiedTime(executablePath).toMillis(), modifiedTime.toMillis());
+        Assert.assertEquals(ClassDataSharingUtils.getArchive(executablePath), Optional.of(archivePath));
+
+        Files.delete(archivePath);
+        Assert.assertTrue(ClassDataSharingUtils.getArchive(executablePath).isEmpty());
+    }
+
     @Test(dependsOnMethods = "testBuildBalProject")
     public void testCodeGeneratorForBuildProject() throws IOException {
         Path projectPath = this.testResources.resolve("validApplicationProject");
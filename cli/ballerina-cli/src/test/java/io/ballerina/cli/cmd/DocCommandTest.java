@@ -21,6 +21,7 @@ package io.ballerina.cli.cmd;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import picocli.CommandLine;
 
 import java.io.IOException;
 import java.net.URI;
@@ -101,4 +102,34 @@ public class DocCommandTest extends BaseCommandTest {
         Files.delete(this.testResources.resolve("doc_project_with_build_tool").resolve("target")
                 .resolve("apidocs").resolve("foo").resolve("winery").resolve("0.1.0").resolve("index.html"));
     }
+
+    @Test(description = "Test doc command in incremental mode.")
+    public void testDocCommandWithIncremental() throws IOException {
+        Path projectPath = this.testResources.resolve("doc_project_incremental");
+        Files.walkFileTree(this.testResources.resolve("doc_project"),
+                new BuildCommandTest.Copy(this.testResources.resolve("doc_project"), projectPath));
+        Path docsPath = projectPath.resolve("target").resolve("apidocs").resolve("foo").resolve("winery")
+                .resolve("0.1.0");
+        System.setProperty("user.dir", projectPath.toString());
+        runDocCommandWithIncremental();
+        Assert.assertTrue(Files.exists(docsPath.resolve("api-docs.hash")));
+
+        // Changing a function body does not change the public API, so the docs are not regenerated
+        Files.writeString(docsPath.resolve("api-docs.json"), "{}");
+        Path sourcePath = projectPath.resolve("math.bal");
+        Files.writeString(sourcePath, Files.readString(sourcePath).replace("return 0;", "return a * b;"));
+        runDocCommandWithIncremental();
+        Assert.assertEquals(Files.readString(docsPath.resolve("api-docs.json")), "{}");
+
+        // Changing the documentation of a public function regenerates the docs
+        Files.writeString(sourcePath, Files.readString(sourcePath).replace("Base value", "Base"));
+        runDocCommandWithIncremental();
+        Assert.assertTrue(Files.readString(docsPath.resolve("api-docs.json")).contains("pow"));
+    }
+
+    private void runDocCommandWithIncremental() {
+        DocCommand docCommand = new DocCommand(this.printStream, this.printStream, false);
+        new CommandLine(docCommand).parseArgs("--incremental");
+        docCommand.execute();
+    }
 }
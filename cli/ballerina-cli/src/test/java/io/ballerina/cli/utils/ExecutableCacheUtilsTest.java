@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.cli.utils;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.SingleFileProject;
+import io.ballerina.projects.util.ProjectConstants;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import static io.ballerina.projects.util.ProjectUtils.deleteDirectory;
+
+/**
+ * Test cases for caching the executables of single file projects.
+ *
+ * @since 2201.10.0
+ */
+public class ExecutableCacheUtilsTest {
+
+    private Path tmpDir;
+    private Path balFile;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("executable-cache-test-" + System.nanoTime());
+        this.balFile = tmpDir.resolve("main.bal");
+        Files.writeString(balFile, "public function main() {\n}\n");
+    }
+
+    @Test(description = "Test computing the same cache key for an unchanged file")
+    public void testCacheKeyOfUnchangedFile() {
+        Optional<String> cacheKey = ExecutableCacheUtils.getCacheKey(loadProject());
+        Assert.assertTrue(cacheKey.isPresent());
+        Assert.assertEquals(ExecutableCacheUtils.getCacheKey(loadProject()), cacheKey);
+    }
+
+    @Test(description = "Test computing a new cache key when the file or the build options change")
+    public void testCacheKeyOfChangedFile() throws IOException {
+        Optional<String> cacheKey = ExecutableCacheUtils.getCacheKey(loadProject());
+        Assert.assertTrue(cacheKey.isPresent());
+
+        Project remoteManagedProject = SingleFileProject.load(balFile,
+                BuildOptions.builder().setRemoteManagement(true).build());
+        Optional<String> remoteManagedCacheKey = ExecutableCacheUtils.getCacheKey(remoteManagedProject);
+        Assert.assertTrue(remoteManagedCacheKey.isPresent());
+        Assert.assertNotEquals(remoteManagedCacheKey, cacheKey);
+
+        String source = Files.readString(balFile);
+        try {
+            Files.writeString(balFile, "public function main() {\n    int _ = 1;\n}\n");
+            Optional<String> changedCacheKey = ExecutableCacheUtils.getCacheKey(loadProject());
+            Assert.assertTrue(changedCacheKey.isPresent());
+            Assert.assertNotEquals(changedCacheKey, cacheKey);
+        } finally {
+            Files.writeString(balFile, source);
+        }
+    }
+
+    @Test(description = "Test a cache hit and a cache miss")
+    public void testCachedExecutableHitAndMiss() throws IOException {
+        Path executable = Files.writeString(tmpDir.resolve("main.jar"), "executable");
+        Path homeReposDir = Files.createDirectories(tmpDir.resolve("hit-user-home"));
+        try (MockedStatic<RepoUtils> repoUtils = Mockito.mockStatic(RepoUtils.class, Mockito.CALLS_REAL_METHODS)) {
+            repoUtils.when(RepoUtils::createAndGetHomeReposPath).thenReturn(homeReposDir);
+
+            Assert.assertTrue(ExecutableCacheUtils.getCachedExecutable("hit").isEmpty());
+            ExecutableCacheUtils.cacheExecutable("hit", executable);
+
+            Optional<Path> cachedExecutable = ExecutableCacheUtils.getCachedExecutable("hit");
+            Assert.assertTrue(cachedExecutable.isPresent());
+            Assert.assertEquals(Files.readString(cachedExecutable.get()), "executable");
+            Assert.assertTrue(ExecutableCacheUtils.getCachedExecutable("miss").isEmpty());
+        }
+    }
+
+    @Test(description = "Test evicting the least recently used executables")
+    public void testCachedExecutableEviction() throws IOException {
+        Path executable = Files.writeString(tmpDir.resolve("evicted.jar"), "executable");
+        Path homeReposDir = Files.createDirectories(tmpDir.resolve("eviction-user-home"));
+        Path cacheDir = homeReposDir.resolve("run-cache");
+        try (MockedStatic<RepoUtils> repoUtils = Mockito.mockStatic(RepoUtils.class, Mockito.CALLS_REAL_METHODS)) {
+            repoUtils.when(RepoUtils::createAndGetHomeReposPath).thenReturn(homeReposDir);
+
+            long lastUsedTime = System.currentTimeMillis() - 1_000_000;
+            for (int i = 0; i < 64; i++) {
+                ExecutableCacheUtils.cacheExecutable("evict" + i, executable);
+                Files.setLastModifiedTime(cacheDir.resolve("evict" + i + ProjectConstants.BLANG_COMPILED_JAR_EXT),
+                        FileTime.fromMillis(lastUsedTime + i));
+            }
+            // Using the oldest executable makes the second one the least recently used executable.
+            Assert.assertTrue(ExecutableCacheUtils.getCachedExecutable("evict0").isPresent());
+            ExecutableCacheUtils.cacheExecutable("evict64", executable);
+
+            Assert.assertTrue(ExecutableCacheUtils.getCachedExecutable("evict0").isPresent());
+            Assert.assertTrue(ExecutableCacheUtils.getCachedExecutable("evict1").isEmpty());
+            Assert.assertTrue(ExecutableCacheUtils.getCachedExecutable("evict64").isPresent());
+        }
+    }
+
+    private Project loadProject() {
+        return SingleFileProject.load(balFile, BuildOptions.builder().build());
+    }
+
+    @AfterClass
+    public void cleanup() {
+        deleteDirectory(tmpDir);
+    }
+}
@@ -516,11 +516,37 @@ public class CentralAPIClient {
     public void pullPackage(String org, String name, String version, Path packagePathInBalaCache,
                             String supportedPlatform, String ballerinaVersion, boolean isBuild)
             throws CentralClientException {
+        pullPackage(org, name, version, packagePathInBalaCache, supportedPlatform, ballerinaVersion, isBuild, true);
+    }
+
+    /**
+     * Pull a package from central.
+     *
+     * @param org                    The organization of the package.
+     * @param name                   The name of the package.
+     * @param version                The version of the package.
+     * @param packagePathInBalaCache The package path in Bala cache.
+     * @param supportedPlatform      The supported platform.
+     * @param ballerinaVersion       The ballerina version.
+     * @param isBuild                If build option is enabled or not.
+     * @param showProgress           If the download progress is shown or not. Only the completion of the pull is
+     *                               reported otherwise, which suits packages pulled concurrently.
+     * @throws CentralClientException Central Client exception.
+     */
+    public void pullPackage(String org, String name, String version, Path packagePathInBalaCache,
+                            String supportedPlatform, String ballerinaVersion, boolean isBuild, boolean showProgress)
+            throws CentralClientException {
         int retryCount = 0;
+        long startTime = System.nanoTime();
         while (retryCount <= this.maxRetries) {
             try {
                 pullPackageInternal(org, name, version, packagePathInBalaCache, supportedPlatform, ballerinaVersion,
-                        isBuild);
+                        isBuild, showProgress);
+                if (verboseEnabled) {
+                    outStream.println("* Pulled the package: " + org + "/" + name + ":" + version + " in " +
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+                    outStream.println();
+                }
                 break;
             } catch (CentralClientException centralClientException) {
                 if (centralClientException.getMessage().contains(CONNECTION_RESET) && retryCount < this.maxRetries) {
@@ -539,7 +565,7 @@ public class CentralAPIClient {
     }
 
     private void pullPackageInternal(String org, String name, String version, Path packagePathInBalaCache,
-            String supportedPlatform, String ballerinaVersion, boolean isBuild)
+            String supportedPlatform, String ballerinaVersion, boolean isBuild, boolean showProgress)
             throws CentralClientException {
         String resourceUrl = PACKAGE_PATH_PREFIX + org + SEPARATOR + name;
         boolean enableOutputStream = Boolean
@@ -616,8 +642,8 @@ public class CentralAPIClient {
                         boolean isNightlyBuild = ballerinaVersion.contains("SNAPSHOT");
                         createBalaInHomeRepo(balaDownloadResponse, packagePathInBalaCache, org, name, isNightlyBuild,
                                 isDeprecated ? deprecationMessage : null,
-                                balaUrl.get(), balaFileName.get(), enableOutputStream ? outStream : null, logFormatter,
-                                digestVal);
+                                balaUrl.get(), balaFileName.get(), enableOutputStream ? outStream : null,
+                                showProgress, logFormatter, digestVal);
                         return;
                     } else {
                         String errorMessage = logFormatter.formatLog(ERR_CANNOT_PULL_PACKAGE + "'" + packageSignature +
@@ -116,6 +116,31 @@ public class Utils {
             String newUrl, String contentDisposition, PrintStream outStream,
             LogFormatter logFormatter, String trueDigest)
             throws CentralClientException {
+        createBalaInHomeRepo(balaDownloadResponse, pkgPathInBalaCache, pkgOrg, pkgName, isNightlyBuild, deprecationMsg,
+                newUrl, contentDisposition, outStream, true, logFormatter, trueDigest);
+    }
+
+    /**
+     * Create the bala in home repo.
+     *
+     * @param balaDownloadResponse http response for downloading the bala file
+     * @param pkgPathInBalaCache   package path in bala cache,
+     *                             {@literal <user.home>.ballerina/bala_cache/<org-name>/<pkg-name>}
+     * @param pkgOrg               package org
+     * @param pkgName              package name
+     * @param isNightlyBuild       is nightly build
+     * @param deprecationMsg       deprecation message for deprecated packages
+     * @param newUrl               new redirect url
+     * @param contentDisposition   content disposition header
+     * @param outStream            Output print stream
+     * @param showProgress         whether to show the download progress in the output print stream
+     * @param logFormatter         log formatter
+     */
+    public static void createBalaInHomeRepo(Response balaDownloadResponse, Path pkgPathInBalaCache, String pkgOrg,
+            String pkgName, boolean isNightlyBuild, String deprecationMsg,
+            String newUrl, String contentDisposition, PrintStream outStream, boolean showProgress,
+            LogFormatter logFormatter, String trueDigest)
+            throws CentralClientException {
 
         long responseContentLength = 0;
         Optional<ResponseBody> downloadBody = Optional.ofNullable(balaDownloadResponse.body());
@@ -177,7 +202,7 @@ public class Utils {
         // Write balaFiles to tempPath
         writeBalaFile(balaDownloadResponse, tempPath.resolve(balaFile),
                 pkgOrg + "/" + pkgName + ":" + validPkgVersion, responseContentLength,
-                outStream, logFormatter, pkgPathInBalaCache.resolve(validPkgVersion), trueDigest);
+                outStream, logFormatter, pkgPathInBalaCache.resolve(validPkgVersion), trueDigest, showProgress);
 
         // Once files are written to temp path, rename temp path with platform name
         try {
@@ -260,17 +285,30 @@ public class Utils {
      * @param outStream            Output print stream
      * @param logFormatter         log formatter
      * @param homeRepo             path of the repo bala file is saved to
+     * @param showProgress         whether to show the download progress in the output print stream
      */
     static void writeBalaFile(Response balaDownloadResponse, Path balaPath, String fullPkgName, long resContentLength,
-            PrintStream outStream, LogFormatter logFormatter, Path homeRepo, String trueDigest)
+            PrintStream outStream, LogFormatter logFormatter, Path homeRepo, String trueDigest, boolean showProgress)
             throws CentralClientException {
         Optional<ResponseBody> body = Optional.ofNullable(balaDownloadResponse.body());
         if (body.isPresent()) {
             try {
-                try (InputStream inputStream = body.get().byteStream();
+                MessageDigest messageDigest;
+                try {
+                    messageDigest = MessageDigest.getInstance(SHA256_ALGORITHM);
+                } catch (NoSuchAlgorithmException e) {
+                    throw new CentralClientException(logFormatter.formatLog(
+                            "unable to calculate the hash value of the bala file: " + e.getMessage()));
+                }
+                // The hash is computed while the bala is streamed to the disk, to avoid reading the file again.
+                try (InputStream inputStream = new DigestInputStream(body.get().byteStream(), messageDigest);
                         FileOutputStream outputStream = new FileOutputStream(balaPath.toString())) {
                     if (outStream == null) {
                         writeAndHandleProgressQuietly(inputStream, outputStream);
+                    } else if (!showProgress) {
+                        // Progress bars of packages pulled at the same time would be interleaved in the output
+                        writeAndHandleProgressQuietly(inputStream, outputStream);
+                        outStream.println(logFormatter.formatLog(fullPkgName + " pulled from central successfully"));
                     } else {
                         writeAndHandleProgress(inputStream, outputStream, resContentLength / 1024, fullPkgName,
                                 outStream, logFormatter, homeRepo);
@@ -280,9 +318,11 @@ public class Utils {
                             logFormatter.formatLog("error occurred copying the bala file: " + e.getMessage()));
                 }
                 try {
-                    extractBala(balaPath, Optional.of(balaPath.getParent()).get(), trueDigest, fullPkgName, outStream);
+                    String actualDigest = SHA256 + bytesToHex(messageDigest.digest());
+                    extractBala(balaPath, Optional.of(balaPath.getParent()).get(), trueDigest, actualDigest,
+                            fullPkgName, outStream);
                     Files.delete(balaPath);
-                } catch (IOException | CentralClientException e) {
+                } catch (IOException e) {
                     throw new CentralClientException(
                             logFormatter.formatLog("error occurred extracting the bala file: " + e.getMessage()));
                 }
@@ -434,14 +474,13 @@ public class Utils {
         return balaName.split(packageName + "-")[1].split("-" + version)[0];
     }
 
-    private static void extractBala(Path balaFilePath, Path balaFileDestPath, String trueDigest, String packageName,
-            PrintStream outStream)
-            throws IOException, CentralClientException {
+    private static void extractBala(Path balaFilePath, Path balaFileDestPath, String trueDigest, String actualDigest,
+            String packageName, PrintStream outStream) throws IOException {
         Files.createDirectories(balaFileDestPath);
         URI zipURI = URI.create("jar:" + balaFilePath.toUri().toString());
 
         // If the hash value is not matching , throw an exception.
-        if (!trueDigest.equals(SHA256 + checkHash(balaFilePath.toString(), SHA256_ALGORITHM))) {
+        if (!trueDigest.equals(actualDigest)) {
             StringBuilder warning = new StringBuilder(
                     String.format("*************************************************************%n" +
         "* WARNING: Certain packages may have originated from sources other than the official distributors. *%n" +
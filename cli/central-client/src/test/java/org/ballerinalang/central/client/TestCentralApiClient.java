@@ -73,6 +73,7 @@ import static org.ballerinalang.central.client.CentralClientConstants.IDENTITY;
 import static org.ballerinalang.central.client.CentralClientConstants.LOCATION;
 import static org.ballerinalang.central.client.TestUtils.cleanDirectory;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.mock;
@@ -966,7 +967,7 @@ public class TestCentralApiClient extends CentralAPIClient {
                     .build();
             try (MockedStatic<Utils> utils = Mockito.mockStatic(Utils.class, CALLS_REAL_METHODS)) {
                 utils.when(() -> Utils.writeBalaFile(any(), any(), any(),
-                                anyLong(), any(), any(), any(), any()))
+                                anyLong(), any(), any(), any(), any(), anyBoolean()))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenCallRealMethod();
@@ -1028,7 +1029,7 @@ public class TestCentralApiClient extends CentralAPIClient {
                     .build();
             try (MockedStatic<Utils> utils = Mockito.mockStatic(Utils.class, CALLS_REAL_METHODS)) {
                 utils.when(() -> Utils.writeBalaFile(any(), any(), any(),
-                                anyLong(), any(), any(), any(), any()))
+                                anyLong(), any(), any(), any(), any(), anyBoolean()))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
@@ -1097,7 +1098,7 @@ public class TestCentralApiClient extends CentralAPIClient {
                     .build();
             try (MockedStatic<Utils> utils = Mockito.mockStatic(Utils.class, CALLS_REAL_METHODS)) {
                 utils.when(() -> Utils.writeBalaFile(any(), any(), any(),
-                                anyLong(), any(), any(), any(), any()))
+                                anyLong(), any(), any(), any(), any(), anyBoolean()))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenCallRealMethod();
@@ -1164,7 +1165,7 @@ public class TestCentralApiClient extends CentralAPIClient {
                     .build();
             try (MockedStatic<Utils> utils = Mockito.mockStatic(Utils.class, CALLS_REAL_METHODS)) {
                 utils.when(() -> Utils.writeBalaFile(any(), any(), any(),
-                                anyLong(), any(), any(), any(), any()))
+                                anyLong(), any(), any(), any(), any(), anyBoolean()))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
                         .thenThrow(new CentralClientException(ERROR_CONNECTION_RESET))
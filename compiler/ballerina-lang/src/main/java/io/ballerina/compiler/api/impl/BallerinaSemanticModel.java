@@ -311,6 +311,12 @@ public class BallerinaSemanticModel implements SemanticModel {
     }
 
     private List<Location> getReferences(BSymbol symbol, BLangNode node, boolean withDefinition) {
+        if (node == this.bLangPackage) {
+            // Searching the whole module, hence the references are looked up from the index of the module
+            return SymbolReferenceIndex.getInstance(this.compilerContext)
+                    .references(this.bLangPackage, symbol, withDefinition);
+        }
+
         ReferenceFinder refFinder = new ReferenceFinder(withDefinition);
         return refFinder.findReferences(node, symbol);
     }
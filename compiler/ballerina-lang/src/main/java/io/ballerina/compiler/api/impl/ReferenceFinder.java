@@ -228,6 +228,7 @@ public class ReferenceFinder extends BaseVisitor {
     private final boolean withDefinition;
     private List<Location> referenceLocations;
     private BSymbol targetSymbol;
+    private SymbolReferenceIndex.ModuleReferences referenceIndex;
 
     public ReferenceFinder(boolean withDefinition) {
         this.withDefinition = withDefinition;
@@ -240,6 +241,18 @@ public class ReferenceFinder extends BaseVisitor {
         return this.referenceLocations;
     }
 
+    /**
+     * Finds the references of all the symbols within the given AST node in a single pass.
+     *
+     * @param node AST node to be searched
+     * @return an index of the references found, keyed by the referred symbols
+     */
+    SymbolReferenceIndex.ModuleReferences indexReferences(BLangNode node) {
+        this.referenceIndex = new SymbolReferenceIndex.ModuleReferences();
+        find(node);
+        return this.referenceIndex;
+    }
+
     void find(BLangNode node) {
         if (node == null) {
             return;
@@ -277,6 +290,11 @@ public class ReferenceFinder extends BaseVisitor {
 
     @Override
     public void visit(BLangImportPackage importPkgNode) {
+        if (importPkgNode.symbol != null && this.referenceIndex != null) {
+            this.referenceIndex.add(importPkgNode.symbol, importPkgNode.alias.pos, true);
+            return;
+        }
+
         if (importPkgNode.symbol != null
                 && this.targetSymbol.name.equals(importPkgNode.symbol.name)
                 && this.targetSymbol.pkgID.equals(importPkgNode.symbol.pkgID)
@@ -1455,6 +1473,11 @@ public class ReferenceFinder extends BaseVisitor {
     // Private methods
 
     private void findRefsInResourceAccessPathSegments(BLangInvocation.BLangResourceAccessInvocation invocation) {
+        if (this.referenceIndex != null) {
+            indexRefsInResourceAccessPathSegments(invocation);
+            return;
+        }
+
         if (this.targetSymbol.getKind() != SymbolKind.RESOURCE_PATH_IDENTIFIER_SEGMENT) {
             return;
         }
@@ -1486,6 +1509,26 @@ public class ReferenceFinder extends BaseVisitor {
         }
     }
 
+    private void indexRefsInResourceAccessPathSegments(BLangInvocation.BLangResourceAccessInvocation invocation) {
+        BResourceFunction associatedResourceMethod = invocation.targetResourceFunc;
+        if (associatedResourceMethod == null) {
+            return;
+        }
+
+        List<BLangExpression> pathSegmentExprs = invocation.resourceAccessPathSegments.getExpressions();
+        List<BResourcePathSegmentSymbol> pathSegmentSymbols = associatedResourceMethod.pathSegmentSymbols;
+
+        for (int i = 0; i < pathSegmentExprs.size() && i < pathSegmentSymbols.size(); i++) {
+            BResourcePathSegmentSymbol pathSymbol = pathSegmentSymbols.get(i);
+            BLangExpression expr = pathSegmentExprs.get(i);
+            if (pathSymbol.getKind() == SymbolKind.RESOURCE_PATH_IDENTIFIER_SEGMENT
+                    && expr.getKind() == NodeKind.LITERAL
+                    && ((BLangLiteral) expr).value.equals(pathSymbol.name.value)) {
+                addIfSameSymbol(pathSymbol, expr.pos);
+            }
+        }
+    }
+
     private void visitNamedArgWithoutAddingSymbol(List<BLangNamedArgsExpression> args) {
         for (BLangNamedArgsExpression arg : args) {
             find(arg.expr);
@@ -1493,6 +1536,13 @@ public class ReferenceFinder extends BaseVisitor {
     }
 
     private boolean addIfSameSymbol(BSymbol symbol, Location location) {
+        if (symbol != null && this.referenceIndex != null) {
+            // All the symbols are recorded, hence the callers should continue looking for the other symbols
+            this.referenceIndex.add(symbol, location,
+                                    symbol.getOrigin() == VIRTUAL || location.equals(symbol.pos));
+            return false;
+        }
+
         if (symbol != null
                 && this.targetSymbol.name.equals(symbol.name)
                 && this.targetSymbol.pkgID.equals(symbol.pkgID)
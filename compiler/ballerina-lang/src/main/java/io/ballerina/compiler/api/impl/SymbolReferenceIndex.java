@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.compiler.api.impl;
+
+import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the references of the symbols used in the compiled modules.
+ * <p>
+ * Finding the references of a module level symbol requires a walk over the whole module. Instead of walking the
+ * module once per symbol, the references of all the symbols are collected in a single walk the first time a module
+ * is searched, and the subsequent searches are answered from the index. The index is kept for as long as the
+ * {@link BLangPackage} of the module is reachable, hence a recompiled module is indexed afresh while the modules
+ * that were not recompiled keep their indexes.
+ *
+ * @since 2201.10.0
+ */
+public class SymbolReferenceIndex {
+
+    private static final CompilerContext.Key<SymbolReferenceIndex> SYMBOL_REFERENCE_INDEX_KEY =
+            new CompilerContext.Key<>();
+
+    private final Map<BLangPackage, ModuleReferences> moduleReferences =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private SymbolReferenceIndex(CompilerContext context) {
+        context.put(SYMBOL_REFERENCE_INDEX_KEY, this);
+    }
+
+    public static SymbolReferenceIndex getInstance(CompilerContext context) {
+        SymbolReferenceIndex referenceIndex = context.get(SYMBOL_REFERENCE_INDEX_KEY);
+        if (referenceIndex == null) {
+            referenceIndex = new SymbolReferenceIndex(context);
+        }
+        return referenceIndex;
+    }
+
+    /**
+     * Returns the references of the given symbol within the given module.
+     *
+     * @param bLangPackage   module to be searched
+     * @param symbol         symbol of which the references are looked up
+     * @param withDefinition whether the definition of the symbol should be included
+     * @return the locations of the references, in the order they appear in the module
+     */
+    List<Location> references(BLangPackage bLangPackage, BSymbol symbol, boolean withDefinition) {
+        ModuleReferences references = this.moduleReferences.get(bLangPackage);
+        if (references == null) {
+            // Building the index is idempotent, hence concurrent searches may build it more than once.
+            references = new ReferenceFinder(true).indexReferences(bLangPackage);
+            this.moduleReferences.put(bLangPackage, references);
+        }
+        return references.get(symbol, withDefinition);
+    }
+
+    /**
+     * References of the symbols within a module, keyed by the name, the module and the position of the symbols.
+     *
+     * @since 2201.10.0
+     */
+    static class ModuleReferences {
+
+        private final Map<SymbolKey, List<Reference>> references = new HashMap<>();
+
+        void add(BSymbol symbol, Location location, boolean definition) {
+            if (symbol.name == null || symbol.pkgID == null || symbol.pos == null) {
+                return;
+            }
+            this.references.computeIfAbsent(new SymbolKey(symbol.name, symbol.pkgID, symbol.pos),
+                    key -> new ArrayList<>()).add(new Reference(location, definition));
+        }
+
+        private List<Location> get(BSymbol symbol, boolean withDefinition) {
+            List<Location> locations = new ArrayList<>();
+            List<Reference> symbolReferences =
+                    this.references.get(new SymbolKey(symbol.name, symbol.pkgID, symbol.pos));
+            if (symbolReferences == null) {
+                return locations;
+            }
+            for (Reference reference : symbolReferences) {
+                if (withDefinition || !reference.definition()) {
+                    locations.add(reference.location());
+                }
+            }
+            return locations;
+        }
+    }
+
+    private record SymbolKey(Name name, PackageID pkgID, Location pos) {
+    }
+
+    private record Reference(Location location, boolean definition) {
+    }
+}
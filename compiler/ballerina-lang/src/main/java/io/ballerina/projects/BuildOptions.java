@@ -35,11 +35,15 @@ public class BuildOptions {
     private Boolean nativeImage;
     private Boolean exportComponentModel;
     private String graalVMBuildOptions;
+    private Boolean classDataSharing;
+    private Boolean eliminateDeadCode;
+    private Boolean parallelQueries;
 
     BuildOptions(Boolean testReport, Boolean codeCoverage, Boolean dumpBuildTime, Boolean skipTests,
                  CompilationOptions compilationOptions, String targetPath, Boolean enableCache,
                  Boolean nativeImage, Boolean exportComponentModel, String graalVMBuildOptions,
-                 Boolean showDependencyDiagnostics) {
+                 Boolean showDependencyDiagnostics, Boolean classDataSharing, Boolean eliminateDeadCode,
+                 Boolean parallelQueries) {
         this.testReport = testReport;
         this.codeCoverage = codeCoverage;
         this.dumpBuildTime = dumpBuildTime;
@@ -51,7 +55,9 @@ public class BuildOptions {
         this.exportComponentModel = exportComponentModel;
         this.graalVMBuildOptions = graalVMBuildOptions;
         this.showDependencyDiagnostics = showDependencyDiagnostics;
-
+        this.classDataSharing = classDataSharing;
+        this.eliminateDeadCode = eliminateDeadCode;
+        this.parallelQueries = parallelQueries;
     }
 
     public boolean testReport() {
@@ -110,6 +116,10 @@ public class BuildOptions {
         return this.compilationOptions.remoteManagement();
     }
 
+    public boolean incrementalAnalysis() {
+        return this.compilationOptions.incrementalAnalysis();
+    }
+
     CompilationOptions compilationOptions() {
         return this.compilationOptions;
     }
@@ -138,6 +148,18 @@ public class BuildOptions {
         return toBooleanDefaultIfNull(this.showDependencyDiagnostics);
     }
 
+    public boolean classDataSharing() {
+        return toBooleanDefaultIfNull(this.classDataSharing);
+    }
+
+    public boolean eliminateDeadCode() {
+        return toBooleanDefaultIfNull(this.eliminateDeadCode);
+    }
+
+    public boolean parallelQueries() {
+        return toBooleanDefaultIfNull(this.parallelQueries);
+    }
+
     /**
      * Merge the given build options by favoring theirs if there are conflicts.
      *
@@ -196,6 +218,21 @@ public class BuildOptions {
         } else {
             buildOptionsBuilder.setShowDependencyDiagnostics(this.showDependencyDiagnostics);
         }
+        if (theirOptions.classDataSharing != null) {
+            buildOptionsBuilder.setClassDataSharing(theirOptions.classDataSharing);
+        } else {
+            buildOptionsBuilder.setClassDataSharing(this.classDataSharing);
+        }
+        if (theirOptions.eliminateDeadCode != null) {
+            buildOptionsBuilder.setEliminateDeadCode(theirOptions.eliminateDeadCode);
+        } else {
+            buildOptionsBuilder.setEliminateDeadCode(this.eliminateDeadCode);
+        }
+        if (theirOptions.parallelQueries != null) {
+            buildOptionsBuilder.setParallelQueries(theirOptions.parallelQueries);
+        } else {
+            buildOptionsBuilder.setParallelQueries(this.parallelQueries);
+        }
 
         CompilationOptions compilationOptions = this.compilationOptions.acceptTheirs(theirOptions.compilationOptions());
         buildOptionsBuilder.setOffline(compilationOptions.offlineBuild);
@@ -212,6 +249,7 @@ public class BuildOptions {
         buildOptionsBuilder.setExportComponentModel(compilationOptions.exportComponentModel);
         buildOptionsBuilder.setEnableCache(compilationOptions.enableCache);
         buildOptionsBuilder.setRemoteManagement(compilationOptions.remoteManagement);
+        buildOptionsBuilder.setIncrementalAnalysis(compilationOptions.incrementalAnalysis);
 
         return buildOptionsBuilder.build();
     }
@@ -250,7 +288,10 @@ public class BuildOptions {
         NATIVE_IMAGE("graalvm"),
         EXPORT_COMPONENT_MODEL("exportComponentModel"),
         GRAAL_VM_BUILD_OPTIONS("graalvmBuildOptions"),
-        SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics");
+        SHOW_DEPENDENCY_DIAGNOSTICS("showDependencyDiagnostics"),
+        CLASS_DATA_SHARING("classDataSharing"),
+        ELIMINATE_DEAD_CODE("eliminateDeadCode"),
+        PARALLEL_QUERIES("parallelQueries");
 
         private final String name;
 
@@ -282,7 +323,9 @@ public class BuildOptions {
         private Boolean exportComponentModel;
         private String graalVMBuildOptions;
         private Boolean showDependencyDiagnostics;
-
+        private Boolean classDataSharing;
+        private Boolean eliminateDeadCode;
+        private Boolean parallelQueries;
 
         private BuildOptionsBuilder() {
             compilationOptionsBuilder = CompilationOptions.builder();
@@ -411,16 +454,43 @@ public class BuildOptions {
             return this;
         }
 
+        /**
+         * Sets whether a module edit that is confined to function bodies skips recompiling the modules that
+         * depend on the edited module. Meant for editor tooling that re-compiles the package on every change.
+         *
+         * @param value whether to enable incremental analysis
+         * @return the builder
+         */
+        public BuildOptionsBuilder setIncrementalAnalysis(Boolean value) {
+            compilationOptionsBuilder.setIncrementalAnalysis(value);
+            return this;
+        }
+
         public BuildOptionsBuilder setShowDependencyDiagnostics(Boolean value) {
             showDependencyDiagnostics = value;
             return this;
         }
 
+        public BuildOptionsBuilder setClassDataSharing(Boolean value) {
+            classDataSharing = value;
+            return this;
+        }
+
+        public BuildOptionsBuilder setEliminateDeadCode(Boolean value) {
+            eliminateDeadCode = value;
+            return this;
+        }
+
+        public BuildOptionsBuilder setParallelQueries(Boolean value) {
+            parallelQueries = value;
+            return this;
+        }
+
         public BuildOptions build() {
             CompilationOptions compilationOptions = compilationOptionsBuilder.build();
             return new BuildOptions(testReport, codeCoverage, dumpBuildTime, skipTests, compilationOptions,
                     targetPath, enableCache, nativeImage, exportComponentModel, graalVMBuildOptions,
-                    showDependencyDiagnostics);
+                    showDependencyDiagnostics, classDataSharing, eliminateDeadCode, parallelQueries);
         }
     }
 }
@@ -35,6 +35,16 @@ public abstract class CompilationCache {
 
     public abstract byte[] getBir(ModuleName moduleName);
 
+    /**
+     * Returns whether the BIR of the given module is cached, without loading it.
+     *
+     * @param moduleName name of the module
+     * @return true if the BIR of the module is cached
+     */
+    public boolean hasBir(ModuleName moduleName) {
+        return getBir(moduleName).length > 0;
+    }
+
     public abstract void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent);
 
     public abstract Optional<Path> getPlatformSpecificLibrary(CompilerBackend compilerBackend, String libraryName);
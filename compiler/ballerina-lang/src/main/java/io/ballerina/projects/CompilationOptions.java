@@ -40,13 +40,14 @@ public class CompilationOptions {
     Boolean enableCache;
     Boolean disableSyntaxTree;
     Boolean remoteManagement;
+    Boolean incrementalAnalysis;
 
     CompilationOptions(Boolean offlineBuild, Boolean observabilityIncluded, Boolean dumpBir,
                        Boolean dumpBirFile, String cloud, Boolean listConflictedClasses, Boolean sticky,
                        Boolean dumpGraph, Boolean dumpRawGraphs, Boolean withCodeGenerators,
                        Boolean withCodeModifiers, Boolean configSchemaGen, Boolean exportOpenAPI,
                        Boolean exportComponentModel, Boolean enableCache, Boolean disableSyntaxTree,
-                       Boolean remoteManagement) {
+                       Boolean remoteManagement, Boolean incrementalAnalysis) {
         this.offlineBuild = offlineBuild;
         this.observabilityIncluded = observabilityIncluded;
         this.dumpBir = dumpBir;
@@ -64,6 +65,7 @@ public class CompilationOptions {
         this.enableCache = enableCache;
         this.disableSyntaxTree = disableSyntaxTree;
         this.remoteManagement = remoteManagement;
+        this.incrementalAnalysis = incrementalAnalysis;
     }
 
     public boolean offlineBuild() {
@@ -130,6 +132,10 @@ public class CompilationOptions {
         return toBooleanDefaultIfNull(this.remoteManagement);
     }
 
+    boolean incrementalAnalysis() {
+        return toBooleanDefaultIfNull(this.incrementalAnalysis);
+    }
+
     /**
      * Merge the given compilation options by favoring theirs if there are conflicts.
      *
@@ -218,6 +224,11 @@ public class CompilationOptions {
         } else {
             compilationOptionsBuilder.setRemoteManagement(this.remoteManagement);
         }
+        if (theirOptions.incrementalAnalysis != null) {
+            compilationOptionsBuilder.setIncrementalAnalysis(theirOptions.incrementalAnalysis);
+        } else {
+            compilationOptionsBuilder.setIncrementalAnalysis(this.incrementalAnalysis);
+        }
         return compilationOptionsBuilder.build();
     }
 
@@ -273,6 +284,7 @@ public class CompilationOptions {
         private Boolean enableCache;
         private Boolean disableSyntaxTree;
         private Boolean remoteManagement;
+        private Boolean incrementalAnalysis;
 
         public CompilationOptionsBuilder setOffline(Boolean value) {
             offline = value;
@@ -359,11 +371,17 @@ public class CompilationOptions {
             return this;
         }
 
+        public CompilationOptionsBuilder setIncrementalAnalysis(Boolean value) {
+            incrementalAnalysis = value;
+            return this;
+        }
+
         public CompilationOptions build() {
             return new CompilationOptions(offline, observabilityIncluded, dumpBir,
                     dumpBirFile, cloud, listConflictedClasses, sticky, dumpGraph, dumpRawGraph,
                     withCodeGenerators, withCodeModifiers, configSchemaGen, exportOpenAPI,
-                    exportComponentModel, enableCache, disableSyntaxTree, remoteManagement);
+                    exportComponentModel, enableCache, disableSyntaxTree, remoteManagement,
+                    incrementalAnalysis);
         }
     }
 }
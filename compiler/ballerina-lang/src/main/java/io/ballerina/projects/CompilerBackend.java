@@ -87,6 +87,16 @@ public abstract class CompilerBackend {
 
     public abstract String libraryFileExtension();
 
+    /**
+     * Returns the cache to which the BIR and the platform-specific library of the given module are written.
+     *
+     * @param moduleContext the module for which the code is generated
+     * @return the compilation cache of the module
+     */
+    CompilationCache compilationCache(ModuleContext moduleContext) {
+        return moduleContext.compilationCache();
+    }
+
     /**
      * Represent the unique name of a supported compiler backed target.
      *
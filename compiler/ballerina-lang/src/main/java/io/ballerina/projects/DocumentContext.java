@@ -96,6 +96,10 @@ class DocumentContext {
         return parse();
     }
 
+    boolean cachesSyntaxTree() {
+        return !this.disableSyntaxTree;
+    }
+
     TextDocument textDocument() {
         if (this.textDocument != null) {
             return this.textDocument;
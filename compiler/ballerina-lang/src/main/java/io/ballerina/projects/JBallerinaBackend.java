@@ -24,6 +24,7 @@ import io.ballerina.projects.internal.PackageDiagnostic;
 import io.ballerina.projects.internal.ProjectDiagnosticErrorCode;
 import io.ballerina.projects.internal.jballerina.JarWriter;
 import io.ballerina.projects.internal.model.Target;
+import io.ballerina.projects.repos.TempDirCompilationCache;
 import io.ballerina.projects.util.ProjectConstants;
 import io.ballerina.projects.util.ProjectUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -38,10 +39,14 @@ import org.ballerinalang.maven.Dependency;
 import org.ballerinalang.maven.MavenResolver;
 import org.ballerinalang.maven.Utils;
 import org.ballerinalang.maven.exceptions.MavenResolverException;
+import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.CompiledJarFile;
 import org.wso2.ballerinalang.compiler.bir.codegen.CodeGenerator;
 import org.wso2.ballerinalang.compiler.bir.codegen.interop.InteropValidator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.optimizer.BIRDeadFunctionEliminator;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.Lists;
 
@@ -69,6 +74,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -107,6 +113,10 @@ public class JBallerinaBackend extends CompilerBackend {
     private final PackageCompilation packageCompilation;
     private DiagnosticResult diagnosticResult;
     private boolean codeGenCompleted;
+    // Modules from which unreachable functions were removed. Their code is generated into a separate cache, so that
+    // the pruned artifacts are never written to the shared compilation cache of the dependency.
+    private final Set<ModuleId> prunedModules = new HashSet<>();
+    private CompilationCache prunedModuleCache;
     private final List<JarConflict> conflictedJars;
 
     public static JBallerinaBackend from(PackageCompilation packageCompilation, JvmTarget jdkVersion) {
@@ -156,6 +166,12 @@ public class JBallerinaBackend extends CompilerBackend {
         diagnostics.addAll(this.packageContext.getResolution().diagnosticResult().allDiagnostics);
         // add ballerina toml diagnostics
         diagnostics.addAll(this.packageContext.packageManifest().diagnostics().diagnostics());
+        if (this.packageContext.project().buildOptions().eliminateDeadCode()
+                && !this.packageContext.getResolution().diagnosticResult().hasErrors()
+                && !packageCompilation.diagnosticResult().hasErrors()) {
+            // BIR of all the modules is generated first, so that functions are removed before code generation
+            eliminateDeadCode();
+        }
         // collect compilation diagnostics
         List<Diagnostic> moduleDiagnostics = new ArrayList<>();
         for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
@@ -197,6 +213,57 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    /**
+     * Removes the functions of the dependency modules which are not reachable from the modules of this package
+     * before generating the code for them.
+     */
+    private void eliminateDeadCode() {
+        List<ModuleContext> moduleContexts = pkgResolution.topologicallySortedModuleList();
+        for (ModuleContext moduleContext : moduleContexts) {
+            moduleContext.generateBir(compilerContext);
+            if (hasErrors(moduleContext.diagnostics())) {
+                return;
+            }
+        }
+
+        List<BIRNode.BIRPackage> rootModules = new ArrayList<>();
+        List<BIRNode.BIRPackage> dependencyModules = new ArrayList<>();
+        Map<PackageID, ModuleId> dependencyModuleIds = new HashMap<>();
+        for (ModuleContext moduleContext : moduleContexts) {
+            BLangPackage bLangPackage = moduleContext.bLangPackage();
+            if (bLangPackage == null || bLangPackage.symbol == null || bLangPackage.symbol.bir == null) {
+                continue;
+            }
+            if (moduleContext.moduleId().packageId().equals(packageContext.packageId())) {
+                rootModules.add(bLangPackage.symbol.bir);
+                for (BLangTestablePackage testablePackage : bLangPackage.testablePkgs) {
+                    if (testablePackage.symbol != null && testablePackage.symbol.bir != null) {
+                        rootModules.add(testablePackage.symbol.bir);
+                    }
+                }
+            } else if (!ProjectUtils.isBuiltInPackage(moduleContext.descriptor().org(),
+                    moduleContext.descriptor().packageName().value())) {
+                dependencyModules.add(bLangPackage.symbol.bir);
+                dependencyModuleIds.put(bLangPackage.symbol.bir.packageID, moduleContext.moduleId());
+            }
+        }
+        Set<PackageID> prunedPackageIds =
+                BIRDeadFunctionEliminator.getInstance(compilerContext).eliminate(rootModules, dependencyModules);
+        if (prunedPackageIds.isEmpty()) {
+            return;
+        }
+        prunedPackageIds.forEach(packageID -> prunedModules.add(dependencyModuleIds.get(packageID)));
+        prunedModuleCache = TempDirCompilationCache.from(packageContext.project());
+    }
+
+    @Override
+    CompilationCache compilationCache(ModuleContext moduleContext) {
+        if (prunedModules.contains(moduleContext.moduleId())) {
+            return prunedModuleCache;
+        }
+        return super.compilationCache(moduleContext);
+    }
+
     private boolean hasErrors(List<Diagnostic> diagnostics) {
         for (Diagnostic diagnostic : diagnostics) {
             if (diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR) {
@@ -628,9 +695,9 @@ public class JBallerinaBackend extends CompilerBackend {
                                                  PlatformLibraryScope scope,
                                                  String fileNameSuffix) {
         Package pkg = packageCache.getPackageOrThrow(packageId);
-        ProjectEnvironment projectEnvironment = pkg.project().projectEnvironmentContext();
-        CompilationCache compilationCache = projectEnvironment.getService(CompilationCache.class);
-        String jarFileName = getJarFileName(pkg.packageContext().moduleContext(moduleName)) + fileNameSuffix;
+        ModuleContext moduleContext = pkg.packageContext().moduleContext(moduleName);
+        CompilationCache compilationCache = compilationCache(moduleContext);
+        String jarFileName = getJarFileName(moduleContext) + fileNameSuffix;
         Optional<Path> platformSpecificLibrary = compilationCache.getPlatformSpecificLibrary(
                 this, jarFileName);
         return new JarLibrary(platformSpecificLibrary.orElseThrow(
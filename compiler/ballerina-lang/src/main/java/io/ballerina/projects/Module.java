@@ -17,7 +17,10 @@
  */
 package io.ballerina.projects;
 
+import io.ballerina.projects.internal.FunctionBodyChangeDetector;
+
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -188,6 +191,7 @@ public class Module {
         private MdDocumentContext moduleMdContext;
         private final Map<DocumentId, ResourceContext> resourceContextMap;
         private final Map<DocumentId, ResourceContext> testResourceContextMap;
+        private boolean dependantsAffected;
 
         private Modifier(Module oldModule) {
             moduleId = oldModule.moduleId();
@@ -201,17 +205,28 @@ public class Module {
             moduleMdContext = oldModule.moduleContext.moduleMdContext().orElse(null);
             resourceContextMap = copyResources(oldModule, oldModule.moduleContext.resourceIds());
             testResourceContextMap = copyResources(oldModule, oldModule.moduleContext.testResourceIds());
+            dependantsAffected = !project.buildOptions().incrementalAnalysis();
         }
 
         Modifier updateDocument(DocumentContext newDocContext) {
             if (this.srcDocContextMap.containsKey(newDocContext.documentId())) {
-                this.srcDocContextMap.put(newDocContext.documentId(), newDocContext);
+                DocumentContext oldDocContext = this.srcDocContextMap.put(newDocContext.documentId(), newDocContext);
+                if (!this.dependantsAffected && !isConfinedToFunctionBodies(oldDocContext, newDocContext)) {
+                    this.dependantsAffected = true;
+                }
             } else {
                 this.testDocContextMap.put(newDocContext.documentId(), newDocContext);
+                this.dependantsAffected = true;
             }
             return this;
         }
 
+        private static boolean isConfinedToFunctionBodies(DocumentContext oldDocContext,
+                                                          DocumentContext newDocContext) {
+            return FunctionBodyChangeDetector.isConfinedToFunctionBodies(oldDocContext.syntaxTree(),
+                    newDocContext.syntaxTree());
+        }
+
         /**
          * Creates a copy of the existing module and adds a new resource to the new module.
          *
@@ -219,6 +234,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier addResource(ResourceConfig resourceConfig) {
+            this.dependantsAffected = true;
             ResourceContext newResourceContext = ResourceContext.from(resourceConfig);
             this.resourceContextMap.put(newResourceContext.documentId(), newResourceContext);
             return this;
@@ -231,6 +247,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier addTestResource(ResourceConfig resourceConfig) {
+            this.dependantsAffected = true;
             ResourceContext newResourceContext = ResourceContext.from(resourceConfig);
             this.testResourceContextMap.put(newResourceContext.documentId(), newResourceContext);
             return this;
@@ -243,7 +260,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier removeResource(DocumentId documentId) {
-
+            this.dependantsAffected = true;
             if (this.resourceContextMap.containsKey(documentId)) {
                 this.resourceContextMap.remove(documentId);
             } else {
@@ -259,6 +276,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier addDocument(DocumentConfig documentConfig) {
+            this.dependantsAffected = true;
             DocumentContext newDocumentContext = DocumentContext.from(documentConfig, false);
             this.srcDocContextMap.put(newDocumentContext.documentId(), newDocumentContext);
             this.srcDocContextMap = sortDocuments(this.srcDocContextMap);
@@ -272,6 +290,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier addTestDocument(DocumentConfig documentConfig) {
+            this.dependantsAffected = true;
             DocumentContext newDocumentContext = DocumentContext.from(documentConfig, false);
             this.testDocContextMap.put(newDocumentContext.documentId(), newDocumentContext);
             this.testDocContextMap = sortDocuments(this.testDocContextMap);
@@ -285,7 +304,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier removeDocument(DocumentId documentId) {
-
+            this.dependantsAffected = true;
             if (this.srcDocContextMap.containsKey(documentId)) {
                 srcDocContextMap.remove(documentId);
             } else {
@@ -300,6 +319,7 @@ public class Module {
          * @return an instance of the Module.Modifier
          */
         public Modifier removeModuleMd() {
+            this.dependantsAffected = true;
             moduleMdContext = null;
             return this;
         }
@@ -339,8 +359,10 @@ public class Module {
                     this.testResourceContextMap);
             moduleContextSet.add(newModuleContext);
 
-            // add dependant modules including transitives
-            Collection<ModuleDescriptor> dependants = getAllDependants(this.moduleDescriptor);
+            // add dependant modules including transitives, unless the edit is confined to function bodies, in which
+            // case the dependants keep their compilations that refer to the unchanged signatures of this module
+            Collection<ModuleDescriptor> dependants = this.dependantsAffected
+                    ? getAllDependants(this.moduleDescriptor) : Collections.emptyList();
             for (ModuleDescriptor dependentDescriptor : dependants) {
                 if (dependentDescriptor.equals(this.moduleDescriptor)) {
                     continue;
@@ -357,6 +379,7 @@ public class Module {
         }
 
         Modifier updateModuleMd(MdDocumentContext moduleMd) {
+            this.dependantsAffected = true;
             this.moduleMdContext = moduleMd;
             return this;
         }
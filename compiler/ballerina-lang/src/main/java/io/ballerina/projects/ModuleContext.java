@@ -39,6 +39,7 @@ import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.CompilerPhaseProfiler;
 import org.wso2.ballerinalang.programfile.CompiledBinaryFile;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
 
@@ -54,6 +55,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.ballerinalang.model.tree.SourceKind.REGULAR_SOURCE;
 import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
@@ -66,6 +68,8 @@ import static org.ballerinalang.model.tree.SourceKind.TEST_SOURCE;
  * @since 2.0.0
  */
 class ModuleContext {
+    private static final int MIN_DOCUMENTS_TO_PARSE_IN_PARALLEL = 4;
+
     private final ModuleId moduleId;
     private final ModuleDescriptor moduleDescriptor;
     private final Collection<DocumentId> srcDocIds;
@@ -88,6 +92,7 @@ class ModuleContext {
     private byte[] birBytes = new byte[0];
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
+    private boolean birGenPhasesPerformed;
     private Set<ModuleLoadRequest> allModuleLoadRequests = null;
     private Set<ModuleLoadRequest> allTestModuleLoadRequests = null;
 
@@ -297,17 +302,30 @@ class ModuleContext {
         }
 
         // TODO This logic needs to be updated. We need a proper way to decide on the initial state
-        if (compilationCache.getBir(moduleDescriptor.name()).length == 0) {
+        if (!compilationCache.hasBir(moduleDescriptor.name())) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else if (this.project().kind() == ProjectKind.BUILD_PROJECT
                 && !this.project.buildOptions().enableCache()) {
             moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
+        } else if (isDeadCodeEliminationTarget()) {
+            // The BIR model of the module is required to remove its unreachable functions
+            moduleCompState = ModuleCompilationState.LOADED_FROM_SOURCES;
         } else {
             moduleCompState = ModuleCompilationState.LOADED_FROM_CACHE;
         }
         return moduleCompState;
     }
 
+    private boolean isDeadCodeEliminationTarget() {
+        if (this.project().kind() != ProjectKind.BALA_PROJECT || ProjectUtils.isBuiltInPackage(
+                moduleDescriptor.org(), moduleDescriptor.packageName().value())) {
+            return false;
+        }
+        CompilerContext compilerContext = project.projectEnvironmentContext().getService(CompilerContext.class);
+        return Boolean.parseBoolean(
+                CompilerOptions.getInstance(compilerContext).get(CompilerOptionName.ELIMINATE_DEAD_CODE));
+    }
+
     void setCompilationState(ModuleCompilationState moduleCompState) {
         this.moduleCompState = moduleCompState;
     }
@@ -380,17 +398,54 @@ class ModuleContext {
     }
 
     void compile(CompilerContext compilerContext) {
-        currentCompilationState().compile(this, compilerContext);
+        try (CompilerPhaseProfiler.Span span = CompilerPhaseProfiler.getInstance(compilerContext)
+                .start(this.descriptor().moduleCompilationId(), "compile")) {
+            currentCompilationState().compile(this, compilerContext);
+        }
     }
 
     void generatePlatformSpecificCode(CompilerContext compilerContext, CompilerBackend compilerBackend) {
         currentCompilationState().generatePlatformSpecificCode(this, compilerContext, compilerBackend);
     }
 
+    /**
+     * Performs the compiler phases up to BIR generation on a module compiled from sources, without generating the
+     * platform-specific code. The remaining phases are performed when the platform-specific code is generated.
+     *
+     * @param compilerContext compiler context
+     */
+    void generateBir(CompilerContext compilerContext) {
+        if (moduleCompState == ModuleCompilationState.COMPILED) {
+            generateBirInternal(this, compilerContext);
+        }
+    }
+
+    CompilationCache compilationCache() {
+        return compilationCache;
+    }
+
     static void parseInternal(ModuleContext moduleContext) {
-        for (DocumentContext docContext : moduleContext.srcDocContextMap.values()) {
-            docContext.parse();
+        parseDocuments(moduleContext.srcDocContextMap.values());
+    }
+
+    /**
+     * Parses the given documents and caches their syntax trees in the document contexts.
+     * <p>
+     * Documents are parsed independently of each other, hence several documents are parsed concurrently on the
+     * common fork-join pool. The syntax trees are consumed later in the order of the documents in the module, so
+     * the order in which they are parsed does not affect the compilation.
+     *
+     * @param documentContexts documents to be parsed
+     */
+    private static void parseDocuments(Collection<DocumentContext> documentContexts) {
+        List<DocumentContext> docsToParse = documentContexts.stream()
+                .filter(DocumentContext::cachesSyntaxTree)
+                .collect(Collectors.toList());
+        if (docsToParse.size() < MIN_DOCUMENTS_TO_PARSE_IN_PARALLEL) {
+            docsToParse.forEach(DocumentContext::parse);
+            return;
         }
+        docsToParse.parallelStream().forEach(DocumentContext::parse);
     }
 
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
@@ -407,6 +462,7 @@ class ModuleContext {
                 org.wso2.ballerinalang.compiler.PackageCache.getInstance(compilerContext);
         SymbolEnter symbolEnter = SymbolEnter.getInstance(compilerContext);
         CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(compilerContext);
 
         BLangPackage pkgNode = (BLangPackage) TreeBuilder.createPackageNode();
         pkgNode.moduleContextDataHolder = new ModuleContextDataHolder(
@@ -418,19 +474,27 @@ class ModuleContext {
         packageCache.put(moduleCompilationId, pkgNode);
 
         // Parse source files
-        for (DocumentContext documentContext : moduleContext.srcDocContextMap.values()) {
-            pkgNode.addCompilationUnit(documentContext.compilationUnit(compilerContext, moduleCompilationId,
-                                                                       REGULAR_SOURCE));
-        }
+        try (CompilerPhaseProfiler.Span span = profiler.start(moduleCompilationId, "parse")) {
+            // The syntax trees are created concurrently, while the BLang trees are built sequentially since the
+            // node builder shares the compiler context and generates anonymous names in the order of the documents.
+            parseDocuments(moduleContext.srcDocContextMap.values());
+            for (DocumentContext documentContext : moduleContext.srcDocContextMap.values()) {
+                pkgNode.addCompilationUnit(documentContext.compilationUnit(compilerContext, moduleCompilationId,
+                                                                           REGULAR_SOURCE));
+            }
 
-        if (!moduleContext.testSrcDocumentIds().isEmpty()) {
-            PackageID moduleTestCompilationId = moduleContext.descriptor().moduleTestCompilationId();
-            moduleContext.parseTestSources(pkgNode, moduleTestCompilationId, compilerContext);
+            if (!moduleContext.testSrcDocumentIds().isEmpty()) {
+                PackageID moduleTestCompilationId = moduleContext.descriptor().moduleTestCompilationId();
+                parseDocuments(moduleContext.testDocContextMap.values());
+                moduleContext.parseTestSources(pkgNode, moduleTestCompilationId, compilerContext);
+            }
         }
 
         pkgNode.pos = new BLangDiagnosticLocation(moduleContext.moduleName().toString(), 0, 0, 0, 0);
         try {
-            symbolEnter.definePackage(pkgNode);
+            try (CompilerPhaseProfiler.Span span = profiler.start(moduleCompilationId, "SymbolEnter")) {
+                symbolEnter.definePackage(pkgNode);
+            }
             packageCache.putSymbol(pkgNode.packageID, pkgNode.symbol);
             compilerPhaseRunner.performTypeCheckPhases(pkgNode);
         } catch (Throwable t) {
@@ -445,20 +509,7 @@ class ModuleContext {
                                      CompilerBackend compilerBackend,
                                      CompilerContext compilerContext) {
         // Perform the rest of the compilation phases before generating platform-specific code
-        String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
-        CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
-        if (bootstrapLangLibName != null) {
-            compilerPhaseRunner.performLangLibBirGenPhases(moduleContext.bLangPackage);
-        } else {
-            try {
-                compilerPhaseRunner.performBirGenPhases(moduleContext.bLangPackage);
-            } catch (Throwable t) {
-                assert false : "Compilation failed due to" +
-                        (t.getMessage() != null ? ": " + t.getMessage() : " an unhandled exception");
-                compilerPhaseRunner.addDiagnosticForUnhandledException(moduleContext.bLangPackage, t);
-                return;
-            }
-        }
+        generateBirInternal(moduleContext, compilerContext);
 
         // Note: The BIR and JAR caching should be atomic and so either both should be created or none.
         ByteArrayOutputStream birContent;
@@ -467,6 +518,7 @@ class ModuleContext {
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
             return;
         }
+        CompilationCache compilationCache = compilerBackend.compilationCache(moduleContext);
 
         // Serialize the BIR  model
         birContent = generateBIR(moduleContext, compilerContext);
@@ -477,7 +529,10 @@ class ModuleContext {
         }
 
         // Generate and write the thin JAR to the file system
-        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
+        try (CompilerPhaseProfiler.Span span = CompilerPhaseProfiler.getInstance(compilerContext)
+                .start(moduleContext.descriptor().moduleCompilationId(), "codeGen")) {
+            compilerBackend.performCodeGen(moduleContext, compilationCache);
+        }
 
         // Skip bir caching if jar generation is not successful
         if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
@@ -491,7 +546,27 @@ class ModuleContext {
         // Write the bir to the file system
         // This code will execute only if JAR caching is successful
         // TODO: check the filesystem cache and delete if the cache is incomplete (if BIR or JAR is missing)
-        moduleContext.compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+        compilationCache.cacheBir(moduleContext.moduleName(), birContent);
+    }
+
+    private static void generateBirInternal(ModuleContext moduleContext, CompilerContext compilerContext) {
+        if (moduleContext.birGenPhasesPerformed) {
+            return;
+        }
+        moduleContext.birGenPhasesPerformed = true;
+        String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
+        CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
+        if (bootstrapLangLibName != null) {
+            compilerPhaseRunner.performLangLibBirGenPhases(moduleContext.bLangPackage);
+        } else {
+            try {
+                compilerPhaseRunner.performBirGenPhases(moduleContext.bLangPackage);
+            } catch (Throwable t) {
+                assert false : "Compilation failed due to" +
+                        (t.getMessage() != null ? ": " + t.getMessage() : " an unhandled exception");
+                compilerPhaseRunner.addDiagnosticForUnhandledException(moduleContext.bLangPackage, t);
+            }
+        }
     }
 
     private static boolean shouldGenerateBir(ModuleContext moduleContext, CompilerContext compilerContext) {
@@ -41,9 +41,12 @@ import java.util.function.Function;
 import static org.ballerinalang.compiler.CompilerOptionName.CLOUD;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR;
 import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BIR_FILE;
+import static org.ballerinalang.compiler.CompilerOptionName.DUMP_BUILD_TIME;
+import static org.ballerinalang.compiler.CompilerOptionName.ELIMINATE_DEAD_CODE;
 import static org.ballerinalang.compiler.CompilerOptionName.REMOTE_MANAGEMENT;
 import static org.ballerinalang.compiler.CompilerOptionName.OBSERVABILITY_INCLUDED;
 import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PARALLEL_QUERIES;
 
 /**
  * Compilation at package level by resolving all the dependencies.
@@ -90,6 +93,11 @@ public class PackageCompilation {
         options.put(DUMP_BIR_FILE, Boolean.toString(compilationOptions.dumpBirFile()));
         options.put(CLOUD, compilationOptions.getCloud());
         options.put(REMOTE_MANAGEMENT, Boolean.toString(compilationOptions.remoteManagement()));
+        options.put(DUMP_BUILD_TIME, Boolean.toString(rootPackageContext.project().buildOptions().dumpBuildTime()));
+        options.put(PARALLEL_QUERIES,
+                Boolean.toString(rootPackageContext.project().buildOptions().parallelQueries()));
+        options.put(ELIMINATE_DEAD_CODE,
+                Boolean.toString(rootPackageContext.project().buildOptions().eliminateDeadCode()));
     }
 
     static PackageCompilation from(PackageContext rootPackageContext, CompilationOptions compilationOptions) {
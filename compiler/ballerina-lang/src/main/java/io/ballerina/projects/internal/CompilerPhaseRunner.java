@@ -37,6 +37,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.CompilerPhaseProfiler;
 
 import static org.ballerinalang.compiler.CompilerOptionName.TOOLING_COMPILATION;
 
@@ -68,6 +69,7 @@ public class CompilerPhaseRunner {
     private final CompilerPhase compilerPhase;
     private final DataflowAnalyzer dataflowAnalyzer;
     private final IsolationAnalyzer isolationAnalyzer;
+    private final CompilerPhaseProfiler profiler;
     private boolean isToolingCompilation;
 
 
@@ -98,6 +100,7 @@ public class CompilerPhaseRunner {
         this.compilerPhase = this.options.getCompilerPhase();
         this.dataflowAnalyzer = DataflowAnalyzer.getInstance(context);
         this.isolationAnalyzer = IsolationAnalyzer.getInstance(context);
+        this.profiler = CompilerPhaseProfiler.getInstance(context);
         this.isToolingCompilation = this.options.isSet(TOOLING_COMPILATION)
                 && Boolean.parseBoolean(this.options.get(TOOLING_COMPILATION));
     }
@@ -181,43 +184,63 @@ public class CompilerPhaseRunner {
     }
 
     private BLangPackage typeCheck(BLangPackage pkgNode) {
-        return this.semAnalyzer.analyze(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "SemanticAnalyzer")) {
+            return this.semAnalyzer.analyze(pkgNode);
+        }
     }
 
     private BLangPackage documentationAnalyze(BLangPackage pkgNode) {
-        return this.documentationAnalyzer.analyze(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "DocumentationAnalyzer")) {
+            return this.documentationAnalyzer.analyze(pkgNode);
+        }
     }
 
     private BLangPackage codeAnalyze(BLangPackage pkgNode) {
-        return this.codeAnalyzer.analyze(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "CodeAnalyzer")) {
+            return this.codeAnalyzer.analyze(pkgNode);
+        }
     }
 
     private BLangPackage dataflowAnalyze(BLangPackage pkgNode) {
-        return this.dataflowAnalyzer.analyze(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "DataflowAnalyzer")) {
+            return this.dataflowAnalyzer.analyze(pkgNode);
+        }
     }
 
     private BLangPackage isolationAnalyze(BLangPackage pkgNode) {
-        return this.isolationAnalyzer.analyze(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "IsolationAnalyzer")) {
+            return this.isolationAnalyzer.analyze(pkgNode);
+        }
     }
 
     private BLangPackage propagateConstants(BLangPackage pkgNode) {
-        return this.constantPropagation.perform(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "ConstantPropagation")) {
+            return this.constantPropagation.perform(pkgNode);
+        }
     }
 
     private BLangPackage annotationProcess(BLangPackage pkgNode) {
-        return this.compilerPluginRunner.runPlugins(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "CompilerPluginRunner")) {
+            return this.compilerPluginRunner.runPlugins(pkgNode);
+        }
     }
 
     public BLangPackage desugar(BLangPackage pkgNode) {
-        return this.desugar.perform(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "Desugar")) {
+            return this.desugar.perform(pkgNode);
+        }
     }
 
     public BLangPackage birGen(BLangPackage pkgNode) {
-        return this.birGenerator.genBIR(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "BIRGen")) {
+            return this.birGenerator.genBIR(pkgNode);
+        }
     }
 
     private BLangPackage birEmit(BLangPackage pkgNode) {
-        return this.birEmitter.emit(pkgNode);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkgNode.packageID, "BIREmitter")) {
+            return this.birEmitter.emit(pkgNode);
+        }
     }
 
     private boolean stopCompilation(BLangPackage pkgNode, CompilerPhase nextPhase) {
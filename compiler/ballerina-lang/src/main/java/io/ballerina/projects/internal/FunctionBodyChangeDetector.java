@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.internal;
+
+import io.ballerina.compiler.syntax.tree.AnnotationDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.Optional;
+
+/**
+ * Detects edits of a source document that are confined to the bodies of module level functions.
+ * <p>
+ * Such an edit does not change any construct that another module can refer to. The imports, the signatures of the
+ * functions and all the other module members stay the same, and the public members keep their positions.
+ * Therefore, the modules that depend on the edited module need not be recompiled.
+ *
+ * @since 2201.10.0
+ */
+public final class FunctionBodyChangeDetector {
+
+    private FunctionBodyChangeDetector() {
+    }
+
+    /**
+     * Checks whether the differences between two versions of a document are confined to function bodies.
+     *
+     * @param oldTree syntax tree of the document before the edit
+     * @param newTree syntax tree of the document after the edit
+     * @return true if only the bodies of module level functions differ, false otherwise
+     */
+    public static boolean isConfinedToFunctionBodies(SyntaxTree oldTree, SyntaxTree newTree) {
+        if (oldTree.rootNode().kind() != SyntaxKind.MODULE_PART
+                || newTree.rootNode().kind() != SyntaxKind.MODULE_PART) {
+            return false;
+        }
+
+        ModulePartNode oldModulePart = oldTree.rootNode();
+        ModulePartNode newModulePart = newTree.rootNode();
+        NodeList<ImportDeclarationNode> oldImports = oldModulePart.imports();
+        NodeList<ImportDeclarationNode> newImports = newModulePart.imports();
+        if (oldImports.size() != newImports.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldImports.size(); i++) {
+            if (!isSameSource(oldImports.get(i), newImports.get(i))) {
+                return false;
+            }
+        }
+
+        NodeList<ModuleMemberDeclarationNode> oldMembers = oldModulePart.members();
+        NodeList<ModuleMemberDeclarationNode> newMembers = newModulePart.members();
+        if (oldMembers.size() != newMembers.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldMembers.size(); i++) {
+            if (!isCompatibleMember(oldMembers.get(i), newMembers.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCompatibleMember(ModuleMemberDeclarationNode oldMember,
+                                              ModuleMemberDeclarationNode newMember) {
+        if (oldMember.kind() != newMember.kind()) {
+            return false;
+        }
+
+        if (oldMember.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+            if (!isSameSource(oldMember, newMember)) {
+                return false;
+            }
+            // Symbols of public members are looked up by their positions from the dependent modules.
+            return !isPublic(newMember) || oldMember.lineRange().equals(newMember.lineRange());
+        }
+
+        FunctionDefinitionNode oldFunction = (FunctionDefinitionNode) oldMember;
+        FunctionDefinitionNode newFunction = (FunctionDefinitionNode) newMember;
+        if (oldFunction.functionBody().kind() != newFunction.functionBody().kind()
+                || !isSameSource(oldFunction.metadata(), newFunction.metadata())
+                || !isSameSource(oldFunction.qualifierList(), newFunction.qualifierList())
+                || !isSameSource(oldFunction.functionKeyword(), newFunction.functionKeyword())
+                || !isSameSource(oldFunction.functionName(), newFunction.functionName())
+                || !isSameSource(oldFunction.relativeResourcePath(), newFunction.relativeResourcePath())
+                || !isSameSource(oldFunction.functionSignature(), newFunction.functionSignature())) {
+            return false;
+        }
+        return !isPublic(newFunction)
+                || oldFunction.functionSignature().lineRange().equals(newFunction.functionSignature().lineRange());
+    }
+
+    private static boolean isPublic(ModuleMemberDeclarationNode member) {
+        Optional<Token> visibilityQualifier = switch (member.kind()) {
+            case FUNCTION_DEFINITION -> {
+                for (Token qualifier : ((FunctionDefinitionNode) member).qualifierList()) {
+                    if (qualifier.kind() == SyntaxKind.PUBLIC_KEYWORD) {
+                        yield Optional.of(qualifier);
+                    }
+                }
+                yield Optional.empty();
+            }
+            case TYPE_DEFINITION -> ((TypeDefinitionNode) member).visibilityQualifier();
+            case CLASS_DEFINITION -> ((ClassDefinitionNode) member).visibilityQualifier();
+            case CONST_DECLARATION -> ((ConstantDeclarationNode) member).visibilityQualifier();
+            case ENUM_DECLARATION -> ((EnumDeclarationNode) member).qualifier();
+            case LISTENER_DECLARATION -> ((ListenerDeclarationNode) member).visibilityQualifier();
+            case MODULE_VAR_DECL -> ((ModuleVariableDeclarationNode) member).visibilityQualifier();
+            case ANNOTATION_DECLARATION -> ((AnnotationDeclarationNode) member).visibilityQualifier();
+            default -> Optional.empty();
+        };
+        return visibilityQualifier.isPresent();
+    }
+
+    private static boolean isSameSource(Optional<? extends Node> oldNode, Optional<? extends Node> newNode) {
+        if (oldNode.isEmpty() || newNode.isEmpty()) {
+            return oldNode.isEmpty() && newNode.isEmpty();
+        }
+        return isSameSource(oldNode.get(), newNode.get());
+    }
+
+    private static boolean isSameSource(NodeList<? extends Node> oldNodes, NodeList<? extends Node> newNodes) {
+        if (oldNodes.size() != newNodes.size()) {
+            return false;
+        }
+        for (int i = 0; i < oldNodes.size(); i++) {
+            if (!isSameSource(oldNodes.get(i), newNodes.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameSource(Node oldNode, Node newNode) {
+        return oldNode.internalNode() == newNode.internalNode()
+                || oldNode.toSourceCode().equals(newNode.toSourceCode());
+    }
+}
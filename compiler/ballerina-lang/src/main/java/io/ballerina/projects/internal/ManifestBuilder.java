@@ -699,6 +699,12 @@ public class ManifestBuilder {
                 CompilerOptionName.REMOTE_MANAGEMENT.toString());
         Boolean showDependencyDiagnostics = getBooleanFromBuildOptionsTableNode(tableNode,
                 BuildOptions.OptionName.SHOW_DEPENDENCY_DIAGNOSTICS.toString());
+        Boolean classDataSharing = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.CLASS_DATA_SHARING.toString());
+        Boolean eliminateDeadCode = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.ELIMINATE_DEAD_CODE.toString());
+        Boolean parallelQueries = getBooleanFromBuildOptionsTableNode(tableNode,
+                BuildOptions.OptionName.PARALLEL_QUERIES.toString());
 
         buildOptionsBuilder
                 .setOffline(offline)
@@ -714,7 +720,10 @@ public class ManifestBuilder {
                 .setExportComponentModel(exportComponentModel)
                 .setGraalVMBuildOptions(graalVMBuildOptions)
                 .setRemoteManagement(remoteManagement)
-                .setShowDependencyDiagnostics(showDependencyDiagnostics);
+                .setShowDependencyDiagnostics(showDependencyDiagnostics)
+                .setClassDataSharing(classDataSharing)
+                .setEliminateDeadCode(eliminateDeadCode)
+                .setParallelQueries(parallelQueries);
 
         if (targetDir != null) {
             buildOptionsBuilder.targetDir(targetDir);
@@ -33,6 +33,8 @@ import io.ballerina.projects.environment.ResolutionResponse;
 import io.ballerina.projects.environment.ResolutionResponse.ResolutionStatus;
 import io.ballerina.projects.internal.ImportModuleRequest;
 import io.ballerina.projects.internal.ImportModuleResponse;
+import io.ballerina.projects.internal.repositories.AbstractPackageRepository;
+import io.ballerina.projects.internal.repositories.RemotePackageRepository;
 import io.ballerina.projects.util.ProjectConstants;
 
 import java.util.ArrayList;
@@ -205,6 +207,13 @@ public class DefaultPackageResolver implements PackageResolver {
             return Collections.emptyList();
         }
 
+        // Pull the packages that needs to be resolved from central concurrently, before loading them in order
+        if (centralRepo instanceof RemotePackageRepository remotePackageRepository) {
+            remotePackageRepository.pullPackages(requests.stream()
+                    .filter(this::isCentralPackageRequest)
+                    .toList(), options);
+        }
+
         return requests.stream()
                 .map(request -> resolvePackage(request, options))
                 .collect(Collectors.toList());
@@ -225,6 +234,18 @@ public class DefaultPackageResolver implements PackageResolver {
         return ResolutionResponse.from(resolutionStatus, resolvedPackage.orElse(null), resolutionReq);
     }
 
+    private boolean isCentralPackageRequest(ResolutionRequest resolutionReq) {
+        PackageDescriptor pkgDesc = resolutionReq.packageDescriptor();
+        if (pkgDesc.isBuiltInPackage() || pkgDesc.repository().isPresent() || pkgDesc.version() == null) {
+            return false;
+        }
+        if (loadFromCache(resolutionReq).isPresent()) {
+            return false;
+        }
+        return !(distributionRepo instanceof AbstractPackageRepository distributionPackageRepository &&
+                distributionPackageRepository.isPackageExists(pkgDesc.org(), pkgDesc.name(), pkgDesc.version()));
+    }
+
     private Optional<Package> loadFromCache(ResolutionRequest resolutionReq) {
         PackageDescriptor pkgDesc = resolutionReq.packageDescriptor();
         return packageCache.getPackage(pkgDesc.org(), pkgDesc.name(), pkgDesc.version());
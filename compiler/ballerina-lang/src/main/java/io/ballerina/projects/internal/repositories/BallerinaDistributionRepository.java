@@ -32,7 +32,7 @@ import java.nio.file.Path;
 public class BallerinaDistributionRepository extends FileSystemRepository {
 
     private BallerinaDistributionRepository(Environment environment, Path distributionRepoPath) {
-        super(environment, distributionRepoPath);
+        super(environment, distributionRepoPath, true);
     }
 
     public static BallerinaDistributionRepository from(Environment environment, Path distributionPath) {
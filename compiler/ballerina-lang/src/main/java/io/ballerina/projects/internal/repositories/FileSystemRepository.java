@@ -80,18 +80,31 @@ public class FileSystemRepository extends AbstractPackageRepository {
     Path bala;
     private final Path cacheDir;
     private final Environment environment;
+    // Packages of an immutable repository are never republished with the same version
+    private final boolean immutable;
 
     // TODO Refactor this when we do repository/cache split
     public FileSystemRepository(Environment environment, Path cacheDirectory) {
+        this(environment, cacheDirectory, false);
+    }
+
+    FileSystemRepository(Environment environment, Path cacheDirectory, boolean immutable) {
         this.cacheDir = cacheDirectory.resolve(ProjectConstants.CACHES_DIR_NAME);
         this.bala = cacheDirectory.resolve(ProjectConstants.REPO_BALA_DIR_NAME);
         this.environment = environment;
+        this.immutable = immutable;
     }
 
     public FileSystemRepository(Environment environment, Path cacheDirectory, String distributionVersion) {
+        this(environment, cacheDirectory, distributionVersion, false);
+    }
+
+    FileSystemRepository(Environment environment, Path cacheDirectory, String distributionVersion,
+                         boolean immutable) {
         this.cacheDir = cacheDirectory.resolve(ProjectConstants.CACHES_DIR_NAME + "-" + distributionVersion);
         this.bala = cacheDirectory.resolve(ProjectConstants.REPO_BALA_DIR_NAME);
         this.environment = environment;
+        this.immutable = immutable;
     }
 
     @Override
@@ -109,7 +122,7 @@ public class FileSystemRepository extends AbstractPackageRepository {
 
         ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getBuilder(environment);
         environmentBuilder = environmentBuilder.addCompilationCacheFactory(
-                new FileSystemCache.FileSystemCacheFactory(cacheDir));
+                new FileSystemCache.FileSystemCacheFactory(cacheDir, immutable));
         Project project = BalaProject.loadProject(environmentBuilder, balaPath);
         return Optional.of(project.currentPackage());
     }
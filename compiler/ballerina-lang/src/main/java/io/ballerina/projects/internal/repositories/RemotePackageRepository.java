@@ -41,6 +41,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -57,6 +61,8 @@ import static io.ballerina.projects.util.ProjectUtils.initializeProxy;
  */
 public class RemotePackageRepository implements PackageRepository {
 
+    private static final int MAX_CONCURRENT_PULLS = 8;
+
     private final FileSystemRepository fileSystemRepo;
     private final CentralAPIClient client;
 
@@ -72,7 +78,7 @@ public class RemotePackageRepository implements PackageRepository {
         }
         String ballerinaShortVersion = RepoUtils.getBallerinaShortVersion();
         FileSystemRepository fileSystemRepository = new FileSystemRepository(
-                environment, cacheDirectory, ballerinaShortVersion);
+                environment, cacheDirectory, ballerinaShortVersion, true);
         Proxy proxy = initializeProxy(settings.getProxy());
         CentralAPIClient client = new CentralAPIClient(repoUrl, proxy, settings.getProxy().username(),
                 settings.getProxy().password(), getAccessTokenOfCLI(settings),
@@ -99,33 +105,87 @@ public class RemotePackageRepository implements PackageRepository {
             return cachedPackage;
         }
 
+        // If environment is online pull from central
+        if (!options.offline()) {
+            pullPackage(request, true);
+        }
+
+        return this.fileSystemRepo.getPackage(request, options);
+    }
+
+    /**
+     * Pulls the given packages that are not available in the file system cache, concurrently.
+     * Packages are only downloaded and extracted to the cache. They are loaded when requested through
+     * {@link #getPackage(ResolutionRequest, ResolutionOptions)}.
+     *
+     * @param requests resolution requests of the packages to pull
+     * @param options  resolution options
+     */
+    public void pullPackages(Collection<ResolutionRequest> requests, ResolutionOptions options) {
+        if (options.offline()) {
+            return;
+        }
+        List<ResolutionRequest> missingPackages = requests.stream()
+                .filter(request -> request.version().isPresent())
+                .filter(request -> !this.fileSystemRepo.isPackageExists(request.orgName(), request.packageName(),
+                        request.version().get()))
+                .toList();
+        if (missingPackages.size() < 2) {
+            // A single package is pulled when it is requested
+            return;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(MAX_CONCURRENT_PULLS, missingPackages.size()));
+        List<Future<?>> pulls = new ArrayList<>();
+        for (ResolutionRequest request : missingPackages) {
+            pulls.add(executor.submit(() -> pullPackage(request, false)));
+        }
+        executor.shutdown();
+
+        // Every pull is waited for, even when interrupted, so that no package is still being written to the
+        // cache when it is loaded.
+        boolean interrupted = false;
+        for (Future<?> pull : pulls) {
+            while (true) {
+                try {
+                    pull.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    // Packages that could not be pulled are pulled again when they are requested
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void pullPackage(ResolutionRequest request, boolean showProgress) {
         String packageName = request.packageName().value();
         String orgName = request.orgName().value();
         String version = request.version().isPresent() ? request.version().get().toString() : null;
 
         Path packagePathInBalaCache = this.fileSystemRepo.bala.resolve(orgName).resolve(packageName);
+        String supportedPlatform = Arrays.stream(JvmTarget.values())
+                .map(target -> target.code())
+                .collect(Collectors.joining(","));
+        try {
+            this.client.pullPackage(orgName, packageName, version, packagePathInBalaCache, supportedPlatform,
+                    RepoUtils.getBallerinaVersion(), true, showProgress);
+        } catch (CentralClientException e) {
+            boolean enableOutputStream =
+                    Boolean.parseBoolean(System.getProperty(CentralClientConstants.ENABLE_OUTPUT_STREAM));
+            if (enableOutputStream) {
+                final PrintStream out = System.out;
+                out.println("Error while pulling package [" + orgName + "/" + packageName + ":" + version +
+                        "]: " + e.getMessage());
 
-        // If environment is online pull from central
-        if (!options.offline()) {
-            String supportedPlatform = Arrays.stream(JvmTarget.values())
-                    .map(target -> target.code())
-                    .collect(Collectors.joining(","));
-            try {
-                this.client.pullPackage(orgName, packageName, version, packagePathInBalaCache, supportedPlatform,
-                        RepoUtils.getBallerinaVersion(), true);
-            } catch (CentralClientException e) {
-                boolean enableOutputStream =
-                        Boolean.parseBoolean(System.getProperty(CentralClientConstants.ENABLE_OUTPUT_STREAM));
-                if (enableOutputStream) {
-                    final PrintStream out = System.out;
-                    out.println("Error while pulling package [" + orgName + "/" + packageName + ":" + version +
-                            "]: " + e.getMessage());
-
-                }
             }
         }
-
-        return this.fileSystemRepo.getPackage(request, options);
     }
 
     @Override
@@ -62,6 +62,11 @@ public class BuildProjectCompilationCache extends FileSystemCache {
         return new byte[0];
     }
 
+    @Override
+    public boolean hasBir(ModuleName moduleName) {
+        return hasContent(getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT));
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
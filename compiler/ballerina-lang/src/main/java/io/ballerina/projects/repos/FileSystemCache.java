@@ -52,12 +52,26 @@ import java.util.Optional;
  */
 public class FileSystemCache extends CompilationCache {
     private final Path cacheDirPath;
+    private final boolean immutable;
     private Path birPath;
     private Path packageCacheDirPath;
 
     public FileSystemCache(Project project, Path cacheDirPath) {
+        this(project, cacheDirPath, false);
+    }
+
+    /**
+     * Creates a cache in the given directory. The BIR files of an immutable cache, such as the cache of the
+     * distribution or of the central repository, are never rewritten, so they are read once per process and shared.
+     *
+     * @param project      project of the cached package
+     * @param cacheDirPath cache directory
+     * @param immutable    whether the cached BIR files are never rewritten
+     */
+    public FileSystemCache(Project project, Path cacheDirPath, boolean immutable) {
         super(project);
         this.cacheDirPath = cacheDirPath;
+        this.immutable = immutable;
     }
 
     @Override
@@ -66,7 +80,8 @@ public class FileSystemCache extends CompilationCache {
                 + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
         if (Files.exists(birFilePath)) {
             try {
-                return FileUtils.readFileToByteArray(birFilePath.toFile());
+                return immutable ? SharedBirCache.read(birFilePath) :
+                        FileUtils.readFileToByteArray(birFilePath.toFile());
             } catch (IOException e) {
                 // TODO proper error handling
                 throw new RuntimeException("Failed to read the cached bir of module: " + moduleName, e);
@@ -75,6 +90,19 @@ public class FileSystemCache extends CompilationCache {
         return new byte[0];
     }
 
+    @Override
+    public boolean hasBir(ModuleName moduleName) {
+        return hasContent(getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT));
+    }
+
+    static boolean hasContent(Path filePath) {
+        try {
+            return Files.isRegularFile(filePath) && Files.isReadable(filePath) && Files.size(filePath) > 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
@@ -166,14 +194,20 @@ public class FileSystemCache extends CompilationCache {
      */
     public static class FileSystemCacheFactory implements CompilationCacheFactory {
         private final Path cacheDirPath;
+        private final boolean immutable;
 
         public FileSystemCacheFactory(Path cacheDirPath) {
+            this(cacheDirPath, false);
+        }
+
+        public FileSystemCacheFactory(Path cacheDirPath, boolean immutable) {
             this.cacheDirPath = cacheDirPath;
+            this.immutable = immutable;
         }
 
         @Override
         public CompilationCache createCompilationCache(Project project) {
-            return new FileSystemCache(project, cacheDirPath);
+            return new FileSystemCache(project, cacheDirPath, immutable);
         }
     }
 }
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projects.repos;
+
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide cache of the BIR files of the immutable repository caches.
+ * <p>
+ * The BIR files in the caches of the distribution and of the central repository are written once and never
+ * rewritten, so the language server projects and shell sessions running in the same process read each of them only
+ * once. The project's own target cache and the local repository are not cached here, since their BIR files change.
+ * Entries are held softly, and entries cleared by the garbage collector are removed from the cache.
+ *
+ * @since 2201.10.0
+ */
+final class SharedBirCache {
+
+    private static final Map<Path, Entry> ENTRIES = new ConcurrentHashMap<>();
+    private static final ReferenceQueue<byte[]> CLEARED_ENTRIES = new ReferenceQueue<>();
+
+    private SharedBirCache() {
+    }
+
+    /**
+     * Returns the content of the given BIR file. The file is read only if it is not cached. Each caller gets its own
+     * copy of the content.
+     *
+     * @param birFilePath path to the BIR file
+     * @return content of the BIR file
+     * @throws IOException if the file cannot be read
+     */
+    static byte[] read(Path birFilePath) throws IOException {
+        removeClearedEntries();
+        Path key = birFilePath.toAbsolutePath().normalize();
+        Entry entry = ENTRIES.get(key);
+        byte[] content = entry != null ? entry.get() : null;
+        if (content == null) {
+            content = Files.readAllBytes(key);
+            ENTRIES.put(key, new Entry(key, content));
+        }
+        return content.clone();
+    }
+
+    private static void removeClearedEntries() {
+        Reference<? extends byte[]> reference;
+        while ((reference = CLEARED_ENTRIES.poll()) != null) {
+            Entry entry = (Entry) reference;
+            ENTRIES.remove(entry.key, entry);
+        }
+    }
+
+    private static class Entry extends SoftReference<byte[]> {
+
+        private final Path key;
+
+        Entry(Path key, byte[] content) {
+            super(content, CLEARED_ENTRIES);
+            this.key = key;
+        }
+    }
+}
@@ -49,6 +49,11 @@ public class TempDirCompilationCache extends FileSystemCache {
         return EMPTY_BYTE_ARRAY;
     }
 
+    @Override
+    public boolean hasBir(ModuleName moduleName) {
+        return false;
+    }
+
     private static Path createTempProjectRoot() {
         try {
             return Files.createTempDirectory("ballerina-compilation-cache" + System.nanoTime());
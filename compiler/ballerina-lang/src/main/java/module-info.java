@@ -2,6 +2,8 @@ module io.ballerina.lang {
     uses io.ballerina.projects.plugins.CompilerPlugin;
     uses io.ballerina.projects.buildtools.CodeGeneratorTool;
     requires java.compiler;
+    requires java.management;
+    requires jdk.management;
     requires com.google.gson;
     requires java.xml;
     requires org.objectweb.asm;
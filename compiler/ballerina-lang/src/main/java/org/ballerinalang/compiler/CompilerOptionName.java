@@ -65,6 +65,12 @@ public enum CompilerOptionName {
     ENABLE_CACHE("enableCache"),
     REMOTE_MANAGEMENT("remoteManagement"),
 
+    DUMP_BUILD_TIME("dumpBuildTime"),
+
+    PARALLEL_QUERIES("parallelQueries"),
+
+    ELIMINATE_DEAD_CODE("eliminateDeadCode"),
+
     /**
      * We've introduced this temporary option to support old-project structure and the new package structure.
      * If the option is set, then the compilation is initiated by the Project APT.
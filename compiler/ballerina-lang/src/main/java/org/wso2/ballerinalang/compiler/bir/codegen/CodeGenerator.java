@@ -27,6 +27,7 @@ import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerPhaseProfiler;
 
 import java.util.HashMap;
 
@@ -42,6 +43,7 @@ public class CodeGenerator {
     private final PackageCache packageCache;
     private final BLangDiagnosticLog dlog;
     private final Types types;
+    private final CompilerPhaseProfiler profiler;
 
     private CodeGenerator(CompilerContext compilerContext) {
         compilerContext.put(CODE_GEN, this);
@@ -49,6 +51,7 @@ public class CodeGenerator {
         this.packageCache = PackageCache.getInstance(compilerContext);
         this.dlog = BLangDiagnosticLog.getInstance(compilerContext);
         this.types = Types.getInstance(compilerContext);
+        this.profiler = CompilerPhaseProfiler.getInstance(compilerContext);
     }
 
     public static CodeGenerator getInstance(CompilerContext context) {
@@ -84,7 +87,10 @@ public class CodeGenerator {
         HashMap<String, String> originalIdentifierMap = JvmDesugarPhase.encodeModuleIdentifiers(packageSymbol.bir);
 
         // TODO Get-rid of the following assignment
-        CompiledJarFile compiledJarFile = jvmPackageGen.generate(packageSymbol.bir);
+        CompiledJarFile compiledJarFile;
+        try (CompilerPhaseProfiler.Span span = profiler.start(packageSymbol.pkgID, "JvmPackageGen")) {
+            compiledJarFile = jvmPackageGen.generate(packageSymbol.bir);
+        }
         cleanUpBirPackage(packageSymbol);
         //Revert encoding identifier names
         JvmDesugarPhase.replaceEncodedModuleIdentifiers(packageSymbol.bir, originalIdentifierMap);
@@ -397,8 +397,7 @@ public class JvmInstructionGen {
             case CONSTANT, GLOBAL -> {
                 String varName = varDcl.name.value;
                 PackageID moduleId = ((BIRNode.BIRGlobalVariableDcl) varDcl).pkgId;
-                String pkgName = JvmCodeGenUtil.getPackageName(moduleId);
-                String className = jvmPackageGen.lookupGlobalVarClassName(pkgName, varName);
+                String className = getGlobalVarClassName(varDcl, moduleId, varName);
                 String typeSig = getTypeDesc(bType);
                 mv.visitFieldInsn(GETSTATIC, className, varName, typeSig);
                 return;
@@ -445,8 +444,7 @@ public class JvmInstructionGen {
         if (varDcl.kind == VarKind.GLOBAL || varDcl.kind == VarKind.CONSTANT) {
             String varName = varDcl.name.value;
             PackageID moduleId = ((BIRNode.BIRGlobalVariableDcl) varDcl).pkgId;
-            String pkgName = JvmCodeGenUtil.getPackageName(moduleId);
-            String className = jvmPackageGen.lookupGlobalVarClassName(pkgName, varName);
+            String className = getGlobalVarClassName(varDcl, moduleId, varName);
             String typeSig = getTypeDesc(bType);
             mv.visitFieldInsn(PUTSTATIC, className, varName, typeSig);
             return;
@@ -455,6 +453,13 @@ public class JvmInstructionGen {
         generateVarStoreForType(mv, bType, valueIndex);
     }
 
+    private String getGlobalVarClassName(BIRNode.BIRVariableDcl varDcl, PackageID moduleId, String varName) {
+        if (varDcl.kind == VarKind.CONSTANT) {
+            return jvmPackageGen.lookupConstantClassName(moduleId, varName);
+        }
+        return jvmPackageGen.lookupGlobalVarClassName(JvmCodeGenUtil.getPackageName(moduleId), varName);
+    }
+
     private void generateVarStoreForType (MethodVisitor mv, BType bType, int valueIndex) {
         bType = JvmCodeGenUtil.getImpliedType(bType);
         if (TypeTags.isIntegerTypeTag(bType.tag)) {
@@ -74,6 +74,7 @@ import org.wso2.ballerinalang.util.Flags;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -101,7 +102,7 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.isExter
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.BALLERINA;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
-import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONSTANT_INIT_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONSTANTS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CURRENT_MODULE_VAR_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_DOT_CHARACTER;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.ENCODED_JAVA_MODULE;
@@ -249,7 +250,6 @@ public class JvmPackageGen {
             return;
         }
         MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
-        setConstantFields(mv, birPackage, jvmConstantsGen);
         setLockStoreField(mv, className);
         setServiceEPAvailableField(cw, mv, serviceEPAvailable, className);
         setModuleStatusField(cw, mv, className);
@@ -259,15 +259,6 @@ public class JvmPackageGen {
         mv.visitEnd();
     }
 
-    private static void setConstantFields(MethodVisitor mv, BIRPackage birPackage,
-                                          JvmConstantsGen jvmConstantsGen) {
-        if (birPackage.constants.isEmpty()) {
-            return;
-        }
-        mv.visitMethodInsn(INVOKESTATIC, jvmConstantsGen.getConstantClass(), CONSTANT_INIT_METHOD_PREFIX,
-                VOID_METHOD_DESC, false);
-    }
-
     private static void setLockStoreField(MethodVisitor mv, String className) {
         String lockStoreClass = "L" + LOCK_STORE + ";";
         mv.visitTypeInsn(NEW, LOCK_STORE);
@@ -388,9 +379,12 @@ public class JvmPackageGen {
                 jvmTypeGen.generateUserDefinedTypeFields(cw, module.typeDefs);
                 jvmTypeGen.generateGetAnonTypeMethod(cw, moduleClass);
                 jvmTypeGen.generateValueCreatorMethods(cw, moduleClass);
-                // populate global variable to class name mapping and generate them
+                // populate global variable to class name mapping and generate them. Module constants are
+                // generated in the constants class.
+                Set<String> constantNames = getModuleConstantNames(module);
                 for (BIRGlobalVariableDcl globalVar : module.globalVars) {
-                    if (globalVar != null) {
+                    if (globalVar != null && !(globalVar.kind == VarKind.CONSTANT &&
+                            constantNames.contains(globalVar.name.value))) {
                         generatePackageVariable(globalVar, cw);
                     }
                 }
@@ -474,10 +468,15 @@ public class JvmPackageGen {
         }
         String pkgName = JvmCodeGenUtil.getPackageName(module.packageID);
         for (BIRGlobalVariableDcl globalVar : module.globalVars) {
-            if (globalVar != null) {
+            // Constants of the imported modules are resolved to their constants class
+            if (globalVar != null && (isEntry || globalVar.kind != VarKind.CONSTANT)) {
                 globalVarClassMap.put(pkgName + globalVar.name.value, initClass);
             }
         }
+        String constantClass = JvmCodeGenUtil.getModuleLevelClassName(module.packageID, CONSTANTS_CLASS_NAME);
+        for (BIRNode.BIRConstant constant : module.constants) {
+            globalVarClassMap.put(pkgName + constant.name.value, constantClass);
+        }
 
         globalVarClassMap.put(pkgName + LOCK_STORE_VAR_NAME, initClass);
     }
@@ -687,6 +686,30 @@ public class JvmPackageGen {
         }
     }
 
+    /**
+     * Returns the class which holds the given module constant. Constants of other modules are not linked, hence
+     * they are resolved to the constants class of the module by default.
+     *
+     * @param moduleId module in which the constant is defined
+     * @param varName  name of the constant
+     * @return the name of the class which holds the constant
+     */
+    public String lookupConstantClassName(PackageID moduleId, String varName) {
+        String className = globalVarClassMap.get(JvmCodeGenUtil.getPackageName(moduleId) + varName);
+        if (className == null) {
+            return JvmCodeGenUtil.getModuleLevelClassName(moduleId, CONSTANTS_CLASS_NAME);
+        }
+        return className;
+    }
+
+    private static Set<String> getModuleConstantNames(BIRPackage module) {
+        Set<String> constantNames = new HashSet<>();
+        for (BIRNode.BIRConstant constant : module.constants) {
+            constantNames.add(constant.name.value);
+        }
+        return constantNames;
+    }
+
     public String lookupGlobalVarClassName(String pkgName, String varName) {
         String key = pkgName + varName;
         if (!globalVarClassMap.containsKey(key)) {
@@ -736,7 +759,7 @@ public class JvmPackageGen {
                 immediateImports, serviceEPAvailable, mainFunc, testExecuteFunc);
         TypeHashVisitor typeHashVisitor = new TypeHashVisitor();
         AsyncDataCollector asyncDataCollector = new AsyncDataCollector(module);
-        JvmConstantsGen jvmConstantsGen = new JvmConstantsGen(module, moduleInitClass, types, typeHashVisitor);
+        JvmConstantsGen jvmConstantsGen = new JvmConstantsGen(module, types, typeHashVisitor);
         JvmTypeGen jvmTypeGen = new JvmTypeGen(jvmConstantsGen, module.packageID, typeHashVisitor, symbolTable);
         JvmMethodsSplitter jvmMethodsSplitter = new JvmMethodsSplitter(this, jvmConstantsGen, module, moduleInitClass,
                 typeHashVisitor, jvmTypeGen);
@@ -767,7 +790,7 @@ public class JvmPackageGen {
         List<BIRNode.BIRFunction> sortedFunctions = new ArrayList<>(module.functions);
         sortedFunctions.sort(NAME_HASH_COMPARATOR);
         jvmMethodsSplitter.generateMethods(jarEntries, jvmCastGen, sortedFunctions, asyncDataCollector);
-        jvmConstantsGen.generateConstants(jarEntries, asyncDataCollector.getStrandMetadata());
+        jvmConstantsGen.generateConstants(jarEntries, asyncDataCollector.getStrandMetadata(), jvmTypeGen, jvmCastGen);
         lambdaGen.generateLambdaClasses(asyncDataCollector, jarEntries);
 
         // clear class name mappings
@@ -19,6 +19,8 @@ package org.wso2.ballerinalang.compiler.bir.codegen.split;
 
 import org.ballerinalang.model.elements.PackageID;
 import org.objectweb.asm.MethodVisitor;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.BTypeHashComparator;
 import org.wso2.ballerinalang.compiler.bir.codegen.internal.ScheduleFunctionInfo;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmArrayTypeConstantsGen;
@@ -71,12 +73,11 @@ public class JvmConstantsGen {
 
     public final BTypeHashComparator bTypeHashComparator;
 
-    public JvmConstantsGen(BIRNode.BIRPackage module, String moduleInitClass, Types types,
-                           TypeHashVisitor typeHashVisitor) {
+    public JvmConstantsGen(BIRNode.BIRPackage module, Types types, TypeHashVisitor typeHashVisitor) {
         this.bTypeHashComparator = new BTypeHashComparator(typeHashVisitor);
         this.stringConstantsGen = new JvmBStringConstantsGen(module.packageID);
         this.moduleConstantsGen = new JvmModuleConstantsGen(module);
-        this.jvmBallerinaConstantsGen = new JvmBallerinaConstantsGen(module, moduleInitClass, this);
+        this.jvmBallerinaConstantsGen = new JvmBallerinaConstantsGen(module, this);
         this.unionTypeConstantsGen = new JvmUnionTypeConstantsGen(module.packageID, bTypeHashComparator);
         this.errorTypeConstantsGen = new JvmErrorTypeConstantsGen(module.packageID, bTypeHashComparator);
         this.tupleTypeConstantsGen = new JvmTupleTypeConstantsGen(module.packageID, bTypeHashComparator);
@@ -101,8 +102,9 @@ public class JvmConstantsGen {
         refTypeConstantsGen.setJvmRefTypeGen(jvmCreateTypeGen.getJvmRefTypeGen());
     }
 
-    public void generateConstants(Map<String, byte[]> jarEntries, Map<String, ScheduleFunctionInfo> strandMetadata) {
-        jvmBallerinaConstantsGen.generateConstantInit(jarEntries);
+    public void generateConstants(Map<String, byte[]> jarEntries, Map<String, ScheduleFunctionInfo> strandMetadata,
+                                  JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen) {
+        jvmBallerinaConstantsGen.generateConstantInit(jarEntries, jvmTypeGen, jvmCastGen);
         unionTypeConstantsGen.generateClass(jarEntries);
         errorTypeConstantsGen.generateClass(jarEntries);
         moduleConstantsGen.generateConstantInit(jarEntries);
@@ -163,10 +165,6 @@ public class JvmConstantsGen {
         return errorTypeConstantsGen.getErrorTypeConstantClass();
     }
 
-    public String getConstantClass() {
-        return jvmBallerinaConstantsGen.getConstantClass();
-    }
-
     public String getStrandMetadataConstantsClass() {
         return strandMetadataConstantsGen.getStrandMetadataConstantsClass();
     }
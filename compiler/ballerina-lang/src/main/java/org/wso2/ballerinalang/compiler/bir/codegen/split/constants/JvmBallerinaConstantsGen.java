@@ -18,26 +18,58 @@
 
 package org.wso2.ballerinalang.compiler.bir.codegen.split.constants;
 
+import org.ballerinalang.compiler.BLangCompilerException;
 import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.wso2.ballerinalang.compiler.bir.codegen.BallerinaClassWriter;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmCastGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil;
+import org.wso2.ballerinalang.compiler.bir.codegen.JvmTypeGen;
 import org.wso2.ballerinalang.compiler.bir.codegen.split.JvmConstantsGen;
 import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.TypeTags;
 
 import java.util.Map;
 
 import static org.objectweb.asm.ClassWriter.COMPUTE_FRAMES;
+import static org.objectweb.asm.Opcodes.AASTORE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.NEW;
 import static org.objectweb.asm.Opcodes.PUTSTATIC;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.getModuleLevelClassName;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmCodeGenUtil.toNameString;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_LIST_INITIAL_VALUE_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.B_MAPPING_INITIAL_VALUE_ENTRY;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CLASS_FILE_SUFFIX;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONSTANTS_CLASS_NAME;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.CONSTANT_INIT_METHOD_PREFIX;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.INSTANTIATE_FUNCTION;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.JVM_STATIC_INIT_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.LIST_INITIAL_EXPRESSION_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAPPING_INITIAL_KEY_VALUE_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAP_VALUE;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.MAX_CONSTANTS_PER_METHOD;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.STRING_UTILS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmConstants.TYPEDESC_VALUE_IMPL;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.FROM_STRING;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INIT_LIST_INITIAL_EXPRESSION_ENTRY;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.INSTANTIATE_WITH_INITIAL_VALUES;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TWO_OBJECTS_ARGS;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.TYPE_DESC_CONSTRUCTOR;
 import static org.wso2.ballerinalang.compiler.bir.codegen.JvmSignatures.VOID_METHOD_DESC;
+import static org.wso2.ballerinalang.compiler.bir.codegen.JvmValueGen.getTypeDescClassName;
 import static org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmConstantGenCommons.genMethodReturn;
 import static org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmConstantGenCommons.generateConstantsClassInit;
 
@@ -49,19 +81,17 @@ import static org.wso2.ballerinalang.compiler.bir.codegen.split.constants.JvmCon
 public class JvmBallerinaConstantsGen {
 
     private final String constantClass;
-    private final String moduleInitClass;
     private final JvmConstantsGen jvmConstantsGen;
     private final BIRNode.BIRPackage module;
 
-    public JvmBallerinaConstantsGen(BIRNode.BIRPackage module, String moduleInitClass,
-                                    JvmConstantsGen jvmConstantsGen) {
-        this.moduleInitClass = moduleInitClass;
+    public JvmBallerinaConstantsGen(BIRNode.BIRPackage module, JvmConstantsGen jvmConstantsGen) {
         this.constantClass = getModuleLevelClassName(module.packageID, CONSTANTS_CLASS_NAME);
         this.jvmConstantsGen = jvmConstantsGen;
         this.module = module;
     }
 
-    public void generateConstantInit(Map<String, byte[]> jarEntries) {
+    public void generateConstantInit(Map<String, byte[]> jarEntries, JvmTypeGen jvmTypeGen,
+                                     JvmCastGen jvmCastGen) {
 
         if (module.constants.isEmpty()) {
             return;
@@ -69,15 +99,17 @@ public class JvmBallerinaConstantsGen {
 
         ClassWriter cw = new BallerinaClassWriter(COMPUTE_FRAMES);
         generateConstantsClassInit(cw, constantClass);
+        module.constants.forEach(constant -> visitConstantField(cw, constant));
         // Create multiple module constant init methods based on module count.
-        generateConstantsInits(cw);
-        // Create static initializer which will call previously generated module init methods.
-        generateConstantInitPublicMethod(cw);
+        generateConstantsInits(cw, jvmTypeGen, jvmCastGen);
+        // Create static initializer which will call previously generated module init methods. Constant values are
+        // therefore only created when a constant of this module is accessed for the first time.
+        generateStaticInitializer(cw);
         cw.visitEnd();
         jarEntries.put(constantClass + CLASS_FILE_SUFFIX, cw.toByteArray());
     }
 
-    private void generateConstantsInits(ClassWriter cw) {
+    private void generateConstantsInits(ClassWriter cw, JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen) {
         MethodVisitor mv = null;
         int moduleCount = 0;
         int methodCount = 0;
@@ -86,7 +118,7 @@ public class JvmBallerinaConstantsGen {
                 mv = cw.visitMethod(ACC_STATIC, CONSTANT_INIT_METHOD_PREFIX + methodCount++, VOID_METHOD_DESC, null,
                         null);
             }
-            setConstantField(mv, constant, moduleInitClass, jvmConstantsGen);
+            setConstantField(mv, constant, jvmTypeGen, jvmCastGen);
             moduleCount++;
             if (moduleCount % MAX_CONSTANTS_PER_METHOD == 0) {
                 if (moduleCount != module.constants.size()) {
@@ -102,25 +134,112 @@ public class JvmBallerinaConstantsGen {
         }
     }
 
-    private void generateConstantInitPublicMethod(ClassWriter cw) {
-        MethodVisitor mv =
-                cw.visitMethod(ACC_STATIC + ACC_PUBLIC, CONSTANT_INIT_METHOD_PREFIX, VOID_METHOD_DESC, null, null);
+    private void visitConstantField(ClassWriter cw, BIRNode.BIRConstant constant) {
+        // Constant loads and stores use the type of the constant symbol, which may differ from the value type.
+        String descriptor = JvmCodeGenUtil.getFieldTypeSignature(constant.type);
+        FieldVisitor fv = cw.visitField(ACC_PUBLIC + ACC_STATIC, constant.name.value, descriptor, null, null);
+        fv.visitEnd();
+    }
+
+    private void generateStaticInitializer(ClassWriter cw) {
+        MethodVisitor mv = cw.visitMethod(ACC_STATIC, JVM_STATIC_INIT_METHOD, VOID_METHOD_DESC, null, null);
         mv.visitMethodInsn(INVOKESTATIC, constantClass, CONSTANT_INIT_METHOD_PREFIX + 0, VOID_METHOD_DESC, false);
         genMethodReturn(mv);
     }
 
-    private static void setConstantField(MethodVisitor mv, BIRNode.BIRConstant constant, String className,
-                                         JvmConstantsGen jvmConstantsGen) {
+    private void setConstantField(MethodVisitor mv, BIRNode.BIRConstant constant, JvmTypeGen jvmTypeGen,
+                                  JvmCastGen jvmCastGen) {
         BIRNode.ConstValue constValue = constant.constValue;
-        if (JvmCodeGenUtil.isSimpleBasicType(constValue.type)) {
-            String descriptor = JvmCodeGenUtil.getFieldTypeSignature(constValue.type);
-            JvmCodeGenUtil.loadConstantValue(constValue.type, constValue.value, mv, jvmConstantsGen);
-            mv.visitFieldInsn(PUTSTATIC, className, constant.name.value, descriptor);
+        loadConstValue(mv, constValue, jvmTypeGen, jvmCastGen);
+        String descriptor = JvmCodeGenUtil.getFieldTypeSignature(constant.type);
+        if (!descriptor.equals(JvmCodeGenUtil.getFieldTypeSignature(constValue.type))) {
+            jvmCastGen.addBoxInsn(mv, constValue.type);
         }
+        mv.visitFieldInsn(PUTSTATIC, constantClass, constant.name.value, descriptor);
     }
 
-    public String getConstantClass() {
-        return constantClass;
+    private void loadConstValue(MethodVisitor mv, BIRNode.ConstValue constValue, JvmTypeGen jvmTypeGen,
+                                JvmCastGen jvmCastGen) {
+        BType type = JvmCodeGenUtil.getImpliedType(constValue.type);
+        if (JvmCodeGenUtil.isSimpleBasicType(type)) {
+            JvmCodeGenUtil.loadConstantValue(type, constValue.value, mv, jvmConstantsGen);
+            return;
+        }
+        switch (type.tag) {
+            case TypeTags.RECORD -> loadRecordConstValue(mv, type, constValue, jvmTypeGen, jvmCastGen);
+            case TypeTags.TUPLE -> loadTupleConstValue(mv, type, constValue, jvmTypeGen, jvmCastGen);
+            default -> throw new BLangCompilerException("JVM generation is not supported for constant type : " +
+                    constValue.type);
+        }
     }
-}
 
+    @SuppressWarnings("unchecked")
+    private void loadRecordConstValue(MethodVisitor mv, BType recordType, BIRNode.ConstValue constValue,
+                                      JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen) {
+        String typedescClass = getTypeDescClassName(JvmCodeGenUtil.getPackageName(recordType.tsymbol.pkgID),
+                toNameString(recordType));
+        loadTypedesc(mv, typedescClass, recordType, jvmTypeGen);
+
+        Map<String, BIRNode.ConstValue> fields = (Map<String, BIRNode.ConstValue>) constValue.value;
+        mv.visitLdcInsn(fields.size());
+        mv.visitTypeInsn(ANEWARRAY, B_MAPPING_INITIAL_VALUE_ENTRY);
+        int i = 0;
+        for (Map.Entry<String, BIRNode.ConstValue> field : fields.entrySet()) {
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(i++);
+            mv.visitTypeInsn(NEW, MAPPING_INITIAL_KEY_VALUE_ENTRY);
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(field.getKey());
+            mv.visitMethodInsn(INVOKESTATIC, STRING_UTILS, "fromString", FROM_STRING, false);
+            loadMemberConstValue(mv, field.getValue(), jvmTypeGen, jvmCastGen);
+            mv.visitMethodInsn(INVOKESPECIAL, MAPPING_INITIAL_KEY_VALUE_ENTRY, JVM_INIT_METHOD, TWO_OBJECTS_ARGS,
+                    false);
+            mv.visitInsn(AASTORE);
+        }
+        instantiate(mv);
+    }
+
+    private void loadTupleConstValue(MethodVisitor mv, BType tupleType, BIRNode.ConstValue constValue,
+                                     JvmTypeGen jvmTypeGen, JvmCastGen jvmCastGen) {
+        loadTypedesc(mv, TYPEDESC_VALUE_IMPL, tupleType, jvmTypeGen);
+
+        BIRNode.ConstValue[] members = (BIRNode.ConstValue[]) constValue.value;
+        mv.visitLdcInsn(members.length);
+        mv.visitTypeInsn(ANEWARRAY, B_LIST_INITIAL_VALUE_ENTRY);
+        for (int i = 0; i < members.length; i++) {
+            mv.visitInsn(DUP);
+            mv.visitLdcInsn(i);
+            mv.visitTypeInsn(NEW, LIST_INITIAL_EXPRESSION_ENTRY);
+            mv.visitInsn(DUP);
+            loadMemberConstValue(mv, members[i], jvmTypeGen, jvmCastGen);
+            mv.visitMethodInsn(INVOKESPECIAL, LIST_INITIAL_EXPRESSION_ENTRY, JVM_INIT_METHOD,
+                    INIT_LIST_INITIAL_EXPRESSION_ENTRY, false);
+            mv.visitInsn(AASTORE);
+        }
+        instantiate(mv);
+    }
+
+    private void loadMemberConstValue(MethodVisitor mv, BIRNode.ConstValue member, JvmTypeGen jvmTypeGen,
+                                      JvmCastGen jvmCastGen) {
+        loadConstValue(mv, member, jvmTypeGen, jvmCastGen);
+        if (JvmCodeGenUtil.isSimpleBasicType(member.type)) {
+            jvmCastGen.addBoxInsn(mv, member.type);
+        }
+    }
+
+    private static void loadTypedesc(MethodVisitor mv, String typedescClass, BType type, JvmTypeGen jvmTypeGen) {
+        mv.visitTypeInsn(NEW, typedescClass);
+        mv.visitInsn(DUP);
+        jvmTypeGen.loadType(mv, type);
+        mv.visitInsn(ICONST_0);
+        mv.visitTypeInsn(ANEWARRAY, MAP_VALUE);
+        mv.visitMethodInsn(INVOKESPECIAL, typedescClass, JVM_INIT_METHOD, TYPE_DESC_CONSTRUCTOR, false);
+        // The value is created outside a strand, as constants are initialized when the class is first accessed.
+        mv.visitInsn(ACONST_NULL);
+    }
+
+    private static void instantiate(MethodVisitor mv) {
+        mv.visitMethodInsn(INVOKEINTERFACE, TYPEDESC_VALUE, INSTANTIATE_FUNCTION, INSTANTIATE_WITH_INITIAL_VALUES,
+                true);
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.bir.optimizer;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRBasicBlock;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRFunction;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRPackage;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode.BIRTypeDefinition;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.Names;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Removes the module level functions of dependency modules which are not reachable from the root modules.
+ * <p>
+ * Reachability is computed over the BIR of all the modules before code generation. A function is reachable if it is
+ * called, started asynchronously or referred to as a function pointer from a reachable function. The following
+ * functions are considered reachable, since they are called by the runtime or by Java code.
+ * <ul>
+ * <li>the default value functions of the parameters of every reachable function and method, which the runtime calls
+ * by name when a function pointer or a method is invoked without a defaultable argument</li>
+ * <li>every function of the root modules</li>
+ * <li>the init, start and stop functions of each module</li>
+ * <li>every method of a type definition, which covers service remote and resource methods and methods called from
+ * Java with {@code Runtime.callMethod}</li>
+ * <li>every function of a package which has external functions, since its Java code can call any of them by name
+ * with {@code Runtime.callFunction}</li>
+ * <li>every public function of the dependency modules, when a root module has external functions</li>
+ * </ul>
+ * Type definitions are never removed since they are reachable through typedescs at runtime.
+ *
+ * @since 2201.10.0
+ */
+public class BIRDeadFunctionEliminator {
+
+    private static final CompilerContext.Key<BIRDeadFunctionEliminator> BIR_DEAD_FUNCTION_ELIMINATOR =
+            new CompilerContext.Key<>();
+
+    private static final Set<String> MODULE_LIFECYCLE_FUNCTIONS = Set.of(Names.INIT_FUNCTION_SUFFIX.value,
+            Names.START_FUNCTION_SUFFIX.value, Names.STOP_FUNCTION_SUFFIX.value);
+
+    public static BIRDeadFunctionEliminator getInstance(CompilerContext context) {
+        BIRDeadFunctionEliminator eliminator = context.get(BIR_DEAD_FUNCTION_ELIMINATOR);
+        if (eliminator == null) {
+            eliminator = new BIRDeadFunctionEliminator(context);
+        }
+        return eliminator;
+    }
+
+    private BIRDeadFunctionEliminator(CompilerContext context) {
+        context.put(BIR_DEAD_FUNCTION_ELIMINATOR, this);
+    }
+
+    /**
+     * Removes the functions of the given dependency modules which are not reachable from the root modules.
+     *
+     * @param rootModules       modules of which all the functions are retained
+     * @param dependencyModules modules from which the unreachable functions are removed
+     * @return the modules from which functions were removed
+     */
+    public Set<PackageID> eliminate(Collection<BIRPackage> rootModules, Collection<BIRPackage> dependencyModules) {
+        Map<PackageID, Map<String, BIRFunction>> dependencyFunctions = new HashMap<>();
+        for (BIRPackage module : dependencyModules) {
+            Map<String, BIRFunction> functions =
+                    dependencyFunctions.computeIfAbsent(module.packageID, k -> new HashMap<>());
+            for (BIRFunction function : module.functions) {
+                functions.put(function.name.value, function);
+            }
+        }
+
+        Set<BIRFunction> reachable = new HashSet<>();
+        Deque<BIRFunction> worklist = new ArrayDeque<>();
+        boolean rootHasInterop = false;
+        for (BIRPackage module : rootModules) {
+            module.functions.forEach(function -> markReachable(function, reachable, worklist));
+            addTypeDefinitionMethods(module, reachable, worklist);
+            rootHasInterop |= hasExternalFunctions(module);
+        }
+        Set<String> packagesWithInterop = new HashSet<>();
+        for (BIRPackage module : dependencyModules) {
+            if (hasExternalFunctions(module)) {
+                packagesWithInterop.add(getPackageKey(module.packageID));
+            }
+        }
+        for (BIRPackage module : dependencyModules) {
+            boolean hasInterop = packagesWithInterop.contains(getPackageKey(module.packageID));
+            for (BIRFunction function : module.functions) {
+                if (hasInterop || MODULE_LIFECYCLE_FUNCTIONS.contains(function.name.value)
+                        || (rootHasInterop && Symbols.isFlagOn(function.flags, Flags.PUBLIC))) {
+                    markReachable(function, reachable, worklist);
+                }
+            }
+            addTypeDefinitionMethods(module, reachable, worklist);
+        }
+
+        while (!worklist.isEmpty()) {
+            BIRFunction function = worklist.pop();
+            markDefaultValueFunctions(function, dependencyFunctions, reachable, worklist);
+            if (function.basicBlocks == null) {
+                continue;
+            }
+            for (BIRBasicBlock basicBlock : function.basicBlocks) {
+                for (BIRNonTerminator instruction : basicBlock.instructions) {
+                    if (instruction instanceof BIRNonTerminator.FPLoad fpLoad) {
+                        markReachable(fpLoad.pkgId, fpLoad.funcName.value, dependencyFunctions, reachable, worklist);
+                    }
+                }
+                if (basicBlock.terminator instanceof BIRTerminator.Call call && !call.isVirtual) {
+                    markReachable(call.calleePkg, call.name.value, dependencyFunctions, reachable, worklist);
+                }
+            }
+        }
+
+        // The relative order of the remaining functions is kept, since the code generator expects the init, start
+        // and stop functions to be the first three functions of a module.
+        Set<PackageID> prunedModules = new HashSet<>();
+        for (BIRPackage module : dependencyModules) {
+            if (module.functions.removeIf(function -> !reachable.contains(function))) {
+                prunedModules.add(module.packageID);
+            }
+        }
+        return prunedModules;
+    }
+
+    private static boolean hasExternalFunctions(BIRPackage module) {
+        for (BIRFunction function : module.functions) {
+            if (Symbols.isFlagOn(function.flags, Flags.NATIVE)) {
+                return true;
+            }
+        }
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            for (BIRFunction function : typeDef.attachedFuncs) {
+                if (Symbols.isFlagOn(function.flags, Flags.NATIVE)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String getPackageKey(PackageID packageID) {
+        return packageID.orgName.value + "/" + packageID.pkgName.value + ":" + packageID.version.value;
+    }
+
+    private static void addTypeDefinitionMethods(BIRPackage module, Set<BIRFunction> reachable,
+                                                 Deque<BIRFunction> worklist) {
+        for (BIRTypeDefinition typeDef : module.typeDefs) {
+            typeDef.attachedFuncs.forEach(function -> markReachable(function, reachable, worklist));
+        }
+    }
+
+    private static void markDefaultValueFunctions(BIRFunction function,
+                                                  Map<PackageID, Map<String, BIRFunction>> dependencyFunctions,
+                                                  Set<BIRFunction> reachable, Deque<BIRFunction> worklist) {
+        if (function.type == null || !(function.type.tsymbol instanceof BInvokableTypeSymbol typeSymbol)) {
+            return;
+        }
+        for (BInvokableSymbol defaultValueFunction : typeSymbol.defaultValues.values()) {
+            markReachable(defaultValueFunction.pkgID, defaultValueFunction.name.value, dependencyFunctions,
+                    reachable, worklist);
+        }
+    }
+
+    private static void markReachable(PackageID packageID, String functionName,
+                                      Map<PackageID, Map<String, BIRFunction>> dependencyFunctions,
+                                      Set<BIRFunction> reachable, Deque<BIRFunction> worklist) {
+        Map<String, BIRFunction> functions = dependencyFunctions.get(packageID);
+        if (functions == null) {
+            return;
+        }
+        BIRFunction function = functions.get(functionName);
+        if (function != null) {
+            markReachable(function, reachable, worklist);
+        }
+    }
+
+    private static void markReachable(BIRFunction function, Set<BIRFunction> reachable,
+                                      Deque<BIRFunction> worklist) {
+        if (reachable.add(function)) {
+            worklist.push(function);
+        }
+    }
+}
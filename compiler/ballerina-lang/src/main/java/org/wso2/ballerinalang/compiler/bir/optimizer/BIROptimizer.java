@@ -39,6 +39,7 @@ import org.wso2.ballerinalang.compiler.bir.model.VarKind;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerPhaseProfiler;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 import org.wso2.ballerinalang.util.Lists;
 
@@ -65,6 +66,7 @@ public class BIROptimizer {
     private final BIRLockOptimizer lockOptimizer;
     private final BIRBasicBlockOptimizer bbOptimizer;
     private final LargeMethodOptimizer largeMethodOptimizer;
+    private final CompilerPhaseProfiler profiler;
 
     public static BIROptimizer getInstance(CompilerContext context) {
         BIROptimizer birGen = context.get(BIR_OPTIMIZER);
@@ -82,13 +84,22 @@ public class BIROptimizer {
         this.lockOptimizer = new BIRLockOptimizer();
         this.bbOptimizer = new BIRBasicBlockOptimizer();
         this.largeMethodOptimizer = new LargeMethodOptimizer(SymbolTable.getInstance(context));
+        this.profiler = CompilerPhaseProfiler.getInstance(context);
     }
 
     public void optimizePackage(BIRPackage pkg) {
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkg.packageID, "BIROptimizer")) {
+            optimize(pkg);
+        }
+    }
+
+    private void optimize(BIRPackage pkg) {
         // RHS temp var optimization
         pkg.accept(this.rhsTempVarOptimizer);
         // Split large BIR functions into smaller methods based on maps and arrays
-        largeMethodOptimizer.splitLargeBIRFunctions(pkg);
+        try (CompilerPhaseProfiler.Span span = profiler.start(pkg.packageID, "LargeMethodOptimizer")) {
+            largeMethodOptimizer.splitLargeBIRFunctions(pkg);
+        }
         // LHS temp var optimization
         this.lhsTempVarOptimizer.optimizeNode(pkg, null);
 
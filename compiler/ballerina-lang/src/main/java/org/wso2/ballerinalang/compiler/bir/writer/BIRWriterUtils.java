@@ -34,7 +34,7 @@ import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -222,7 +222,7 @@ public class BIRWriterUtils {
         int tag = Types.getImpliedType(type).tag;
 
         if (tag == TypeTags.RECORD) {
-            Map<String, BIRNode.ConstValue> mapConstVal = new HashMap<>();
+            Map<String, BIRNode.ConstValue> mapConstVal = new LinkedHashMap<>();
             ((Map<String, BLangConstantValue>) constValue.value)
                     .forEach((key, value) -> mapConstVal.put(key, getBIRConstantVal(value)));
             return new BIRNode.ConstValue(mapConstVal, type);
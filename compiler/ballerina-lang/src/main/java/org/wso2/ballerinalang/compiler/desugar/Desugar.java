@@ -789,7 +789,7 @@ public class Desugar extends BLangNodeVisitor {
         BLangBlockStmt serviceAttachments = serviceDesugar.rewriteServiceVariables(pkgNode.services, env);
         BLangBlockFunctionBody initFnBody = (BLangBlockFunctionBody) pkgNode.initFunction.body;
 
-        rewriteConstants(pkgNode, initFnBody);
+        rewriteConstants(pkgNode);
 
         pkgNode.constants = removeDuplicateConstants(pkgNode);
 
@@ -846,7 +846,7 @@ public class Desugar extends BLangNodeVisitor {
         result = pkgNode;
     }
 
-    private void rewriteConstants(BLangPackage pkgNode, BLangBlockFunctionBody initFnBody) {
+    private void rewriteConstants(BLangPackage pkgNode) {
         for (BLangConstant constant : pkgNode.constants) {
             BType constType = Types.getReferredType(constant.symbol.type);
             if (constType.tag != TypeTags.INTERSECTION) {
@@ -864,12 +864,10 @@ public class Desugar extends BLangNodeVisitor {
                     default:
                         continue;
                 }
-                BLangSimpleVarRef constVarRef = ASTBuilderUtil.createVariableRef(constant.pos, constant.symbol);
+                // The value is not assigned in the module init function. Record and tuple constants are created
+                // from their constant values when the module constants class is initialized.
                 constant.expr = rewrite(constant.expr,
                         SymbolEnv.createTypeEnv(typeNode, pkgNode.initFunction.symbol.scope, env));
-                BLangAssignment constInit = ASTBuilderUtil.createAssignmentStmt(constant.pos, constVarRef,
-                        constant.expr);
-                initFnBody.stmts.add(constInit);
             }
         }
     }
@@ -16,10 +16,13 @@
  */
 package org.wso2.ballerinalang.compiler.desugar;
 
+import io.ballerina.projects.ProjectKind;
 import io.ballerina.tools.diagnostics.Location;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.elements.Flag;
+import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
@@ -33,8 +36,10 @@ import org.wso2.ballerinalang.compiler.semantics.analyzer.Types;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolEnv;
 import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BOperatorSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.SchedulerPolicy;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
@@ -59,12 +64,14 @@ import org.wso2.ballerinalang.compiler.tree.BLangIdentifier;
 import org.wso2.ballerinalang.compiler.tree.BLangMarkdownReferenceDocumentation;
 import org.wso2.ballerinalang.compiler.tree.BLangNode;
 import org.wso2.ballerinalang.compiler.tree.BLangNodeVisitor;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.tree.BLangRecordVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangTableKeySpecifier;
 import org.wso2.ballerinalang.compiler.tree.BLangTupleVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangVariable;
 import org.wso2.ballerinalang.compiler.tree.BLangXMLNS;
+import org.wso2.ballerinalang.compiler.tree.SimpleBLangNodeAnalyzer;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangCollectClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangDoClause;
 import org.wso2.ballerinalang.compiler.tree.clauses.BLangFromClause;
@@ -186,7 +193,9 @@ import org.wso2.ballerinalang.compiler.tree.types.BLangLetVariable;
 import org.wso2.ballerinalang.compiler.tree.types.BLangRecordTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangUnionTypeNode;
 import org.wso2.ballerinalang.compiler.tree.types.BLangValueType;
+import org.wso2.ballerinalang.compiler.util.BArrayState;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 import org.wso2.ballerinalang.compiler.util.TypeTags;
@@ -226,6 +235,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_ADD_STREAM_FUNCTION = new Name("addStreamFunction");
     private static final Name QUERY_CONSUME_STREAM_FUNCTION = new Name("consumeStream");
     private static final Name QUERY_TO_ARRAY_FUNCTION = new Name("toArray");
+    private static final Name QUERY_MAP_PARTITIONS_FUNCTION = new Name("mapPartitions");
     private static final Name COLLECT_QUERY_FUNCTION = new Name("collectQuery");
     private static final Name QUERY_TO_STRING_FUNCTION = new Name("toString");
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
@@ -252,6 +262,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private final SymbolResolver symResolver;
     private final Names names;
     private final Types types;
+    private final boolean parallelQueries;
     private SymbolEnv env;
     private SymbolEnv queryEnv;
     private boolean containsCheckExpr;
@@ -267,6 +278,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         this.names = Names.getInstance(context);
         this.types = Types.getInstance(context);
         this.desugar = Desugar.getInstance(context);
+        this.parallelQueries = Boolean.parseBoolean(CompilerOptions.getInstance(context)
+                .get(CompilerOptionName.PARALLEL_QUERIES));
     }
 
     public static QueryDesugar getInstance(CompilerContext context) {
@@ -287,9 +300,13 @@ public class QueryDesugar extends BLangNodeVisitor {
      */
     BLangStatementExpression desugar(BLangQueryExpr queryExpr, SymbolEnv env,
                                      List<BLangStatement> stmtsToBePropagated) {
+        if (canDesugarToLoop(queryExpr, env)) {
+            return desugarToLoop(queryExpr, env);
+        }
         containsCheckExpr = false;
         HashSet<BType> prevCheckedErrorList = this.checkedErrorList;
         this.checkedErrorList = new HashSet<>();
+        SymbolEnv prevEnv = this.env;
 
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
@@ -351,9 +368,337 @@ public class QueryDesugar extends BLangNodeVisitor {
                 addTypeConversionExpr(result, queryExpr.getBType()));
         streamStmtExpr.setBType(resultType);
         this.checkedErrorList = prevCheckedErrorList;
+        this.env = prevEnv;
         return streamStmtExpr;
     }
 
+    /**
+     * Check whether the query expression can be desugared into a plain foreach loop instead of a stream pipeline.
+     * This is possible for queries of the form {@code from var x in list (let|where)* select expr} which produce
+     * an open, mutable array, as long as the clauses do not contain check expressions, closures or nested queries.
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return true if the query can be desugared into a loop.
+     */
+    private boolean canDesugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        if (queryExpr.isStream || queryExpr.isTable || queryExpr.isMap
+                || (env.scope.owner.tag & SymTag.INVOKABLE) != SymTag.INVOKABLE) {
+            return false;
+        }
+        BType queryType = Types.getImpliedType(queryExpr.getBType());
+        if (queryType.tag != TypeTags.ARRAY || ((BArrayType) queryType).state != BArrayState.OPEN
+                || Symbols.isFlagOn(queryType.flags, Flags.READONLY)) {
+            return false;
+        }
+
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        int lastIndex = clauses.size() - 1;
+        if (clauses.get(0).getKind() != NodeKind.FROM || clauses.get(lastIndex).getKind() != NodeKind.SELECT) {
+            return false;
+        }
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        if (fromClause.variableDefinitionNode.getKind() != NodeKind.VARIABLE_DEF
+                || Types.getImpliedType(fromClause.collection.getBType()).tag != TypeTags.ARRAY) {
+            return false;
+        }
+        for (int i = 1; i < lastIndex; i++) {
+            BLangNode clause = clauses.get(i);
+            if (clause.getKind() == NodeKind.LET_CLAUSE) {
+                for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                    if (letVariable.definitionNode.getKind() != NodeKind.VARIABLE_DEF) {
+                        return false;
+                    }
+                }
+            } else if (clause.getKind() != NodeKind.WHERE) {
+                return false;
+            }
+        }
+
+        LoopDesugarabilityAnalyzer analyzer = new LoopDesugarabilityAnalyzer();
+        for (int i = 1; i <= lastIndex; i++) {
+            analyzer.visitNode(clauses.get(i), null);
+        }
+        return analyzer.canDesugar;
+    }
+
+    /**
+     * Desugar a query expression into a foreach loop which appends the selected values to the result array.
+     * <pre>
+     * int[] res = from var x in arr let int y = x * 2 where y > 10 select y;
+     *
+     * is desugared into,
+     *
+     * int[] $queryResult$ = [];
+     * foreach var x in arr {
+     *     int y = x * 2;
+     *     if !(y > 10) {
+     *         continue;
+     *     }
+     *     $queryResult$[$queryResult$.length()] = y;
+     * }
+     * int[] res = $queryResult$;
+     * </pre>
+     *
+     * @param queryExpr query expression to be desugared.
+     * @param env       symbol env.
+     * @return desugared query expression.
+     */
+    private BLangStatementExpression desugarToLoop(BLangQueryExpr queryExpr, SymbolEnv env) {
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BArrayType resultType = (BArrayType) Types.getImpliedType(queryExpr.getBType());
+        BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
+
+        BVarSymbol resultSymbol = new BVarSymbol(0, Names.fromString("$queryResult$"), env.scope.owner.pkgID,
+                resultType, env.scope.owner, pos, VIRTUAL);
+        BLangSimpleVariable resultVariable = ASTBuilderUtil.createVariable(pos, "$queryResult$", resultType,
+                ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType), resultSymbol);
+        queryBlock.addStatement(ASTBuilderUtil.createVariableDef(pos, resultVariable));
+
+        if (parallelQueries && isRootPackage(env) && canRunInParallel(queryExpr, resultType, env)) {
+            addParallelQueryLoop(queryBlock, clauses, resultSymbol, resultType, env);
+        } else {
+            queryBlock.addStatement(createQueryLoop(clauses, fromClause.collection, resultSymbol, resultType));
+        }
+
+        BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock,
+                addTypeConversionExpr(ASTBuilderUtil.createVariableRef(pos, resultSymbol), queryExpr.getBType()));
+        stmtExpr.setBType(queryExpr.getBType());
+        return stmtExpr;
+    }
+
+    /**
+     * Creates the foreach loop which evaluates the clauses of a query for each member of `collection` and appends
+     * the selected values to the array referred by `resultSymbol`.
+     *
+     * @param clauses      query clauses.
+     * @param collection   collection to iterate.
+     * @param resultSymbol symbol of the result array.
+     * @param resultType   type of the result array.
+     * @return the created foreach loop.
+     */
+    private BLangForeach createQueryLoop(List<BLangNode> clauses, BLangExpression collection,
+                                         BVarSymbol resultSymbol, BArrayType resultType) {
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+
+        BLangForeach foreach = (BLangForeach) TreeBuilder.createForeachNode();
+        foreach.pos = pos;
+        foreach.collection = collection;
+        foreach.variableDefinitionNode = fromClause.variableDefinitionNode;
+        foreach.isDeclaredWithVar = fromClause.isDeclaredWithVar;
+        foreach.varType = fromClause.varType;
+        foreach.resultType = fromClause.resultType;
+        foreach.nillableResultType = fromClause.nillableResultType;
+        foreach.body = ASTBuilderUtil.createBlockStmt(pos);
+        addQueryLoopBody(foreach.body, clauses, resultSymbol, resultType);
+        return foreach;
+    }
+
+    /**
+     * Adds the statements which evaluate the let, where and select clauses of a query for the current member and
+     * append the selected value to the array referred by `resultSymbol`, to the body of the loop over the collection.
+     *
+     * @param loopBody     body of the loop.
+     * @param clauses      query clauses.
+     * @param resultSymbol symbol of the result array.
+     * @param resultType   type of the result array.
+     */
+    private void addQueryLoopBody(BLangBlockStmt loopBody, List<BLangNode> clauses, BVarSymbol resultSymbol,
+                                  BArrayType resultType) {
+        BLangSelectClause selectClause = (BLangSelectClause) clauses.get(clauses.size() - 1);
+        for (int i = 1; i < clauses.size() - 1; i++) {
+            BLangNode clause = clauses.get(i);
+            if (clause.getKind() == NodeKind.LET_CLAUSE) {
+                for (BLangLetVariable letVariable : ((BLangLetClause) clause).letVarDeclarations) {
+                    loopBody.addStatement((BLangStatement) letVariable.definitionNode);
+                }
+                continue;
+            }
+            BLangWhereClause whereClause = (BLangWhereClause) clause;
+            BLangGroupExpr notWhereExpr = new BLangGroupExpr();
+            notWhereExpr.setBType(symTable.booleanType);
+            notWhereExpr.expression = desugar.createNotBinaryExpression(whereClause.pos, whereClause.expression);
+            BLangBlockStmt continueBody = ASTBuilderUtil.createBlockStmt(whereClause.pos);
+            ASTBuilderUtil.createContinueStmt(whereClause.pos, continueBody);
+            loopBody.addStatement(ASTBuilderUtil.createIfElseStmt(whereClause.pos, notWhereExpr, continueBody,
+                    null));
+        }
+
+        // $queryResult$[$queryResult$.length()] = <select expr>;
+        Location selectPos = selectClause.pos;
+        BLangInvocation lengthInvocation = desugar.createLangLibInvocationNode("length",
+                ASTBuilderUtil.createVariableRef(selectPos, resultSymbol), new ArrayList<>(), symTable.intType,
+                selectPos);
+        BLangIndexBasedAccess resultAccessExpr = ASTBuilderUtil.createIndexBasesAccessExpr(selectPos,
+                resultType.eType, resultSymbol, lengthInvocation);
+        resultAccessExpr.isLValue = true;
+        loopBody.addStatement(ASTBuilderUtil.createAssignmentStmt(selectPos, resultAccessExpr,
+                types.addConversionExprIfRequired(selectClause.expression, resultType.eType)));
+    }
+
+    /**
+     * Checks whether the query is in a module of the package being built. Dependencies are compiled with the same
+     * compiler options, but the parallel evaluation of queries is only opted into for the root package.
+     *
+     * @param env symbol env.
+     * @return true if the query is not in a module of a bala dependency.
+     */
+    private boolean isRootPackage(SymbolEnv env) {
+        BLangPackage pkgNode = env.enclPkg;
+        return pkgNode.moduleContextDataHolder != null
+                && !pkgNode.moduleContextDataHolder.projectKind().equals(ProjectKind.BALA_PROJECT);
+    }
+
+    /**
+     * Checks whether the clauses of a loop desugarable query can be evaluated for different members of the
+     * collection concurrently, i.e. they only refer to variables bound by the query and constants, and only call
+     * lang library functions with immutable arguments, so they neither have side effects nor observe those of
+     * other partitions.
+     *
+     * @param queryExpr  query expression.
+     * @param resultType type of the result array.
+     * @param env        symbol env.
+     * @return true if the query can be evaluated in parallel.
+     */
+    private boolean canRunInParallel(BLangQueryExpr queryExpr, BArrayType resultType, SymbolEnv env) {
+        BInvokableSymbol mapPartitionsSymbol = getQueryLibInvokableSymbol(QUERY_MAP_PARTITIONS_FUNCTION);
+        BLangExpression collection = ((BLangFromClause) queryExpr.getQueryClauses().get(0)).collection;
+        // The arguments, including the partition function, are passed to `mapPartitions` with their own types.
+        if (!types.isAssignable(collection.getBType(), mapPartitionsSymbol.params.get(0).type)
+                || !types.isAssignable(resultType, mapPartitionsSymbol.params.get(1).type)
+                || !types.isAssignable(getPartitionFunctionType(resultType), mapPartitionsSymbol.params.get(2).type)) {
+            return false;
+        }
+
+        List<BLangNode> clauses = queryExpr.getQueryClauses();
+        ParallelizabilityAnalyzer analyzer = new ParallelizabilityAnalyzer(queryExpr.pos, types, env);
+        for (int i = 1; i < clauses.size(); i++) {
+            analyzer.visitNode(clauses.get(i), null);
+        }
+        return analyzer.canRunInParallel;
+    }
+
+    /**
+     * Returns the type of the function which evaluates a query for a partition of the collection, i.e.
+     * {@code function ((any|error)[] collection, int startIndex, int endIndex) returns R[]}.
+     *
+     * @param resultType type of the result array.
+     * @return type of the partition function.
+     */
+    private BInvokableType getPartitionFunctionType(BArrayType resultType) {
+        return new BInvokableType(Lists.of(new BArrayType(symTable.anyOrErrorType), symTable.intType,
+                symTable.intType), resultType, null);
+    }
+
+    /**
+     * Adds the statements which evaluate a loop desugarable query over partitions of the collection in parallel.
+     * <pre>
+     * int[] $queryResult$ = [];
+     * mapPartitions(arr, $queryResult$,
+     *         function ((any|error)[] $collection$, int $startIndex$, int $endIndex$) returns int[] {
+     *     int[] $partition$ = <int[]> $collection$;
+     *     int[] $partitionResult$ = [];
+     *     int $index$ = $startIndex$;
+     *     while $index$ < $endIndex$ {
+     *         var x = $partition$[$index$];
+     *         $index$ = $index$ + 1;
+     *         ...
+     *         $partitionResult$[$partitionResult$.length()] = y;
+     *     }
+     *     return $partitionResult$;
+     * });
+     * </pre>
+     * The collection itself is passed to each partition instead of a slice of it, hence the conversion to the type
+     * of the collection always succeeds. The partition results are appended to `$queryResult$` in the order of the
+     * partitions, hence the order of the result is the same as that of the sequential loop.
+     *
+     * @param queryBlock   block to add the statements to.
+     * @param clauses      query clauses.
+     * @param resultSymbol symbol of the result array.
+     * @param resultType   type of the result array.
+     * @param env          symbol env.
+     */
+    private void addParallelQueryLoop(BLangBlockStmt queryBlock, List<BLangNode> clauses, BVarSymbol resultSymbol,
+                                      BArrayType resultType, SymbolEnv env) {
+        SymbolEnv prevEnv = this.env;
+        this.env = env;
+        BLangFromClause fromClause = (BLangFromClause) clauses.get(0);
+        Location pos = fromClause.pos;
+        BType collectionType = fromClause.collection.getBType();
+        BInvokableType partitionFuncType = getPartitionFunctionType(resultType);
+
+        List<BLangSimpleVariable> params = new ArrayList<>();
+        String[] paramNames = {"$collection$", "$startIndex$", "$endIndex$"};
+        for (int i = 0; i < paramNames.length; i++) {
+            BType paramType = partitionFuncType.paramTypes.get(i);
+            BVarSymbol paramSymbol = new BVarSymbol(0, Names.fromString(paramNames[i]), env.scope.owner.pkgID,
+                    paramType, env.scope.owner, pos, VIRTUAL);
+            params.add(ASTBuilderUtil.createVariable(pos, paramNames[i], paramType, null, paramSymbol));
+        }
+        BLangBlockFunctionBody body = ASTBuilderUtil.createBlockFunctionBody(pos);
+        BLangLambdaFunction partitionFunc = createLambdaFunction(pos, params,
+                ASTBuilderUtil.createTypeNode(resultType), body);
+        List<BLangSimpleVariable> requiredParams = partitionFunc.function.requiredParams;
+        BInvokableSymbol partitionFuncSymbol = partitionFunc.function.symbol;
+        // Partitions do not share mutable state, hence they can be run on any thread of the scheduler.
+        partitionFuncSymbol.flags |= Flags.ISOLATED;
+        partitionFuncSymbol.schedulerPolicy = SchedulerPolicy.ANY;
+
+        BVarSymbol partitionSymbol = new BVarSymbol(0, Names.fromString("$partition$"), env.scope.owner.pkgID,
+                collectionType, partitionFuncSymbol, pos, VIRTUAL);
+        BLangSimpleVariable partitionVariable = ASTBuilderUtil.createVariable(pos, "$partition$", collectionType,
+                types.addConversionExprIfRequired(
+                        ASTBuilderUtil.createVariableRef(pos, requiredParams.get(0).symbol), collectionType),
+                partitionSymbol);
+        body.addStatement(ASTBuilderUtil.createVariableDef(pos, partitionVariable));
+
+        BVarSymbol partitionResultSymbol = new BVarSymbol(0, Names.fromString("$partitionResult$"),
+                env.scope.owner.pkgID, resultType, partitionFuncSymbol, pos, VIRTUAL);
+        BLangSimpleVariable partitionResultVariable = ASTBuilderUtil.createVariable(pos, "$partitionResult$",
+                resultType, ASTBuilderUtil.createEmptyArrayLiteral(pos, resultType), partitionResultSymbol);
+        body.addStatement(ASTBuilderUtil.createVariableDef(pos, partitionResultVariable));
+
+        BVarSymbol indexSymbol = new BVarSymbol(0, Names.fromString("$index$"), env.scope.owner.pkgID,
+                symTable.intType, partitionFuncSymbol, pos, VIRTUAL);
+        BLangSimpleVariable indexVariable = ASTBuilderUtil.createVariable(pos, "$index$", symTable.intType,
+                ASTBuilderUtil.createVariableRef(pos, requiredParams.get(1).symbol), indexSymbol);
+        body.addStatement(ASTBuilderUtil.createVariableDef(pos, indexVariable));
+
+        BLangBlockStmt whileBody = ASTBuilderUtil.createBlockStmt(pos);
+        BLangSimpleVariableDef memberDef = (BLangSimpleVariableDef) fromClause.variableDefinitionNode;
+        BType elementType = ((BArrayType) Types.getImpliedType(collectionType)).eType;
+        BLangIndexBasedAccess memberAccessExpr = ASTBuilderUtil.createIndexBasesAccessExpr(pos, elementType,
+                partitionSymbol, ASTBuilderUtil.createVariableRef(pos, indexSymbol));
+        memberDef.var.setInitialExpression(
+                types.addConversionExprIfRequired(memberAccessExpr, memberDef.var.getBType()));
+        whileBody.addStatement(memberDef);
+        // The index is incremented before the clauses, so that a where clause can continue to the next member.
+        BLangSimpleVarRef indexRef = ASTBuilderUtil.createVariableRef(pos, indexSymbol);
+        whileBody.addStatement(ASTBuilderUtil.createAssignmentStmt(pos, indexRef,
+                ASTBuilderUtil.createBinaryExpr(pos, indexRef, ASTBuilderUtil.createLiteral(pos, symTable.intType, 1L),
+                        symTable.intType, OperatorKind.ADD, (BOperatorSymbol) symResolver
+                                .resolveBinaryOperator(OperatorKind.ADD, symTable.intType, symTable.intType))));
+        addQueryLoopBody(whileBody, clauses, partitionResultSymbol, resultType);
+
+        BLangBinaryExpr condition = ASTBuilderUtil.createBinaryExpr(pos,
+                ASTBuilderUtil.createVariableRef(pos, indexSymbol),
+                ASTBuilderUtil.createVariableRef(pos, requiredParams.get(2).symbol), symTable.booleanType,
+                OperatorKind.LESS_THAN, (BOperatorSymbol) symResolver
+                        .resolveBinaryOperator(OperatorKind.LESS_THAN, symTable.intType, symTable.intType));
+        body.addStatement(ASTBuilderUtil.createWhile(pos, condition, whileBody));
+        BLangReturn returnStmt = ASTBuilderUtil.createReturnStmt(pos, body);
+        returnStmt.expr = ASTBuilderUtil.createVariableRef(pos, partitionResultSymbol);
+
+        BLangExpressionStmt mapPartitionsStmt = ASTBuilderUtil.createExpressionStmt(pos, queryBlock);
+        mapPartitionsStmt.expr = createQueryLibInvocation(QUERY_MAP_PARTITIONS_FUNCTION,
+                Lists.of(fromClause.collection, ASTBuilderUtil.createVariableRef(pos, resultSymbol), partitionFunc),
+                pos);
+        this.env = prevEnv;
+    }
+
     private BMapType getMapType(BType type) {
         BMapType resultantType = (BMapType) Types.getImpliedType(types.getSafeType(type, false, true));
         return resultantType;
@@ -391,6 +736,7 @@ public class QueryDesugar extends BLangNodeVisitor {
         containsCheckExpr = false;
         HashSet<BType> prevCheckedErrorList = this.checkedErrorList;
         this.checkedErrorList = new HashSet<>();
+        SymbolEnv prevEnv = this.env;
         List<BLangNode> clauses = queryAction.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BType returnType = symTable.errorOrNilType;
@@ -409,6 +755,7 @@ public class QueryDesugar extends BLangNodeVisitor {
                 addTypeConversionExpr(result, returnType));
         stmtExpr.setBType(returnType);
         this.checkedErrorList = prevCheckedErrorList;
+        this.env = prevEnv;
         return stmtExpr;
     }
 
@@ -559,7 +906,8 @@ public class QueryDesugar extends BLangNodeVisitor {
                     addStreamFunction(block, initPipeline, doFunc);
                     break;
                 case LIMIT:
-                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause);
+                    BLangVariableReference limitFunc = addLimitFunction(block, (BLangLimitClause) clause,
+                            initFromClause.pos);
                     addStreamFunction(block, initPipeline, limitFunc);
                     break;
                 case ON_CONFLICT:
@@ -985,17 +1333,25 @@ public class QueryDesugar extends BLangNodeVisitor {
      *
      * @param blockStmt parent block to write to.
      * @param limitClause  to be desugared.
+     * @param queryPos  position of the first clause of the query.
      * @return variableReference to created do _StreamFunction.
      */
-    BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause) {
+    BLangVariableReference addLimitFunction(BLangBlockStmt blockStmt, BLangLimitClause limitClause,
+                                            Location queryPos) {
         Location pos = limitClause.pos;
+        // The limit can be applied while ordering the frames if it is the same for all the frames.
+        FrameIndependenceAnalyzer frameIndependenceAnalyzer = new FrameIndependenceAnalyzer(queryPos, pos);
+        frameIndependenceAnalyzer.visitNode(limitClause.expression, null);
+        BLangLiteral isFrameIndependent = ASTBuilderUtil.createLiteral(pos, symTable.booleanType,
+                frameIndependenceAnalyzer.isFrameIndependent);
         BLangUnionTypeNode returnTypeNode = getIntErrorTypeNode();
         BLangReturn returnNode = (BLangReturn) TreeBuilder.createReturnNode();
         returnNode.expr = types.addConversionExprIfRequired(limitClause.expression, returnTypeNode.getBType());
         returnNode.pos = pos;
         BLangLambdaFunction limitFunction = createLambdaFunction(pos, returnTypeNode, returnNode, false);
         limitFunction.accept(this);
-        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION, Lists.of(limitFunction), pos);
+        return getStreamFunctionVariableRef(blockStmt, QUERY_CREATE_LIMIT_FUNCTION,
+                Lists.of(limitFunction, isFrameIndependent), pos);
     }
 
     /**
@@ -2814,4 +3170,177 @@ public class QueryDesugar extends BLangNodeVisitor {
         }
         return nodeList;
     }
+
+    /**
+     * Finds nodes within query clauses which require the stream pipeline based desugar, i.e. check expressions whose
+     * errors have to be propagated from the query, closures which capture query variables and nested queries.
+     */
+    private static class LoopDesugarabilityAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private boolean canDesugar = true;
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case CHECK_EXPR:
+                case LAMBDA:
+                case ARROW_EXPR:
+                case QUERY_EXPR:
+                case DO_ACTION:
+                case OBJECT_CTOR_EXPRESSION:
+                case WORKER_ASYNC_SEND:
+                case WORKER_SYNC_SEND:
+                case WORKER_RECEIVE:
+                    canDesugar = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
+
+    /**
+     * Checks whether the clauses of a query only refer to the variables bound by the query and constants, and only
+     * call lang library functions with immutable arguments, so that the query can be evaluated for different members
+     * of the collection concurrently. Being isolated is not sufficient here, since an isolated function can still do
+     * I/O or mutate the values passed to it.
+     */
+    private static class ParallelizabilityAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Location queryPos;
+        private final Types types;
+        private final SymbolEnv env;
+        private boolean canRunInParallel = true;
+
+        ParallelizabilityAnalyzer(Location queryPos, Types types, SymbolEnv env) {
+            this.queryPos = queryPos;
+            this.types = types;
+            this.env = env;
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case SIMPLE_VARIABLE_REF:
+                    BSymbol symbol = ((BLangSimpleVarRef) node).symbol;
+                    if (symbol == null || ((symbol.tag & SymTag.CONSTANT) != SymTag.CONSTANT
+                            && !isDeclaredInQuery(symbol.pos))) {
+                        canRunInParallel = false;
+                    }
+                    break;
+                case INVOCATION:
+                    if (!isSideEffectFree((BLangInvocation) node)) {
+                        canRunInParallel = false;
+                    }
+                    break;
+                case TYPE_INIT_EXPR:
+                case COLLECT_CONTEXT_INVOCATION:
+                    canRunInParallel = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private boolean isSideEffectFree(BLangInvocation invocation) {
+            BSymbol symbol = invocation.symbol;
+            if (invocation.async || symbol == null || !Symbols.isFlagOn(symbol.flags, Flags.ISOLATED)) {
+                return false;
+            }
+            // lang.runtime and the Java interop module are lang library modules which can have side effects.
+            PackageID pkgID = symbol.pkgID;
+            if (!PackageID.isLangLibPackageID(pkgID) || pkgID.equals(PackageID.RUNTIME)
+                    || pkgID.name.equals(Names.JAVA)) {
+                return false;
+            }
+            if (invocation.expr != null && !isImmutable(invocation.expr)) {
+                return false;
+            }
+            for (BLangExpression arg : invocation.requiredArgs) {
+                if (!isImmutable(arg)) {
+                    return false;
+                }
+            }
+            for (BLangExpression arg : invocation.restArgs) {
+                if (!isImmutable(arg)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean isImmutable(BLangExpression expr) {
+            return expr.getBType() != null && types.isSubTypeOfReadOnly(expr.getBType(), env);
+        }
+
+        private boolean isDeclaredInQuery(Location symbolPos) {
+            if (symbolPos == null || queryPos == null
+                    || !symbolPos.lineRange().fileName().equals(queryPos.lineRange().fileName())) {
+                return false;
+            }
+            int offset = symbolPos.textRange().startOffset();
+            return offset >= queryPos.textRange().startOffset() && offset < queryPos.textRange().endOffset();
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
+
+    /**
+     * Checks whether an expression evaluates to the same value for every frame of a query, i.e. it does not refer to
+     * the variables bound by the query and does not call functions.
+     */
+    private static class FrameIndependenceAnalyzer extends SimpleBLangNodeAnalyzer<Object> {
+
+        private final Location queryPos;
+        private final Location clausePos;
+        private boolean isFrameIndependent = true;
+
+        FrameIndependenceAnalyzer(Location queryPos, Location clausePos) {
+            this.queryPos = queryPos;
+            this.clausePos = clausePos;
+        }
+
+        @Override
+        public void analyzeNode(BLangNode node, Object data) {
+            switch (node.getKind()) {
+                case SIMPLE_VARIABLE_REF:
+                    BSymbol symbol = ((BLangSimpleVarRef) node).symbol;
+                    if (symbol == null || isDeclaredInQuery(symbol.pos)) {
+                        isFrameIndependent = false;
+                    }
+                    break;
+                case INVOCATION:
+                case TYPE_INIT_EXPR:
+                case LAMBDA:
+                case ARROW_EXPR:
+                case QUERY_EXPR:
+                case CHECK_EXPR:
+                    isFrameIndependent = false;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private boolean isDeclaredInQuery(Location symbolPos) {
+            if (symbolPos == null || queryPos == null || clausePos == null) {
+                return true;
+            }
+            if (!symbolPos.lineRange().fileName().equals(queryPos.lineRange().fileName())) {
+                return false;
+            }
+            int offset = symbolPos.textRange().startOffset();
+            return offset >= queryPos.textRange().startOffset() && offset < clausePos.textRange().startOffset();
+        }
+
+        @Override
+        public void visit(BLangPackage node, Object data) {
+        }
+    }
 }
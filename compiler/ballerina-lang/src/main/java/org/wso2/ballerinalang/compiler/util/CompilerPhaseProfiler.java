@@ -0,0 +1,233 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.util;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records wall time, CPU time and allocated bytes of each compiler phase per module.
+ * <p>
+ * Profiling is enabled only when the {@link CompilerOptionName#DUMP_BUILD_TIME} option is set. When disabled,
+ * {@link #start(PackageID, String)} returns a no-op span so that the instrumented phases do not pay for it.
+ *
+ * @since 2201.10.0
+ */
+public class CompilerPhaseProfiler {
+
+    private static final CompilerContext.Key<CompilerPhaseProfiler> PHASE_PROFILER_KEY = new CompilerContext.Key<>();
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+    private static final Span NO_OP_SPAN = new Span(null, null, null, 0, 0, 0);
+
+    private final CompilerOptions options;
+    private final long origin;
+    private final List<PhaseTiming> timings;
+
+    public static CompilerPhaseProfiler getInstance(CompilerContext context) {
+        CompilerPhaseProfiler profiler = context.get(PHASE_PROFILER_KEY);
+        if (profiler == null) {
+            profiler = new CompilerPhaseProfiler(context);
+        }
+        return profiler;
+    }
+
+    private CompilerPhaseProfiler(CompilerContext context) {
+        context.put(PHASE_PROFILER_KEY, this);
+        this.options = CompilerOptions.getInstance(context);
+        this.origin = System.nanoTime();
+        this.timings = new ArrayList<>();
+    }
+
+    public boolean isEnabled() {
+        return Boolean.parseBoolean(options.get(CompilerOptionName.DUMP_BUILD_TIME));
+    }
+
+    /**
+     * Starts timing the given phase of a module. The returned span must be closed when the phase completes.
+     *
+     * @param moduleId module being compiled
+     * @param phase    name of the compiler phase
+     * @return span to be closed at the end of the phase
+     */
+    public Span start(PackageID moduleId, String phase) {
+        if (!isEnabled()) {
+            return NO_OP_SPAN;
+        }
+        return new Span(this, moduleId.toString(), phase, System.nanoTime(), currentThreadCpuTime(),
+                currentThreadAllocatedBytes());
+    }
+
+    public List<PhaseTiming> timings() {
+        synchronized (timings) {
+            return new ArrayList<>(timings);
+        }
+    }
+
+    public void reset() {
+        synchronized (timings) {
+            timings.clear();
+        }
+    }
+
+    /**
+     * Returns the recorded timings aggregated per module and phase as a JSON document.
+     *
+     * @return JSON string
+     */
+    public String toJson() {
+        Map<String, Map<String, PhaseTiming>> modules = new LinkedHashMap<>();
+        for (PhaseTiming timing : timings()) {
+            Map<String, PhaseTiming> phases = modules.computeIfAbsent(timing.module, k -> new LinkedHashMap<>());
+            phases.merge(timing.phase, timing, PhaseTiming::add);
+        }
+
+        JsonObject root = new JsonObject();
+        JsonObject modulesJson = new JsonObject();
+        for (Map.Entry<String, Map<String, PhaseTiming>> module : modules.entrySet()) {
+            JsonObject phasesJson = new JsonObject();
+            for (PhaseTiming timing : module.getValue().values()) {
+                JsonObject phaseJson = new JsonObject();
+                phaseJson.addProperty("wallTimeMs", toMillis(timing.wallTimeNanos));
+                phaseJson.addProperty("cpuTimeMs", toMillis(timing.cpuTimeNanos));
+                phaseJson.addProperty("allocatedBytes", timing.allocatedBytes);
+                phasesJson.add(timing.phase, phaseJson);
+            }
+            modulesJson.add(module.getKey(), phasesJson);
+        }
+        root.add("modules", modulesJson);
+        return new GsonBuilder().setPrettyPrinting().create().toJson(root);
+    }
+
+    /**
+     * Returns the recorded timings in the Chrome trace event format, which can be loaded in
+     * {@code chrome://tracing} or Perfetto.
+     *
+     * @return JSON string
+     */
+    public String toChromeTrace() {
+        JsonArray events = new JsonArray();
+        for (PhaseTiming timing : timings()) {
+            JsonObject event = new JsonObject();
+            event.addProperty("name", timing.phase);
+            event.addProperty("cat", timing.module);
+            event.addProperty("ph", "X");
+            event.addProperty("ts", (timing.startNanos - origin) / 1000);
+            event.addProperty("dur", timing.wallTimeNanos / 1000);
+            event.addProperty("pid", 1);
+            event.addProperty("tid", timing.threadId);
+            JsonObject args = new JsonObject();
+            args.addProperty("module", timing.module);
+            args.addProperty("cpuTimeMs", toMillis(timing.cpuTimeNanos));
+            args.addProperty("allocatedBytes", timing.allocatedBytes);
+            event.add("args", args);
+            events.add(event);
+        }
+        JsonObject root = new JsonObject();
+        root.add("traceEvents", events);
+        return new GsonBuilder().create().toJson(root);
+    }
+
+    private void record(PhaseTiming timing) {
+        synchronized (timings) {
+            timings.add(timing);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static long currentThreadCpuTime() {
+        return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() ? THREAD_MX_BEAN.getCurrentThreadCpuTime() : 0;
+    }
+
+    private static long currentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean threadMXBean &&
+                threadMXBean.isThreadAllocatedMemorySupported()) {
+            return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * Represents an in-progress phase measurement.
+     *
+     * @since 2201.10.0
+     */
+    public static class Span implements AutoCloseable {
+
+        private final CompilerPhaseProfiler profiler;
+        private final String module;
+        private final String phase;
+        private final long startNanos;
+        private final long startCpuNanos;
+        private final long startAllocatedBytes;
+
+        private Span(CompilerPhaseProfiler profiler, String module, String phase, long startNanos,
+                     long startCpuNanos, long startAllocatedBytes) {
+            this.profiler = profiler;
+            this.module = module;
+            this.phase = phase;
+            this.startNanos = startNanos;
+            this.startCpuNanos = startCpuNanos;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            profiler.record(new PhaseTiming(module, phase, Thread.currentThread().getId(), startNanos,
+                    System.nanoTime() - startNanos, currentThreadCpuTime() - startCpuNanos,
+                    currentThreadAllocatedBytes() - startAllocatedBytes));
+        }
+    }
+
+    /**
+     * Represents the measurement of a single compiler phase of a module.
+     *
+     * @param module         module the phase ran on
+     * @param phase          name of the compiler phase
+     * @param threadId       id of the thread the phase ran on
+     * @param startNanos     start time as given by {@link System#nanoTime()}
+     * @param wallTimeNanos  elapsed wall time
+     * @param cpuTimeNanos   CPU time consumed by the thread
+     * @param allocatedBytes bytes allocated by the thread
+     * @since 2201.10.0
+     */
+    public record PhaseTiming(String module, String phase, long threadId, long startNanos, long wallTimeNanos,
+                              long cpuTimeNanos, long allocatedBytes) {
+
+        private static PhaseTiming add(PhaseTiming t1, PhaseTiming t2) {
+            return new PhaseTiming(t1.module, t1.phase, t1.threadId, Math.min(t1.startNanos, t2.startNanos),
+                    t1.wallTimeNanos + t2.wallTimeNanos, t1.cpuTimeNanos + t2.cpuTimeNanos,
+                    t1.allocatedBytes + t2.allocatedBytes);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects;
+
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.ResolutionOptions;
+import io.ballerina.projects.environment.ResolutionRequest;
+import io.ballerina.projects.internal.repositories.FileSystemRepository;
+import io.ballerina.projects.internal.repositories.RemotePackageRepository;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import org.apache.commons.io.FileUtils;
+import org.ballerinalang.central.client.CentralAPIClient;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test pulling packages concurrently from a mock central.
+ *
+ * @since 2201.10.0
+ */
+public class RemotePackageRepositoryPullTests {
+
+    private static final Path TEST_REPO = Paths.get("src", "test", "resources", "test-repo", "bala", "hevayo");
+    private static final String PACKAGES_PATH = "/registry/packages/hevayo/";
+    private static final String BALA_PATH = "/bala/hevayo/";
+    private static final List<String> PACKAGES = List.of("package_a/0.1.5", "package_b/0.2.0", "package_d/0.1.2");
+
+    private final Map<String, Boolean> concurrentPulls = new ConcurrentHashMap<>();
+    private final CountDownLatch startedPulls = new CountDownLatch(PACKAGES.size());
+    private MockWebServer centralServer;
+    private Path cacheDirectory;
+    private RemotePackageRepository remotePackageRepository;
+    private FileSystemRepository fileSystemRepository;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        centralServer = new MockWebServer();
+        centralServer.setDispatcher(new CentralDispatcher());
+        centralServer.start();
+        cacheDirectory = Files.createTempDirectory("remote-repo-pull-test-");
+        fileSystemRepository = new FileSystemRepository(new Environment() {
+            @Override
+            public <T> T getService(Class<T> clazz) {
+                return null;
+            }
+        }, cacheDirectory);
+        String centralUrl = centralServer.url("/registry").toString();
+        remotePackageRepository = new RemotePackageRepository(fileSystemRepository,
+                new CentralAPIClient(centralUrl, null, ""));
+    }
+
+    @Test(description = "Test pulling packages concurrently when one of them is not found in central")
+    public void testPullPackages() {
+        List<ResolutionRequest> requests = List.of(
+                resolutionRequest("package_a", "0.1.5"),
+                resolutionRequest("package_b", "0.2.0"),
+                resolutionRequest("package_d", "0.1.2"),
+                resolutionRequest("package_x", "1.0.0"));
+        remotePackageRepository.pullPackages(requests, ResolutionOptions.builder().setOffline(false).build());
+
+        // Every pull has completed once the method returns
+        for (ResolutionRequest request : requests.subList(0, PACKAGES.size())) {
+            Assert.assertTrue(fileSystemRepository.isPackageExists(request.orgName(), request.packageName(),
+                    request.version().orElseThrow()), request.packageName() + " is not pulled");
+        }
+        Assert.assertFalse(fileSystemRepository.isPackageExists(PackageOrg.from("hevayo"),
+                PackageName.from("package_x"), PackageVersion.from("1.0.0")));
+        Assert.assertEquals(concurrentPulls.size(), PACKAGES.size());
+        Assert.assertFalse(concurrentPulls.containsValue(false), "packages are not pulled concurrently");
+    }
+
+    @AfterClass
+    public void tearDown() throws IOException {
+        centralServer.shutdown();
+        FileUtils.deleteDirectory(cacheDirectory.toFile());
+    }
+
+    private static ResolutionRequest resolutionRequest(String packageName, String version) {
+        return ResolutionRequest.from(PackageDescriptor.from(PackageOrg.from("hevayo"),
+                PackageName.from(packageName), PackageVersion.from(version)), PackageDependencyScope.DEFAULT);
+    }
+
+    /**
+     * Serves the packages of the test repository in the same way as central. A package is resolved to the
+     * location of its bala, which is then downloaded separately.
+     */
+    private class CentralDispatcher extends Dispatcher {
+
+        @Override
+        public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+            String path = request.getPath();
+            if (path == null) {
+                return new MockResponse().setResponseCode(HttpURLConnection.HTTP_NOT_FOUND);
+            }
+            if (path.startsWith(PACKAGES_PATH) && PACKAGES.contains(path.substring(PACKAGES_PATH.length()))) {
+                String pkg = path.substring(PACKAGES_PATH.length());
+                // The packages are pulled concurrently if all of them are requested before any of them is served
+                startedPulls.countDown();
+                concurrentPulls.put(pkg, startedPulls.await(10, TimeUnit.SECONDS));
+                String balaName = getBalaName(pkg);
+                return new MockResponse().setResponseCode(HttpURLConnection.HTTP_MOVED_TEMP)
+                        .setHeader("Location", centralServer.url(BALA_PATH + pkg + "/" + balaName))
+                        .setHeader("Content-Disposition", "attachment; filename=" + balaName)
+                        .setHeader("digest", "sha-256=" + getDigest(getBala(pkg)));
+            }
+            if (path.startsWith(BALA_PATH)) {
+                String pkg = path.substring(BALA_PATH.length(), path.lastIndexOf('/'));
+                return new MockResponse().setResponseCode(HttpURLConnection.HTTP_OK)
+                        .setHeader("Content-Type", "application/octet-stream")
+                        .setBody(new Buffer().write(getBala(pkg)));
+            }
+            return new MockResponse().setResponseCode(HttpURLConnection.HTTP_NOT_FOUND);
+        }
+
+        private String getBalaName(String pkg) {
+            String[] parts = pkg.split("/");
+            return "hevayo-" + parts[0] + "-any-" + parts[1] + ".bala";
+        }
+
+        private byte[] getBala(String pkg) {
+            try {
+                return Files.readAllBytes(TEST_REPO.resolve(pkg).resolve(getBalaName(pkg)));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        private String getDigest(byte[] bala) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bala));
+            } catch (NoSuchAlgorithmException e) {
+                throw new AssertionError(e);
+            }
+        }
+    }
+}
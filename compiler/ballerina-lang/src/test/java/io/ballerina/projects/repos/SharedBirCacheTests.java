@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package io.ballerina.projects.repos;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Test the process wide cache of the BIR files of the immutable repository caches.
+ *
+ * @since 2201.10.0
+ */
+public class SharedBirCacheTests {
+
+    @Test(description = "A cached BIR is not read again from the file system")
+    public void testCachedBirIsNotReadAgain() throws IOException {
+        byte[] content = {1, 2, 3, 4};
+        Path birFile = Files.createTempFile("shared-bir-cache", ".bir");
+        Files.write(birFile, content);
+        Assert.assertEquals(SharedBirCache.read(birFile), content);
+
+        // The second lookup succeeds although the file no longer exists, so it does not read the file
+        Files.delete(birFile);
+        Assert.assertEquals(SharedBirCache.read(birFile), content);
+    }
+
+    @Test(description = "Callers cannot modify the cached BIR")
+    public void testCallersGetTheirOwnCopy() throws IOException {
+        byte[] content = {1, 2, 3, 4};
+        Path birFile = Files.createTempFile("shared-bir-cache", ".bir");
+        Files.write(birFile, content);
+
+        byte[] firstCopy = SharedBirCache.read(birFile);
+        firstCopy[0] = 0;
+        byte[] secondCopy = SharedBirCache.read(birFile);
+        Assert.assertNotSame(secondCopy, firstCopy);
+        Assert.assertEquals(secondCopy, content);
+        Files.delete(birFile);
+    }
+}
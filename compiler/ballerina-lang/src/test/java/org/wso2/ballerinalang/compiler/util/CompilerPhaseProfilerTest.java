@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.wso2.ballerinalang.compiler.util;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the {@link CompilerPhaseProfiler} class.
+ *
+ * @since 2201.10.0
+ */
+public class CompilerPhaseProfilerTest {
+
+    private static final PackageID MODULE_ID = new PackageID(new Name("foo"), new Name("bar"), new Name("1.0.0"));
+
+    @Test
+    public void testDisabledByDefault() {
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(new CompilerContext());
+        try (CompilerPhaseProfiler.Span span = profiler.start(MODULE_ID, "Desugar")) {
+            Assert.assertFalse(profiler.isEnabled());
+        }
+        Assert.assertTrue(profiler.timings().isEmpty());
+    }
+
+    @Test
+    public void testPhaseTimings() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions.getInstance(context).put(CompilerOptionName.DUMP_BUILD_TIME, "true");
+        CompilerPhaseProfiler profiler = CompilerPhaseProfiler.getInstance(context);
+        for (int i = 0; i < 2; i++) {
+            try (CompilerPhaseProfiler.Span span = profiler.start(MODULE_ID, "Desugar")) {
+                Assert.assertTrue(profiler.isEnabled());
+            }
+        }
+        try (CompilerPhaseProfiler.Span span = profiler.start(MODULE_ID, "BIRGen")) {
+            Assert.assertTrue(profiler.isEnabled());
+        }
+        Assert.assertEquals(profiler.timings().size(), 3);
+
+        JsonObject phases = JsonParser.parseString(profiler.toJson()).getAsJsonObject()
+                .getAsJsonObject("modules").getAsJsonObject(MODULE_ID.toString());
+        Assert.assertEquals(phases.keySet().size(), 2);
+        Assert.assertTrue(phases.getAsJsonObject("Desugar").has("cpuTimeMs"));
+        Assert.assertTrue(phases.getAsJsonObject("BIRGen").has("allocatedBytes"));
+
+        JsonObject trace = JsonParser.parseString(profiler.toChromeTrace()).getAsJsonObject();
+        Assert.assertEquals(trace.getAsJsonArray("traceEvents").size(), 3);
+
+        profiler.reset();
+        Assert.assertTrue(profiler.timings().isEmpty());
+    }
+}
@@ -34,6 +34,17 @@ import java.util.Collection;
 public abstract class STAbstractNodeFactory {
     private static final STNodeList EMPTY_LIST = new STNodeList();
 
+    // Minutiae are immutable and the same whitespace and end of line minutiae repeat throughout the source files,
+    // hence the common ones are shared by all the syntax trees instead of creating a node for each occurrence.
+    private static final int MAX_CACHED_WHITESPACE_LENGTH = 32;
+    private static final STMinutiae[] SPACE_MINUTIAE = createWhitespaceMinutiaeCache(' ');
+    private static final STMinutiae[] TAB_MINUTIAE = createWhitespaceMinutiaeCache('\t');
+    private static final STMinutiae LF_MINUTIAE = new STMinutiae(SyntaxKind.END_OF_LINE_MINUTIAE, "\n");
+    private static final STMinutiae CRLF_MINUTIAE = new STMinutiae(SyntaxKind.END_OF_LINE_MINUTIAE, "\r\n");
+    private static final STNodeList SINGLE_SPACE_LIST = new STNodeList(SPACE_MINUTIAE[1]);
+    private static final STNodeList LF_LIST = new STNodeList(LF_MINUTIAE);
+    private static final STNodeList CRLF_LIST = new STNodeList(CRLF_MINUTIAE);
+
     public static STToken createIdentifierToken(String text, STNode leadingTrivia, STNode trailingTrivia) {
         return new STIdentifierToken(text, leadingTrivia, trailingTrivia);
     }
@@ -49,6 +60,12 @@ public abstract class STAbstractNodeFactory {
         if (children.isEmpty()) {
             return EMPTY_LIST;
         }
+        if (children.size() == 1) {
+            STNodeList cachedList = getCachedMinutiaeList(children.iterator().next());
+            if (cachedList != null) {
+                return cachedList;
+            }
+        }
         return new STNodeList(children);
     }
 
@@ -56,6 +73,12 @@ public abstract class STAbstractNodeFactory {
         if (children.length == 0) {
             return EMPTY_LIST;
         }
+        if (children.length == 1) {
+            STNodeList cachedList = getCachedMinutiaeList(children[0]);
+            if (cachedList != null) {
+                return cachedList;
+            }
+        }
         return new STNodeList(children);
     }
 
@@ -113,7 +136,8 @@ public abstract class STAbstractNodeFactory {
     }
 
     public static STNode createMinutiae(SyntaxKind kind, String text) {
-        return new STMinutiae(kind, text);
+        STMinutiae cachedMinutiae = getCachedMinutiae(kind, text);
+        return cachedMinutiae != null ? cachedMinutiae : new STMinutiae(kind, text);
     }
 
     /**
@@ -152,4 +176,51 @@ public abstract class STAbstractNodeFactory {
                                                        Collection<STNodeDiagnostic> diagnostics) {
         return new STDocumentationLineToken(text, leadingTrivia, trailingTrivia, diagnostics);
     }
+
+    private static STMinutiae[] createWhitespaceMinutiaeCache(char whitespace) {
+        STMinutiae[] minutiae = new STMinutiae[MAX_CACHED_WHITESPACE_LENGTH + 1];
+        for (int length = 1; length <= MAX_CACHED_WHITESPACE_LENGTH; length++) {
+            String text = String.valueOf(whitespace).repeat(length);
+            minutiae[length] = new STMinutiae(SyntaxKind.WHITESPACE_MINUTIAE, text);
+        }
+        return minutiae;
+    }
+
+    private static STMinutiae getCachedMinutiae(SyntaxKind kind, String text) {
+        switch (kind) {
+            case END_OF_LINE_MINUTIAE:
+                if ("\n".equals(text)) {
+                    return LF_MINUTIAE;
+                }
+                return "\r\n".equals(text) ? CRLF_MINUTIAE : null;
+            case WHITESPACE_MINUTIAE:
+                int length = text.length();
+                if (length == 0 || length > MAX_CACHED_WHITESPACE_LENGTH) {
+                    return null;
+                }
+                char whitespace = text.charAt(0);
+                for (int i = 1; i < length; i++) {
+                    if (text.charAt(i) != whitespace) {
+                        return null;
+                    }
+                }
+                if (whitespace == ' ') {
+                    return SPACE_MINUTIAE[length];
+                }
+                return whitespace == '\t' ? TAB_MINUTIAE[length] : null;
+            default:
+                return null;
+        }
+    }
+
+    private static STNodeList getCachedMinutiaeList(STNode minutiae) {
+        if (minutiae == SPACE_MINUTIAE[1]) {
+            return SINGLE_SPACE_LIST;
+        } else if (minutiae == LF_MINUTIAE) {
+            return LF_LIST;
+        } else if (minutiae == CRLF_MINUTIAE) {
+            return CRLF_LIST;
+        }
+        return null;
+    }
 }
@@ -19,6 +19,7 @@ package io.ballerina.compiler.syntax.tree;
 
 import io.ballerina.compiler.internal.parser.tree.STMinutiae;
 import io.ballerina.compiler.internal.parser.tree.STNode;
+import io.ballerina.compiler.internal.parser.tree.STNodeFactory;
 import io.ballerina.compiler.internal.parser.tree.STNodeList;
 import io.ballerina.compiler.internal.syntax.NodeListUtils;
 import io.ballerina.compiler.internal.syntax.SyntaxUtils;
@@ -124,14 +125,16 @@ public final class MinutiaeList implements Iterable<Minutiae> {
         }
         c.forEach(minutiae -> Objects.requireNonNull(minutiae, "minutiae should not be null"));
 
-        List<STNode> toBeDeletedList = new ArrayList<>();
-        for (Minutiae minutiae : minutiaeNodes) {
-            if (c.contains(minutiae)) {
-                toBeDeletedList.add(minutiae.internalNode());
+        // Internal minutiae nodes may be shared by several positions of the list, hence the nodes to be kept are
+        // selected by position instead of removing the internal nodes of the given minutiae.
+        List<STNode> remainingNodes = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            if (!c.contains(minutiaeNodes[index])) {
+                remainingNodes.add(internalListNode.get(index));
             }
         }
 
-        return new MinutiaeList(token, internalListNode.removeAll(toBeDeletedList), position);
+        return new MinutiaeList(token, STNodeFactory.createNodeList(remainingNodes), position);
     }
 
     //query methods
@@ -239,6 +239,21 @@ public class MinutiaeListAPITest extends AbstractSyntaxTreeAPITest {
         Assert.assertEquals(newLeadingMinutiae2.size(), 1);
     }
 
+    @Test
+    public void testRemoveAllWithRepeatedMinutia() {
+        // The first two minutiae of the first import are new lines, which share the same internal node.
+        ImportDeclarationNode importDeclNode = getModulePartNode("minutiae_test_03.bal").imports().get(0);
+        MinutiaeList leadingMinutiae = importDeclNode.importKeyword().leadingMinutiae();
+        Assert.assertEquals(leadingMinutiae.get(0).text(), leadingMinutiae.get(1).text());
+
+        MinutiaeList newLeadingMinutiae = leadingMinutiae.removeAll(List.of(leadingMinutiae.get(0)));
+        SyntaxKind[] expectedKinds = new SyntaxKind[]{
+                SyntaxKind.END_OF_LINE_MINUTIAE, SyntaxKind.COMMENT_MINUTIAE, SyntaxKind.END_OF_LINE_MINUTIAE,
+                SyntaxKind.END_OF_LINE_MINUTIAE, SyntaxKind.WHITESPACE_MINUTIAE
+        };
+        testMinutiaList(newLeadingMinutiae, expectedKinds);
+    }
+
     @Test
     public void testRemoveMinutiaByIndex() {
         // There are 6 minutiae nodes in the first token of the first import node and 4 of them are new line minutiae.
@@ -84,8 +84,9 @@ function createDoFunction(function(_Frame _frame) returns any|error doFunc) retu
     return new _DoFunction(doFunc);
 }
 
-function createLimitFunction(function (_Frame _frame) returns int limitFunction) returns _StreamFunction {
-    return new _LimitFunction(limitFunction);
+function createLimitFunction(function (_Frame _frame) returns int limitFunction, boolean isFrameIndependent)
+        returns _StreamFunction {
+    return new _LimitFunction(limitFunction, isFrameIndependent);
 }
 
 function addStreamFunction(@tainted _StreamPipeline pipeline, @tainted _StreamFunction streamFunction) {
@@ -123,6 +124,44 @@ function createArray(stream<Type, CompletionType> strm, Type[] arr) returns Type
     return arr;
 }
 
+# Lists shorter than this are mapped on the current strand, since scheduling the partitions costs more than it saves.
+const int PARALLEL_QUERY_THRESHOLD = 10000;
+
+function mapPartitions(Type[] collection, Type1[] result,
+        function (Type[] collection, int startIndex, int endIndex) returns Type1[] partitionFunc) {
+    int length = collection.length();
+    int partitionCount = getPartitionCount();
+    if length < PARALLEL_QUERY_THRESHOLD || partitionCount < 2 {
+        result.push(...partitionFunc(collection, 0, length));
+        return;
+    }
+    int partitionSize = (length + partitionCount - 1) / partitionCount;
+    future<Type1[]>[] partitionResults = [];
+    int startIndex = 0;
+    while startIndex < length {
+        int endIndex = startIndex + partitionSize < length ? startIndex + partitionSize : length;
+        future<Type1[]> partitionResult = start partitionFunc(collection, startIndex, endIndex);
+        partitionResults.push(partitionResult);
+        startIndex = endIndex;
+    }
+    // Every partition is waited for before a failure is propagated, so no strand keeps running after the query.
+    // Results are appended in the order of the partitions to keep the order of the sequential evaluation.
+    error? failure = ();
+    foreach future<Type1[]> partitionResult in partitionResults {
+        Type1[]|error partitionValues = wait partitionResult;
+        if partitionValues is error {
+            if failure is () {
+                failure = partitionValues;
+            }
+        } else if failure is () {
+            result.push(...partitionValues);
+        }
+    }
+    if failure is error {
+        panic failure;
+    }
+}
+
 function collectQuery(stream<Type, CompletionType> strm) returns Type|error {
     record {| Type value; |}|error? v = strm.next();
     return v is record {| Type value; |} ? v.value : v;
@@ -350,3 +389,43 @@ public isolated function getQueryErrorRootCause(error err) returns error {
     error? cause = error:cause(err);
     return cause is error ? cause : err;
 }
+
+function createFrameMultiMap() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "createFrameMultiMap"
+} external;
+
+function putFrame(handle multiMap, any key, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "putFrame"
+} external;
+
+function getFrames(handle multiMap, any key) returns handle? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFrames"
+} external;
+
+function getFirstFrame(handle multiMap, any key) returns _Frame? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFirstFrame"
+} external;
+
+function getFrameCount(handle candidates) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFrameCount"
+} external;
+
+function getFrame(handle candidates, int index) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "getFrame"
+} external;
+
+function sortFrames(_Frame[] frames, int topK) returns error? = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "sortFrames"
+} external;
+
+function getPartitionCount() returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.QueryParallelism",
+    name: "getPartitionCount"
+} external;
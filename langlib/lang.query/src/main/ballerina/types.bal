@@ -29,6 +29,12 @@ import ballerina/lang.'object as lang_object;
 @typeParam
 type Type any|error;
 
+# A type parameter that is a subtype of `any|error`.
+# Has the special semantic that when used in a declaration
+# all uses in the declaration must refer to same type.
+@typeParam
+type Type1 any|error;
+
 # A type parameter that is a subtype of `error`.
 # Has the special semantic that when used in a declaration
 # all uses in the declaration must refer to same type.
@@ -106,6 +112,11 @@ class _StreamPipeline {
 
     function addStreamFunction(_StreamFunction streamFunction) {
         _StreamFunction existingFunc = self.streamFunction;
+        if (streamFunction is _LimitFunction && streamFunction.isFrameIndependent
+                && existingFunc is _OrderByFunction) {
+            // Only the first `limit` frames of the ordered frames are needed.
+            existingFunc.limitFunc = streamFunction.limitFunc;
+        }
         streamFunction.prevFunc = existingFunc;
         self.streamFunction = streamFunction;
     }
@@ -345,8 +356,10 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
+    _Frame? lhsFrame = ();
+    handle? rhsCandidates = ();
+    int rhsCandidateIndex = 0;
     error? failureAtJoin = ();
-    stream<_Frame>? joinedFramesStream;
 
     function init(
             _StreamPipeline pipelineToJoin,
@@ -355,22 +368,7 @@ class _InnerJoinFunction {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
         self.prevFunc = ();
-        self.joinedFramesStream = ();
-
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            any|error rhsKeyFuncResult = rhsKeyFunction(f);
-            if rhsKeyFuncResult is error {
-                self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
-                return;
-            } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
-                f = pipelineToJoin.next();
-            }
-        }
-        if (f is error) {
-            self.failureAtJoin = f;
-        }
+        self.failureAtJoin = self.rhsFramesMap.putAll(pipelineToJoin, rhsKeyFunction);
     }
 
     # Desugared function to do;
@@ -378,48 +376,45 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        if (self.joinedFramesStream is ()) {
-            function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
-            _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-            _StreamFunction pf = <_StreamFunction>self.prevFunc;
-            _Frame|error? lhsFrame = pf.process();
-            _Frame[] joinedFrames = [];
-            error? failureAtJoin = self.failureAtJoin;
+        function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        error? failureAtJoin = self.failureAtJoin;
 
-            if (failureAtJoin is error) {
-                fail failureAtJoin;
+        if (failureAtJoin is error) {
+            fail failureAtJoin;
+        }
+
+        while true {
+            _Frame? lhsFrame = self.lhsFrame;
+            handle? rhsCandidates = self.rhsCandidates;
+            if (lhsFrame is _Frame && rhsCandidates is handle
+                    && self.rhsCandidateIndex < getFrameCount(rhsCandidates)) {
+                _Frame rhsFrame = getFrame(rhsCandidates, self.rhsCandidateIndex);
+                self.rhsCandidateIndex += 1;
+                return mergeFrames(lhsFrame, rhsFrame);
             }
 
-            while (lhsFrame is _Frame) {
-                any|error lhsKFRes = lhsKF(lhsFrame);
+            // Probe the rhs frames with the next lhs frame.
+            _Frame|error? nextLhsFrame = pf.process();
+            if (nextLhsFrame is _Frame) {
+                any|error lhsKFRes = lhsKF(nextLhsFrame);
                 if (lhsKFRes is error) {
                     return prepareQueryBodyError(lhsKFRes);
                 }
-                string lhsKey = (lhsKFRes).toString();
-
-                _Frame[]? rhsCandidates = rhsFramesMap.get(lhsKey);
-                while (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                    _Frame rhsFrame = rhsCandidates.shift();
-                    _Frame joinedFrame = {...lhsFrame};
-                    foreach var [k, val] in rhsFrame.entries() {
-                        joinedFrame[k] = val;
-                    }
-                    joinedFrames.push(joinedFrame);
-                }
-                lhsFrame = pf.process();
+                self.lhsFrame = nextLhsFrame;
+                self.rhsCandidates = self.rhsFramesMap.get(lhsKFRes);
+                self.rhsCandidateIndex = 0;
+            } else {
+                self.lhsFrame = ();
+                self.rhsCandidates = ();
+                return nextLhsFrame;
             }
-            self.joinedFramesStream = joinedFrames.toStream();
-        }
-        stream<_Frame> s = <stream<_Frame>>self.joinedFramesStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
         }
-        return f;
     }
 
     public function reset() {
-        self.joinedFramesStream = ();
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -432,8 +427,9 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any|error lhsKeyFunction;
     function (_Frame _frame) returns any|error rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
-    _Frame|error? lhsFrame;
+    _Frame? lhsFrame = ();
+    handle? rhsCandidates = ();
+    int rhsCandidateIndex = 0;
     _Frame nilFrame;
     error? failureAtJoin = ();
 
@@ -443,24 +439,9 @@ class _OuterJoinFunction {
             function (_Frame _frame) returns any|error rhsKeyFunction, _Frame nilFrame) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
         self.prevFunc = ();
-        self.lhsFrame = ();
         self.nilFrame = nilFrame;
-        _Frame|error? f = pipelineToJoin.next();
-        while (f is _Frame) {
-            any|error rhsKeyFuncResult = rhsKeyFunction(f);
-            if rhsKeyFuncResult is error {
-                self.failureAtJoin = prepareQueryBodyError(rhsKeyFuncResult);
-                return;
-            } else {
-                self.rhsFramesMap.put(rhsKeyFuncResult.toString(), f);
-                f = pipelineToJoin.next();
-            }
-        }
-        if (f is error) {
-            self.failureAtJoin = f;
-        }
+        self.failureAtJoin = self.rhsFramesMap.putAll(pipelineToJoin, rhsKeyFunction);
     }
 
     # Desugared function to do;
@@ -470,58 +451,43 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any|error lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
-        _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
         error? failureAtJoin = self.failureAtJoin;
-        string lhsKey = "";
 
-        if(failureAtJoin is error) {
+        if (failureAtJoin is error) {
             fail failureAtJoin;
         }
 
-        if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
+        _Frame? lhsFrame = self.lhsFrame;
+        handle? rhsCandidates = self.rhsCandidates;
+        if (lhsFrame is _Frame && rhsCandidates is handle
+                && self.rhsCandidateIndex < getFrameCount(rhsCandidates)) {
+            _Frame rhsFrame = getFrame(rhsCandidates, self.rhsCandidateIndex);
+            self.rhsCandidateIndex += 1;
+            return mergeFrames(lhsFrame, rhsFrame);
         }
 
-        if (lhsFrame is _Frame) {
-            any|error lhsKFRes = lhsKF(lhsFrame);
+        // Probe the rhs frames with the next lhs frame.
+        _Frame|error? nextLhsFrame = pf.process();
+        if (nextLhsFrame is _Frame) {
+            any|error lhsKFRes = lhsKF(nextLhsFrame);
             if (lhsKFRes is error) {
                 return prepareQueryBodyError(lhsKFRes);
             }
-            lhsKey = (lhsKFRes).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
-                    // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
-                    self.lhsFrame = ();
-                }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
-            } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                self.lhsFrame = ();
-                return joinedFrame;
+            handle? candidates = self.rhsFramesMap.get(lhsKFRes);
+            if (candidates is handle) {
+                // There is at least one matching rhs frame for each key in the map.
+                self.lhsFrame = nextLhsFrame;
+                self.rhsCandidates = candidates;
+                self.rhsCandidateIndex = 1;
+                return mergeFrames(nextLhsFrame, getFrame(candidates, 0));
             }
+            self.lhsFrame = ();
+            self.rhsCandidates = ();
+            return mergeFrames(nextLhsFrame, self.nilFrame);
         }
-        return lhsFrame;
+        self.lhsFrame = ();
+        self.rhsCandidates = ();
+        return nextLhsFrame;
     }
 
     public function reset() {
@@ -581,46 +547,63 @@ class _OrderByFunction {
     # Desugared function to do;
     # order by person.fname true, person.age false
     function (_Frame _frame) returns error? orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    # Limit of the limit clause which follows this clause, if the limit does not depend on the frame.
+    (function (_Frame _frame) returns int|error)? limitFunc = ();
+    _Frame[]? orderedFrames = ();
+    int index = 0;
 
     function init(function (_Frame _frame) returns error? orderKeyFunc) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        _Frame[]? orderedFrames = self.orderedFrames;
+        if (orderedFrames is ()) {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
             function (_Frame _frame) returns error? orderKeyFunc = self.orderKeyFunc;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
+            _Frame[] frames = [];
             // consume all events for ordering.
             while (f is _Frame) {
                 error? res = orderKeyFunc(f);
                 if(res is error) {
                     return prepareQueryBodyError(res);
                 }
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                frames.push(f);
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            int topK = 0;
+            (function (_Frame _frame) returns int|error)? limitFunc = self.limitFunc;
+            if (limitFunc !is () && frames.length() > 0) {
+                int|error lmt = limitFunc(frames[0]);
+                if (lmt is error) {
+                    return prepareQueryBodyError(lmt);
+                }
+                topK = lmt;
+            }
+            error? res = sortFrames(frames, topK);
+            if (res is error) {
+                return prepareQueryBodyError(res);
+            }
+            self.orderedFrames = frames;
+            self.index = 0;
+            orderedFrames = frames;
         }
 
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        if (self.index < orderedFrames.length()) {
+            _Frame f = orderedFrames[self.index];
+            self.index += 1;
+            return f;
         }
-        return f;
+        return ();
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.orderedFrames = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -628,50 +611,58 @@ class _OrderByFunction {
     }
 }
 
-type RowGroupedData record {|
-    readonly anydata groupingKey;
-    _Frame[] frames;
-|};
-
 class _GroupByFunction {
     *_StreamFunction;
 
     string[] keys;
     string[] nonGroupingKeys;
-    stream<_Frame>? groupedStream;
-    table<RowGroupedData> key(groupingKey) tbl;
+    _Frame[]? groupedFrames;
+    int index = 0;
 
     function init(string[] keys, string[] nonGroupingKeys) {
         self.keys = keys;
         self.nonGroupingKeys = nonGroupingKeys;
-        self.groupedStream = ();
-        self.tbl = table [];
+        self.groupedFrames = ();
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.groupedStream is ()) {
+        _Frame[]? groupedFrames = self.groupedFrames;
+        if (groupedFrames is ()) {
             _StreamFunction pf = <_StreamFunction>self.prevFunc;
+            _FrameMultiMap groups = new;
+            _Frame[] frames = [];
             _Frame? f = check pf.process();
             while f is _Frame {
-                anydata & readonly key = (check self.getKey(f)).cloneReadOnly();
-                if self.tbl.hasKey(key) {
-                    self.tbl.get(key).frames.push(f);
+                anydata key = check self.getKey(f);
+                _Frame groupedFrame;
+                _Frame? existingFrame = groups.getFirst(key);
+                if existingFrame is _Frame {
+                    groupedFrame = existingFrame;
                 } else {
-                    self.tbl.add({groupingKey: key, frames: [f]});
+                    groupedFrame = self.createGroupedFrame(f);
+                    groups.put(key, groupedFrame);
+                    frames.push(groupedFrame);
                 }
+                // Only the values of the non-grouping keys are kept, not the frame itself.
+                self.addToGroupedFrame(groupedFrame, f);
                 f = check pf.process();
             }
-            self.groupedStream = self.convertToStream(self.tbl);
+            self.groupedFrames = frames;
+            self.index = 0;
+            groupedFrames = frames;
         }
 
-        stream<_Frame> s = <stream<_Frame>>self.groupedStream;
-        record {|_Frame value;|}|error? next = s.next();
-        return next is record {|_Frame value;|} ? next.value : next;
+        if (self.index < groupedFrames.length()) {
+            _Frame groupedFrame = groupedFrames[self.index];
+            self.index += 1;
+            return groupedFrame;
+        }
+        return ();
     }
 
     public function reset() {
-        self.groupedStream = ();
+        self.groupedFrames = ();
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -686,32 +677,27 @@ class _GroupByFunction {
         return keys;
     }
 
-    private function convertToStream(table<RowGroupedData> key(groupingKey) tbl) returns stream<_Frame> {
-        _Frame[] groupedFrames = [];
+    private function createGroupedFrame(_Frame firstFrame) returns _Frame {
+        _Frame groupedFrame = {};
+        foreach var key in self.keys {
+            groupedFrame[key] = firstFrame[key];
+        }
+        foreach var nonGroupingKey in self.nonGroupingKeys {
+            groupedFrame[nonGroupingKey] = [];
+        }
+        return groupedFrame;
+    }
 
-        foreach var entry in tbl {
-            _Frame groupedFrame = {};
-            _Frame firstFrame = entry.frames[0];
-            foreach var key in self.keys {
-                groupedFrame[key] = firstFrame[key];
-            }
-            foreach var nonGroupingKey in self.nonGroupingKeys {
-                groupedFrame[nonGroupingKey] = [];
-            }
-            foreach var f in entry.frames {
-                foreach var nonGroupingKey in self.nonGroupingKeys {
-                    any|error sequenceValue = groupedFrame[nonGroupingKey];
-                    if sequenceValue is any {
-                        any|error val = f[nonGroupingKey];
-                        if val !is () {
-                            (<(any|error)[]> sequenceValue).push(val);
-                        }
-                    }
+    private function addToGroupedFrame(_Frame groupedFrame, _Frame f) {
+        foreach var nonGroupingKey in self.nonGroupingKeys {
+            any|error sequenceValue = groupedFrame[nonGroupingKey];
+            if sequenceValue is any {
+                any|error val = f[nonGroupingKey];
+                if val !is () {
+                    (<(any|error)[]> sequenceValue).push(val);
                 }
             }
-            groupedFrames.push(groupedFrame);
         }
-        return groupedFrames.toStream();
     }
 }
 
@@ -877,10 +863,13 @@ class _LimitFunction {
 
     # Desugared function to limit the number of results
     function (_Frame _frame) returns int|error limitFunc;
+    # Whether the limit is the same for every frame, i.e. it does not refer to the variables bound by the query.
+    boolean isFrameIndependent;
     public int count = 0;
 
-    function init(function (_Frame _frame) returns int limitFunc) {
+    function init(function (_Frame _frame) returns int limitFunc, boolean isFrameIndependent) {
         self.limitFunc = limitFunc;
+        self.isFrameIndependent = isFrameIndependent;
         self.prevFunc = ();
     }
 
@@ -918,35 +907,54 @@ class _LimitFunction {
 // ---- helper types ----
 
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle m;
 
     function init() {
-        self.m = {};
+        self.m = createFrameMultiMap();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
+    # Index all the frames of the given pipeline by the result of the key function.
+    #
+    # + pipeline - pipeline which produces the frames to be indexed
+    # + keyFunction - function which computes the join key of a frame
+    # + return - the error which occurred while producing the frames or computing a key, if any
+    function putAll(_StreamPipeline pipeline, function (_Frame _frame) returns any|error keyFunction) returns error? {
+        _Frame|error? f = pipeline.next();
+        while (f is _Frame) {
+            any|error key = keyFunction(f);
+            if key is error {
+                return prepareQueryBodyError(key);
+            }
+            self.put(key, f);
+            f = pipeline.next();
         }
+        return f;
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # Add a frame under the given key. The key is hashed on its shape, so an immutable clone of it is stored to
+    # keep later mutations of the key value from moving it to a different bucket.
+    #
+    # + k - join or grouping key of the frame
+    # + v - frame to be added
+    function put(any k, _Frame v) {
+        putFrame(self.m, k is anydata ? k.cloneReadOnly() : k, v);
     }
 
+    function get(any k) returns handle? {
+        return getFrames(self.m, k);
+    }
+
+    function getFirst(any k) returns _Frame? {
+        return getFirstFrame(self.m, k);
+    }
+}
+
+function mergeFrames(_Frame lhsFrame, _Frame rhsFrame) returns _Frame {
+    _Frame joinedFrame = {...lhsFrame};
+    foreach var [k, val] in rhsFrame.entries() {
+        joinedFrame[k] = val;
+    }
+    return joinedFrame;
 }
 
 class IterHelper {
@@ -992,110 +1000,6 @@ class OnConflictIterHelper {
     }
 }
 
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if (!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return - ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return - ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
-
 //Distinct error to identify errors thrown from query body
 public type Error distinct error;
 
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BHandle;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Multimap used by the query join and group by operators to index frames by the value of a join or grouping key.
+ * Keys are compared using the shape based equality of `==` and hashed on their shape, so no string representation
+ * of the key is created for each frame.
+ *
+ * @since 2201.10.0
+ */
+public class FrameMultiMap {
+
+    // Limits how deep the hash looks into structured keys. Deeper members are still compared by equality, and it
+    // keeps hashing of cyclic values finite.
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final Map<JoinKey, List<BMap<BString, Object>>> frames = new HashMap<>();
+
+    public static BHandle createFrameMultiMap() {
+        return ValueCreator.createHandleValue(new FrameMultiMap());
+    }
+
+    public static void putFrame(BHandle multiMap, Object key, BMap<BString, Object> frame) {
+        FrameMultiMap frameMultiMap = (FrameMultiMap) multiMap.getValue();
+        frameMultiMap.frames.computeIfAbsent(new JoinKey(key), k -> new ArrayList<>()).add(frame);
+    }
+
+    public static Object getFrames(BHandle multiMap, Object key) {
+        FrameMultiMap frameMultiMap = (FrameMultiMap) multiMap.getValue();
+        List<BMap<BString, Object>> candidates = frameMultiMap.frames.get(new JoinKey(key));
+        return candidates == null ? null : ValueCreator.createHandleValue(candidates);
+    }
+
+    public static Object getFirstFrame(BHandle multiMap, Object key) {
+        FrameMultiMap frameMultiMap = (FrameMultiMap) multiMap.getValue();
+        List<BMap<BString, Object>> candidates = frameMultiMap.frames.get(new JoinKey(key));
+        return candidates == null ? null : candidates.get(0);
+    }
+
+    public static long getFrameCount(BHandle candidates) {
+        return ((List<?>) candidates.getValue()).size();
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BMap<BString, Object> getFrame(BHandle candidates, long index) {
+        return ((List<BMap<BString, Object>>) candidates.getValue()).get((int) index);
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null || depth > MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // int and byte values of the same number are equal
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof Double doubleValue) {
+            if (doubleValue.isNaN() || doubleValue == 0.0) {
+                // all NaNs are equal to each other and -0.0 is equal to 0.0
+                return doubleValue.isNaN() ? 1 : 0;
+            }
+            return doubleValue.hashCode();
+        }
+        if (value instanceof BDecimal decimalValue) {
+            BigDecimal bigDecimal = decimalValue.decimalValue();
+            return bigDecimal == null || bigDecimal.signum() == 0 ? 0 : bigDecimal.stripTrailingZeros().hashCode();
+        }
+        if (value instanceof BString stringValue) {
+            return stringValue.getValue().hashCode();
+        }
+        if (value instanceof Boolean) {
+            return value.hashCode();
+        }
+        if (value instanceof BMap<?, ?> mapValue) {
+            // member order does not affect mapping equality
+            int result = 0;
+            for (Map.Entry<?, ?> entry : mapValue.entrySet()) {
+                result += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray arrayValue) {
+            int result = 1;
+            for (long i = 0; i < arrayValue.size(); i++) {
+                result = 31 * result + hash(arrayValue.get(i), depth + 1);
+            }
+            return result;
+        }
+        // Other values such as tables and xml fall back to equality checks.
+        return 0;
+    }
+
+    /**
+     * Wrapper for a join key which hashes and compares the key by shape.
+     */
+    private static final class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = FrameMultiMap.hash(value, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof JoinKey other)) {
+                return false;
+            }
+            return hash == other.hash && TypeChecker.isEqual(value, other.value);
+        }
+    }
+}
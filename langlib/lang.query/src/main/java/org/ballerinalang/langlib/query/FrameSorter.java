@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.ValueComparisonUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+
+/**
+ * Sorts the frames collected by the query `order by` operator on the order keys stored in each frame.
+ * <p>
+ * The sort is stable, and when the `order by` clause is followed by a limit the frames are selected with a bounded
+ * heap so only the frames which can be emitted are kept in order.
+ *
+ * @since 2201.10.0
+ */
+public class FrameSorter {
+
+    private static final BString ORDER_KEY = StringUtils.fromString("$orderKey$");
+    private static final BString ORDER_DIRECTION = StringUtils.fromString("$orderDirection$");
+    private static final String ASCENDING = "ascending";
+    private static final String DESCENDING = "descending";
+
+    private FrameSorter() {
+    }
+
+    /**
+     * Sort the given frames in place on their order keys and drop the frames beyond the limit.
+     *
+     * @param frames frames which have the `$orderKey$` and `$orderDirection$` entries
+     * @param limit  maximum number of frames to keep, or a value less than one to keep all the frames
+     * @return error if the order keys cannot be compared, else nil
+     */
+    public static Object sortFrames(BArray frames, long limit) {
+        int size = frames.size();
+        if (size == 0) {
+            return null;
+        }
+        OrderedFrame[] orderedFrames = new OrderedFrame[size];
+        for (int i = 0; i < size; i++) {
+            BMap<?, ?> frame = (BMap<?, ?>) frames.get(i);
+            orderedFrames[i] = new OrderedFrame(((BArray) frame.get(ORDER_KEY)).getValues(), frame, i);
+        }
+        BArray directions = (BArray) ((BMap<?, ?>) frames.get(0)).get(ORDER_DIRECTION);
+        Comparator<OrderedFrame> comparator = getComparator(directions);
+
+        try {
+            if (limit > 0 && limit < size) {
+                orderedFrames = selectTopFrames(orderedFrames, (int) limit, comparator);
+            } else {
+                Arrays.sort(orderedFrames, comparator);
+            }
+        } catch (BError error) {
+            return error;
+        }
+
+        for (int i = 0; i < orderedFrames.length; i++) {
+            frames.add(i, orderedFrames[i].frame);
+        }
+        if (orderedFrames.length < size) {
+            frames.setLength(orderedFrames.length);
+        }
+        return null;
+    }
+
+    private static OrderedFrame[] selectTopFrames(OrderedFrame[] orderedFrames, int limit,
+                                                  Comparator<OrderedFrame> comparator) {
+        // Max heap which keeps the `limit` smallest frames seen so far.
+        PriorityQueue<OrderedFrame> heap = new PriorityQueue<>(limit + 1, comparator.reversed());
+        for (OrderedFrame orderedFrame : orderedFrames) {
+            heap.add(orderedFrame);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        OrderedFrame[] topFrames = heap.toArray(new OrderedFrame[0]);
+        Arrays.sort(topFrames, comparator);
+        return topFrames;
+    }
+
+    private static Comparator<OrderedFrame> getComparator(BArray directions) {
+        int keyCount = directions.size();
+        boolean[] ascending = new boolean[keyCount];
+        for (int i = 0; i < keyCount; i++) {
+            ascending[i] = directions.getBoolean(i);
+        }
+        return (lhs, rhs) -> {
+            for (int i = 0; i < keyCount; i++) {
+                // Same as lang.array:sort, () is ordered last in both directions.
+                int result = ascending[i] ?
+                        ValueComparisonUtils.compareValues(lhs.keys[i], rhs.keys[i], ASCENDING) :
+                        ValueComparisonUtils.compareValues(rhs.keys[i], lhs.keys[i], DESCENDING);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            // Keep the input order of frames with equal keys.
+            return Integer.compare(lhs.index, rhs.index);
+        };
+    }
+
+    private record OrderedFrame(Object[] keys, Object frame, int index) {
+    }
+}
@@ -62,6 +62,11 @@ public interface InitializationOptions {
      */
     String KEY_ENABLE_MEMORY_USAGE_MONITOR = "enableMemoryUsageMonitor";
 
+    /**
+     * Percentage of the maximum heap the LS may use before releasing the compilations of inactive projects.
+     */
+    String KEY_HEAP_BUDGET_PERCENTAGE = "heapBudgetPercentage";
+
     /**
      * Return if the client support bala URI scheme.
      *
@@ -116,4 +121,12 @@ public interface InitializationOptions {
      * @return True if supported, false otherwise
      */
     boolean isEnableMemoryUsageMonitor();
+
+    /**
+     * Returns the percentage of the maximum heap the LS may use before releasing the compilations of inactive
+     * projects.
+     *
+     * @return Heap budget as a percentage of the maximum heap
+     */
+    int getHeapBudgetPercentage();
 }
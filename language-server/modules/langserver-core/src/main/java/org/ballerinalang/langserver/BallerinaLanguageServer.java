@@ -28,6 +28,7 @@ import org.ballerinalang.langserver.commons.registration.BallerinaClientCapabili
 import org.ballerinalang.langserver.commons.registration.BallerinaInitializeParams;
 import org.ballerinalang.langserver.commons.registration.BallerinaInitializeResult;
 import org.ballerinalang.langserver.commons.service.spi.ExtendedLanguageServerService;
+import org.ballerinalang.langserver.commons.workspace.WorkspaceManager;
 import org.ballerinalang.langserver.config.ClientConfigListener;
 import org.ballerinalang.langserver.config.LSClientConfig;
 import org.ballerinalang.langserver.config.LSClientConfigHolder;
@@ -36,6 +37,7 @@ import org.ballerinalang.langserver.extensions.AbstractExtendedLanguageServer;
 import org.ballerinalang.langserver.extensions.ExtendedLanguageServer;
 import org.ballerinalang.langserver.semantictokens.SemanticTokensUtils;
 import org.ballerinalang.langserver.util.LSClientUtil;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.CodeActionKind;
 import org.eclipse.lsp4j.CodeActionOptions;
 import org.eclipse.lsp4j.CodeLensOptions;
@@ -220,7 +222,10 @@ public class BallerinaLanguageServer extends AbstractExtendedLanguageServer
             LSPackageLoader.getInstance(this.serverContext).loadModules(this.serverContext);
         }
         if (lsClientCapabilities.getInitializationOptions().isEnableMemoryUsageMonitor()) {
-            MemoryUsageMonitor.getInstance(this.serverContext).start(client);
+            WorkspaceManager workspaceManager = workspaceManagerProxy.get();
+            MemoryUsageMonitor.getInstance(this.serverContext).start(client, this.serverContext,
+                    workspaceManager instanceof BallerinaWorkspaceManager ballerinaWorkspaceManager ?
+                            ballerinaWorkspaceManager : null);
         }
     }
 
@@ -173,6 +173,18 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
                 Boolean.parseBoolean(String.valueOf(memoryUsageMonitor));
         initializationOptions.setEnableMemoryUsageMonitor(enableMemoryUsageMonitor);
 
+        Object heapBudgetPercentage = initOptions.get(InitializationOptions.KEY_HEAP_BUDGET_PERCENTAGE);
+        if (heapBudgetPercentage != null) {
+            try {
+                int budget = (int) Double.parseDouble(String.valueOf(heapBudgetPercentage));
+                if (budget > 0 && budget <= 100) {
+                    initializationOptions.setHeapBudgetPercentage(budget);
+                }
+            } catch (NumberFormatException e) {
+                // Invalid values are ignored and the default budget is used
+            }
+        }
+
         return initializationOptions;
     }
 
@@ -218,6 +230,8 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
      */
     public static class InitializationOptionsImpl implements InitializationOptions {
 
+        private static final int DEFAULT_HEAP_BUDGET_PERCENTAGE = 75;
+
         private boolean supportBalaScheme = false;
         private boolean enableSemanticTokens = false;
         private boolean supportQuickPick = false;
@@ -226,6 +240,7 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
         private boolean enableInlayHints = false;
         private boolean enableIndexPackages = false;
         private boolean enableMemoryUsageMonitor = false;
+        private int heapBudgetPercentage = DEFAULT_HEAP_BUDGET_PERCENTAGE;
 
         @Override
         public boolean isBalaSchemeSupported() {
@@ -297,5 +312,14 @@ public class LSClientCapabilitiesImpl implements LSClientCapabilities {
         public void setEnableMemoryUsageMonitor(boolean enableMemoryUsageMonitor) {
             this.enableMemoryUsageMonitor = enableMemoryUsageMonitor;
         }
+
+        @Override
+        public int getHeapBudgetPercentage() {
+            return heapBudgetPercentage;
+        }
+
+        public void setHeapBudgetPercentage(int heapBudgetPercentage) {
+            this.heapBudgetPercentage = heapBudgetPercentage;
+        }
     }
 }
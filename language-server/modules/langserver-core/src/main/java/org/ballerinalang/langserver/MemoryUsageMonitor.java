@@ -16,13 +16,21 @@
 package org.ballerinalang.langserver;
 
 import org.ballerinalang.langserver.commons.LanguageServerContext;
+import org.ballerinalang.langserver.commons.capability.LSClientCapabilities;
+import org.ballerinalang.langserver.telemetry.LSMemoryUsageTelemetryEvent;
+import org.ballerinalang.langserver.telemetry.TelemetryUtil;
+import org.ballerinalang.langserver.workspace.BallerinaWorkspaceManager;
 import org.eclipse.lsp4j.MessageParams;
 import org.eclipse.lsp4j.MessageType;
 import org.eclipse.lsp4j.services.LanguageClient;
 
+import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
 import java.lang.management.MemoryUsage;
+import java.util.List;
 
 /**
  * Monitors the memory usage and notifies the user if the memory usage is high.
@@ -31,13 +39,26 @@ import java.lang.management.MemoryUsage;
  */
 public class MemoryUsageMonitor {
 
+    private static final long POLLING_INTERVAL = 10000;
+    private static final long NOTIFICATION_INTERVAL = 60000;
+
     private final MemoryMXBean memoryMXBean;
+    private final List<MemoryPoolMXBean> memoryPoolMXBeans;
+    private final List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+
     public MemoryUsageMonitor(MemoryMXBean memoryMXBean) {
+        this(memoryMXBean, ManagementFactory.getMemoryPoolMXBeans(), ManagementFactory.getGarbageCollectorMXBeans());
+    }
+
+    public MemoryUsageMonitor(MemoryMXBean memoryMXBean, List<MemoryPoolMXBean> memoryPoolMXBeans,
+                              List<GarbageCollectorMXBean> garbageCollectorMXBeans) {
         this.memoryMXBean = memoryMXBean;
+        this.memoryPoolMXBeans = memoryPoolMXBeans;
+        this.garbageCollectorMXBeans = garbageCollectorMXBeans;
     }
 
     public MemoryUsageMonitor() {
-        this.memoryMXBean = ManagementFactory.getMemoryMXBean();
+        this(ManagementFactory.getMemoryMXBean());
     }
 
     public static final LanguageServerContext.Key<MemoryUsageMonitor> MEMORY_USAGE_MONITOR_KEY =
@@ -51,8 +72,22 @@ public class MemoryUsageMonitor {
         return memoryUsageMonitor;
     }
 
-    public void start(LanguageClient client) {
+    /**
+     * Starts monitoring the heap usage. While the heap usage after the last garbage collection exceeds the heap budget
+     * configured through the initialization options, the compilations of the least recently used projects are
+     * released from the given workspace manager, one project per garbage collection.
+     *
+     * @param client           language client
+     * @param serverContext    language server context
+     * @param workspaceManager workspace manager to release inactive projects from, or null
+     */
+    public void start(LanguageClient client, LanguageServerContext serverContext,
+                      BallerinaWorkspaceManager workspaceManager) {
+        LSClientCapabilities capabilities = serverContext.get(LSClientCapabilities.class);
+        int heapBudgetPercentage = capabilities.getInitializationOptions().getHeapBudgetPercentage();
         Thread usageMonitor = new Thread(() -> {
+            long lastReleasedGcCount = -1;
+            long lastNotified = 0;
             while (true) {
                 try {
                     MemoryUsage heapMemoryUsage = memoryMXBean.getHeapMemoryUsage();
@@ -62,12 +97,27 @@ public class MemoryUsageMonitor {
                     long usedMemory = heapMemoryUsage.getUsed();
                     long maxMemory = heapMemoryUsage.getMax();
 
-                    if (usedMemory >= maxMemory * 0.9) {
+                    // The used memory includes the garbage not yet collected, hence the budget is checked against the
+                    // usage after the last collection. The effect of releasing a project is only visible after the
+                    // next collection, so at most one project is released per collection.
+                    long gcCount = getCollectionCount();
+                    if (getUsedMemoryAfterGc(usedMemory) >= maxMemory * heapBudgetPercentage / 100.0
+                            && gcCount != lastReleasedGcCount) {
+                        lastReleasedGcCount = gcCount;
+                        int releasedProjects = workspaceManager != null ?
+                                workspaceManager.releaseInactiveProjects() : 0;
+                        TelemetryUtil.sendTelemetryEvent(serverContext, LSMemoryUsageTelemetryEvent.from(usedMemory,
+                                heapMemoryUsage.getCommitted(), maxMemory, releasedProjects));
+                    }
+
+                    long now = System.currentTimeMillis();
+                    if (usedMemory >= maxMemory * 0.9 && now - lastNotified >= NOTIFICATION_INTERVAL) {
+                        lastNotified = now;
                         client.showMessage(new MessageParams(MessageType.Error,
                                 "Memory usage is high. Some features may become unresponsive. " +
                                         "Please reload the window or increase the memory allocated for Ballerina"));
                     }
-                    Thread.sleep(60000);
+                    Thread.sleep(POLLING_INTERVAL);
                 } catch (InterruptedException e) {
                     // ignore
                 }
@@ -76,4 +126,32 @@ public class MemoryUsageMonitor {
         usageMonitor.setDaemon(true);
         usageMonitor.start();
     }
+
+    /**
+     * Returns the heap usage after the last garbage collection, or the given usage if it is not reported by the
+     * memory pools.
+     */
+    private long getUsedMemoryAfterGc(long usedMemory) {
+        long usedAfterGc = 0;
+        boolean reported = false;
+        for (MemoryPoolMXBean memoryPool : memoryPoolMXBeans) {
+            if (memoryPool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            MemoryUsage collectionUsage = memoryPool.getCollectionUsage();
+            if (collectionUsage != null) {
+                usedAfterGc += collectionUsage.getUsed();
+                reported = true;
+            }
+        }
+        return reported ? usedAfterGc : usedMemory;
+    }
+
+    private long getCollectionCount() {
+        long collectionCount = 0;
+        for (GarbageCollectorMXBean garbageCollector : garbageCollectorMXBeans) {
+            collectionCount += Math.max(garbageCollector.getCollectionCount(), 0);
+        }
+        return collectionCount;
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.telemetry;
+
+import org.ballerinalang.langserver.common.utils.CommonUtil;
+
+/**
+ * Represents a telemetry event sent when the heap usage of the language server exceeds the configured budget.
+ *
+ * @since 2201.10.0
+ */
+public class LSMemoryUsageTelemetryEvent extends LSTelemetryEvent {
+
+    private final long usedMemory;
+    private final long committedMemory;
+    private final long maxMemory;
+    private final int releasedProjects;
+
+    protected LSMemoryUsageTelemetryEvent(String component, String version, long usedMemory, long committedMemory,
+                                          long maxMemory, int releasedProjects) {
+        super(LSTelemetryEvent.TYPE_MEMORY_USAGE_EVENT, component, version);
+        this.usedMemory = usedMemory;
+        this.committedMemory = committedMemory;
+        this.maxMemory = maxMemory;
+        this.releasedProjects = releasedProjects;
+    }
+
+    public long getUsedMemory() {
+        return usedMemory;
+    }
+
+    public long getCommittedMemory() {
+        return committedMemory;
+    }
+
+    public long getMaxMemory() {
+        return maxMemory;
+    }
+
+    /**
+     * Get the number of projects whose compilations were released to reclaim memory.
+     *
+     * @return Number of released projects
+     */
+    public int getReleasedProjects() {
+        return releasedProjects;
+    }
+
+    public static LSMemoryUsageTelemetryEvent from(long usedMemory, long committedMemory, long maxMemory,
+                                                   int releasedProjects) {
+        return new LSMemoryUsageTelemetryEvent(LS_TELEMETRY_COMPONENT_NAME, CommonUtil.SDK_VERSION, usedMemory,
+                committedMemory, maxMemory, releasedProjects);
+    }
+}
@@ -36,6 +36,7 @@ import io.ballerina.projects.JarResolver;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
 import io.ballerina.projects.ModuleCompilation;
+import io.ballerina.projects.ModuleId;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.Project;
@@ -89,6 +90,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -607,6 +609,9 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         Project project = projectContext.project();
         Package pkg = project.currentPackage();
         Module executableModule = pkg.getDefaultModule();
+        // Dependants of a module are not recompiled on edits confined to its function bodies. Hence, all the modules
+        // are recompiled before generating code, so that the code of every module is generated from the same symbols.
+        resetModuleCompilations(projectContext);
         Optional<PackageCompilation> packageCompilation = waitAndGetPackageCompilation(project.sourceRoot(), true);
         if (packageCompilation.isEmpty()) {
             return Optional.empty();
@@ -657,13 +662,23 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         Lock lock = projectContext.lockAndGet();
         try {
             JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(packageCompilation, JvmTarget.JAVA_17, false);
-            Package pkg = projectContext.project.currentPackage();
-            for (Module module : pkg.modules()) {
-                for (DocumentId id : module.documentIds()) {
-                    module.document(id).modify().apply();
+            resetModuleCompilations(projectContext);
+            return jBallerinaBackend;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void resetModuleCompilations(ProjectContext projectContext) {
+        Lock lock = projectContext.lockAndGet();
+        try {
+            Project project = projectContext.project;
+            for (ModuleId moduleId : project.currentPackage().moduleIds()) {
+                for (DocumentId id : project.currentPackage().module(moduleId).documentIds()) {
+                    // Each modification creates a new package, hence the module is looked up from the current one
+                    project.currentPackage().module(moduleId).document(id).modify().apply();
                 }
             }
-            return jBallerinaBackend;
         } finally {
             lock.unlock();
         }
@@ -681,6 +696,46 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
         return stopProject(projectContext);
     }
 
+    /**
+     * Releases the compilation of the least recently used project, to be called when the heap usage exceeds the
+     * configured budget. The most recently used project and projects with a running process are never released.
+     * <p>
+     * A released project keeps its document sources, but drops its compilation state, which is recomputed when the
+     * project is accessed next.
+     *
+     * @return number of projects released
+     */
+    public int releaseInactiveProjects() {
+        List<ProjectContext> projectContexts = new ArrayList<>(sourceRootToProject.values());
+        if (projectContexts.size() < 2) {
+            return 0;
+        }
+        projectContexts.sort(Comparator.comparingLong(ProjectContext::lastAccessed));
+        for (ProjectContext projectContext : projectContexts.subList(0, projectContexts.size() - 1)) {
+            if (projectContext.released || projectContext.process().isPresent()) {
+                continue;
+            }
+            Lock lock = projectContext.locker();
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                // The project may have been released or started running since it was selected
+                if (projectContext.released || projectContext.process().isPresent()) {
+                    continue;
+                }
+                projectContext.setProject(projectContext.project().duplicate());
+                projectContext.released = true;
+                clientLogger.logTrace("Released the compilation of the project: " +
+                        projectContext.project().sourceRoot());
+                return 1;
+            } finally {
+                lock.unlock();
+            }
+        }
+        return 0;
+    }
+
     @Override
     public CompletableFuture<Map<Path, Project>> workspaceProjects() {
         ExtendedLanguageClient extendedLanguageClient = serverContext.get(ExtendedLanguageClient.class);
@@ -1382,6 +1437,7 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
             BuildOptions options = BuildOptions.builder()
                     .setOffline(CommonUtil.COMPILE_OFFLINE)
                     .setSticky(true)
+                    .setIncrementalAnalysis(true)
                     .build();
             if (projectKind == ProjectKind.BUILD_PROJECT) {
                 project = BuildProject.load(projectRoot, options);
@@ -1499,10 +1555,15 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
 
         private boolean projectCrashed;
 
+        private volatile long lastAccessed;
+
+        private volatile boolean released;
+
         private ProjectContext(Project project, Lock lock) {
             this.project = project;
             this.lock = lock;
             this.compilationCrashed = false;
+            this.lastAccessed = System.nanoTime();
         }
 
         public static ProjectContext from(Project project) {
@@ -1529,9 +1590,29 @@ public class BallerinaWorkspaceManager implements WorkspaceManager {
          */
         public Lock lockAndGet() {
             this.lock.lock();
+            this.lastAccessed = System.nanoTime();
+            this.released = false;
             return this.lock;
         }
 
+        /**
+         * Returns whether the compilation of the project was released since it was last accessed.
+         *
+         * @return true if the compilation was released
+         */
+        public boolean isReleased() {
+            return this.released;
+        }
+
+        /**
+         * Returns the time at which the project was last locked for an operation.
+         *
+         * @return last accessed time in nanoseconds
+         */
+        public long lastAccessed() {
+            return this.lastAccessed;
+        }
+
         /**
          * Returns the workspace document.
          *
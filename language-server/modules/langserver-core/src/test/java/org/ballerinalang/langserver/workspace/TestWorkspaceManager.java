@@ -169,6 +169,35 @@ public class TestWorkspaceManager {
         Assert.assertEquals(document.get().syntaxTree().textDocument().toString(), dummyDidChangeContent);
     }
 
+    @Test
+    public void testReleaseInactiveProjects() throws WorkspaceDocumentException {
+        Path singleFile = RESOURCE_DIRECTORY.resolve("single-file").resolve("main.bal").toAbsolutePath();
+        Path projectFile = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
+        openFile(singleFile);
+        Assert.assertEquals(workspaceManager.releaseInactiveProjects(), 0,
+                "the only project of the workspace should not be released");
+
+        openFile(projectFile);
+        BallerinaWorkspaceManager.ProjectContext inactiveProject =
+                workspaceManager.sourceRootToProject.get(workspaceManager.projectRoot(singleFile));
+        BallerinaWorkspaceManager.ProjectContext activeProject =
+                workspaceManager.sourceRootToProject.get(workspaceManager.projectRoot(projectFile));
+        Project inactiveProjectInstance = inactiveProject.project();
+
+        // The least recently used project is released, the most recently used one is kept
+        Assert.assertEquals(workspaceManager.releaseInactiveProjects(), 1);
+        Assert.assertTrue(inactiveProject.isReleased());
+        Assert.assertNotSame(inactiveProject.project(), inactiveProjectInstance);
+        Assert.assertFalse(activeProject.isReleased());
+        Assert.assertEquals(workspaceManager.releaseInactiveProjects(), 0);
+
+        // A released project is compiled again when it is accessed next
+        Assert.assertTrue(workspaceManager.semanticModel(singleFile).isPresent());
+        Assert.assertFalse(inactiveProject.isReleased());
+        Assert.assertEquals(workspaceManager.releaseInactiveProjects(), 1);
+        Assert.assertTrue(activeProject.isReleased());
+    }
+
     @Test
     public void testWSEventsCreateBalSource() throws WorkspaceDocumentException, IOException {
         Path filePath = RESOURCE_DIRECTORY.resolve("myproject").resolve("main.bal").toAbsolutePath();
@@ -18,6 +18,7 @@ package org.ballerinalang.debugadapter;
 
 import com.sun.jdi.request.EventRequestManager;
 import io.ballerina.projects.Project;
+import org.ballerinalang.debugadapter.evaluation.EvaluationCache;
 import org.ballerinalang.debugadapter.jdi.VirtualMachineProxyImpl;
 import org.eclipse.lsp4j.debug.services.IDebugProtocolClient;
 
@@ -38,6 +39,7 @@ public class ExecutionContext {
     private Project sourceProject;
     private String sourceProjectRoot;
     private final DebugProjectCache projectCache;
+    private final EvaluationCache evaluationCache;
     private Process launchedProcess;
     private DebugInstruction lastInstruction;
     private boolean terminateRequestReceived;
@@ -46,6 +48,7 @@ public class ExecutionContext {
     ExecutionContext(JBallerinaDebugServer adapter) {
         this.adapter = adapter;
         this.projectCache = new DebugProjectCache();
+        this.evaluationCache = new EvaluationCache();
         this.lastInstruction = DebugInstruction.CONTINUE;
     }
 
@@ -142,6 +145,11 @@ public class ExecutionContext {
 
     public void updateProjectCache(Project project) {
         this.projectCache.addProject(project);
+        this.evaluationCache.clearResolvedImports();
+    }
+
+    public EvaluationCache getEvaluationCache() {
+        return evaluationCache;
     }
 
     public String getSourceProjectRoot() {
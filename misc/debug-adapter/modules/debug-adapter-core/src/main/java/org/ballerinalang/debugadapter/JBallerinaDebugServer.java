@@ -40,6 +40,7 @@ import org.ballerinalang.debugadapter.config.ClientLaunchConfigHolder;
 import org.ballerinalang.debugadapter.evaluation.DebugExpressionEvaluator;
 import org.ballerinalang.debugadapter.evaluation.EvaluationException;
 import org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind;
+import org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils;
 import org.ballerinalang.debugadapter.jdi.JdiProxyException;
 import org.ballerinalang.debugadapter.jdi.LocalVariableProxyImpl;
 import org.ballerinalang.debugadapter.jdi.StackFrameProxyImpl;
@@ -128,6 +129,7 @@ import static org.ballerinalang.debugadapter.completion.util.CompletionUtil.getT
 import static org.ballerinalang.debugadapter.completion.util.CompletionUtil.getVisibleSymbolCompletions;
 import static org.ballerinalang.debugadapter.completion.util.CompletionUtil.triggerCharactersFound;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.BAL_FILE_EXT;
+import static org.ballerinalang.debugadapter.utils.PackageUtils.CONSTANTS_CLASS_NAME;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.GENERATED_VAR_PREFIX;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_CLASS_NAME;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.getQualifiedClassName;
@@ -141,7 +143,6 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
     private ClientConfigHolder clientConfigHolder;
     private DebugExecutionManager executionManager;
     private JDIEventProcessor eventProcessor;
-    private DebugExpressionEvaluator evaluator;
     private final ExecutionContext context;
     private ThreadReferenceProxyImpl activeThread;
     private SuspendedContext suspendedContext;
@@ -484,7 +485,7 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
             StackFrameProxyImpl frame = stackFramesMap.get(args.getFrameId());
             SuspendedContext suspendedContext = new SuspendedContext(context, activeThread, frame);
             EvaluationContext evaluationContext = new EvaluationContext(suspendedContext);
-            evaluator = Objects.requireNonNullElse(evaluator, new DebugExpressionEvaluator(evaluationContext));
+            DebugExpressionEvaluator evaluator = new DebugExpressionEvaluator(evaluationContext);
             evaluator.setExpression(args.getExpression());
             BVariable variable = evaluator.evaluate().getBVariable();
 
@@ -768,13 +769,35 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
             return new Variable[0];
         }
         ArrayList<Variable> globalVars = new ArrayList<>();
-        ReferenceType initClassReference = cls.get(0);
-        for (Field field : initClassReference.allFields()) {
+        addGlobalVariables(context, cls.get(0), stackFrameReference, globalVars);
+        // Module constants are held in a separate class, which is initialized when a constant is first accessed.
+        getConstantsClass(context).ifPresent(constantsClassReference ->
+                addGlobalVariables(context, constantsClassReference, stackFrameReference, globalVars));
+        return globalVars.toArray(new Variable[0]);
+    }
+
+    private Optional<ReferenceType> getConstantsClass(SuspendedContext context) {
+        String classQName = PackageUtils.getQualifiedClassName(context, CONSTANTS_CLASS_NAME);
+        List<ReferenceType> cls = context.getAttachedVm().classesByName(classQName);
+        if (cls.size() == 1) {
+            return Optional.of(cls.get(0));
+        }
+        try {
+            return Optional.of(EvaluationUtils.loadClass(context, classQName, ""));
+        } catch (EvaluationException e) {
+            // Modules without constants do not have a constants class.
+            return Optional.empty();
+        }
+    }
+
+    private void addGlobalVariables(SuspendedContext context, ReferenceType classReference, int stackFrameReference,
+                                    List<Variable> globalVars) {
+        for (Field field : classReference.allFields()) {
             String fieldName = Utils.decodeIdentifier(field.name());
             if (!field.isPublic() || !field.isStatic() || fieldName.startsWith(GENERATED_VAR_PREFIX)) {
                 continue;
             }
-            Value fieldValue = initClassReference.getValue(field);
+            Value fieldValue = classReference.getValue(field);
             BVariable variable = VariableFactory.getVariable(context, fieldName, fieldValue);
             if (variable == null) {
                 continue;
@@ -789,7 +812,6 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
             }
             globalVars.add(variable.getDapVariable());
         }
-        return globalVars.toArray(new Variable[0]);
     }
 
     private Variable[] computeStackFrameVariables(VariablesArguments args) throws Exception {
@@ -1122,7 +1144,6 @@ public class JBallerinaDebugServer implements IDebugProtocolServer {
      */
     private void clearState() {
         suspendedContext = null;
-        evaluator = null;
         activeThread = null;
         stackFramesMap.clear();
         loadedCompoundVariables.clear();
@@ -21,7 +21,9 @@ import org.ballerinalang.debugadapter.EvaluationContext;
 import org.ballerinalang.debugadapter.evaluation.engine.Evaluator;
 import org.ballerinalang.debugadapter.evaluation.validator.SerialExpressionValidator;
 
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.Optional;
 
 import static org.ballerinalang.debugadapter.evaluation.EvaluationException.createEvaluationException;
 
@@ -50,16 +52,20 @@ public class DebugExpressionEvaluator extends Evaluator {
     @Override
     public BExpressionValue evaluate() throws EvaluationException {
         try {
-            // Parses the given string expression.
-            SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
-            ExpressionNode parsedExpression = expressionValidator.validateAndParse(expression);
+            EvaluationCache cache = context.getExecutionContext().getEvaluationCache();
+            // Parses the given string expression, unless it was already validated and parsed in this debug session.
+            ExpressionNode parsedExpression = cache.getParsedExpression(expression).orElse(null);
+            if (parsedExpression == null) {
+                SerialExpressionValidator expressionValidator = new SerialExpressionValidator();
+                parsedExpression = expressionValidator.validateAndParse(expression);
+                cache.addParsedExpression(expression, parsedExpression);
+            }
 
-            EvaluationImportResolver importResolver = new EvaluationImportResolver(context);
-            Map<String, BImport> resolvedImports = importResolver.getAllImports();
+            Map<String, BImport> resolvedImports = resolveImports(cache);
             evaluationContext.setResolvedImports(resolvedImports);
             evaluationContext.setExpression(expression);
             // Validates the import prefixes (qualified name references) within the expression.
-            importResolver.detectUsedImports(parsedExpression);
+            new EvaluationImportResolver(context).detectUsedImports(parsedExpression, resolvedImports);
 
             // Uses `ExpressionIdentifierModifier` to modify and encode all the identifiers within the expression.
             parsedExpression = (ExpressionNode) parsedExpression.apply(new IdentifierModifier());
@@ -73,4 +79,22 @@ public class DebugExpressionEvaluator extends Evaluator {
             throw createEvaluationException("internal error");
         }
     }
+
+    /**
+     * Returns all the imports declared in the current debug source, from the evaluation cache if they were already
+     * resolved for the same source.
+     */
+    private Map<String, BImport> resolveImports(EvaluationCache cache) throws EvaluationException {
+        Optional<Path> sourcePath = context.getBreakPointSourcePath(context.getProject());
+        if (sourcePath.isPresent()) {
+            Optional<Map<String, BImport>> cachedImports = cache.getResolvedImports(sourcePath.get());
+            if (cachedImports.isPresent()) {
+                return cachedImports.get();
+            }
+        }
+
+        Map<String, BImport> resolvedImports = new EvaluationImportResolver(context).getAllImports();
+        sourcePath.ifPresent(path -> cache.addResolvedImports(path, resolvedImports));
+        return resolvedImports;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter.evaluation;
+
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A debug session level cache of the frame independent evaluation artifacts. Parsed expressions are cached against
+ * the expression text and resolved imports are cached against the source path of the debug hit, so that
+ * re-evaluating the same expressions (i.e. watch expressions) on every breakpoint hit does not repeat the parsing and
+ * semantic API lookups.
+ * <p>
+ * Evaluator trees are not cached, as they are bound to the suspended frame in which they were built.
+ *
+ * @since 2201.10.0
+ */
+public class EvaluationCache {
+
+    private static final int MAX_CACHED_EXPRESSIONS = 100;
+
+    private final Map<String, ExpressionNode> parsedExpressions;
+    private final Map<Path, Map<String, BImport>> resolvedImports;
+
+    public EvaluationCache() {
+        this.parsedExpressions = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ExpressionNode> eldest) {
+                return size() > MAX_CACHED_EXPRESSIONS;
+            }
+        });
+        this.resolvedImports = new ConcurrentHashMap<>();
+    }
+
+    public Optional<ExpressionNode> getParsedExpression(String expression) {
+        return Optional.ofNullable(parsedExpressions.get(expression));
+    }
+
+    public void addParsedExpression(String expression, ExpressionNode parsedExpression) {
+        parsedExpressions.put(expression, parsedExpression);
+    }
+
+    public Optional<Map<String, BImport>> getResolvedImports(Path sourcePath) {
+        return Optional.ofNullable(resolvedImports.get(sourcePath));
+    }
+
+    public void addResolvedImports(Path sourcePath, Map<String, BImport> imports) {
+        resolvedImports.put(sourcePath, imports);
+    }
+
+    /**
+     * Clears the cached imports, which needs to be done whenever the source projects are reloaded.
+     */
+    public void clearResolvedImports() {
+        resolvedImports.clear();
+    }
+}
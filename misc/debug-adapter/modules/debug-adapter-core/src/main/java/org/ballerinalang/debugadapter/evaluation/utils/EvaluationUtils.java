@@ -67,6 +67,7 @@ import static org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind.
 import static org.ballerinalang.debugadapter.evaluation.EvaluationExceptionKind.NAME_REF_RESOLVING_ERROR;
 import static org.ballerinalang.debugadapter.evaluation.IdentifierModifier.encodeModuleName;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.BAL_FILE_EXT;
+import static org.ballerinalang.debugadapter.utils.PackageUtils.CONSTANTS_CLASS_NAME;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_CLASS_NAME;
 
 /**
@@ -669,7 +670,13 @@ public class EvaluationUtils {
      */
     private static Optional<BExpressionValue> searchGlobalVariables(SuspendedContext context, String nameReference) {
         String classQName = PackageUtils.getQualifiedClassName(context, INIT_CLASS_NAME);
-        return getFieldValue(context, classQName, nameReference);
+        Optional<BExpressionValue> globalVariable = getFieldValue(context, classQName, nameReference);
+        if (globalVariable.isPresent()) {
+            return globalVariable;
+        }
+        // Module constants are held in a separate class.
+        String constantsClassQName = PackageUtils.getQualifiedClassName(context, CONSTANTS_CLASS_NAME);
+        return getFieldValue(context, constantsClassQName, nameReference);
     }
 
     private static Optional<BExpressionValue> getFieldValue(SuspendedContext context, String qualifiedClassName,
@@ -35,6 +35,7 @@ import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.B_
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.GET_BMAP_TYPE_METHOD;
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.MODULE_VERSION_SEPARATOR_REGEX;
 import static org.ballerinalang.debugadapter.evaluation.utils.EvaluationUtils.loadClass;
+import static org.ballerinalang.debugadapter.utils.PackageUtils.CONSTANTS_CLASS_NAME;
 import static org.ballerinalang.debugadapter.utils.PackageUtils.INIT_CLASS_NAME;
 import static org.ballerinalang.debugadapter.variable.VariableUtils.UNKNOWN_VALUE;
 
@@ -54,8 +55,13 @@ public class VariableUtils {
      */
     public static Optional<BExpressionValue> getModuleVariable(SuspendedContext context, ModuleSymbol moduleSymbol,
                                                                String nameReference) {
-        String classQName = getInitClassName(moduleSymbol);
-        return getFieldValue(context, classQName, nameReference);
+        String classQName = getModuleClassName(moduleSymbol, INIT_CLASS_NAME);
+        Optional<BExpressionValue> moduleVariable = getFieldValue(context, classQName, nameReference);
+        if (moduleVariable.isPresent()) {
+            return moduleVariable;
+        }
+        // Module constants are held in a separate class.
+        return getFieldValue(context, getModuleClassName(moduleSymbol, CONSTANTS_CLASS_NAME), nameReference);
     }
 
     /**
@@ -78,17 +84,18 @@ public class VariableUtils {
     }
 
     /**
-     * Returns the fully-qualified name of the init class, for a given Ballerina module.
+     * Returns the fully-qualified name of the given module level class, for a given Ballerina module.
      *
      * @param moduleSymbol module symbol retrieved from the semantic API
+     * @param className    module level class name
      * @return fully-qualified class name
      */
-    private static String getInitClassName(ModuleSymbol moduleSymbol) {
+    private static String getModuleClassName(ModuleSymbol moduleSymbol, String className) {
         StringJoiner classNameJoiner = new StringJoiner(".");
         classNameJoiner.add(moduleSymbol.id().orgName())
                 .add(encodeModuleName(moduleSymbol.id().moduleName()))
                 .add(moduleSymbol.id().version().split(MODULE_VERSION_SEPARATOR_REGEX)[0])
-                .add(INIT_CLASS_NAME);
+                .add(className);
         return classNameJoiner.toString();
     }
 
@@ -57,6 +57,7 @@ public class PackageUtils {
     public static final String BAL_FILE_EXT = ".bal";
     public static final String BAL_TOML_FILE_NAME = "Ballerina.toml";
     public static final String INIT_CLASS_NAME = "$_init";
+    public static final String CONSTANTS_CLASS_NAME = "constants.$_constants";
     public static final String INIT_TYPE_INSTANCE_PREFIX = "$type$";
     public static final String GENERATED_VAR_PREFIX = "$";
     static final String USER_MODULE_DIR = "modules";
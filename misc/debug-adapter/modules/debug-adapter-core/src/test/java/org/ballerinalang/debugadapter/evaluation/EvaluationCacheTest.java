@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.debugadapter.evaluation;
+
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Tests the debug session level evaluation cache.
+ *
+ * @since 2201.10.0
+ */
+public class EvaluationCacheTest {
+
+    @Test(description = "Test reusing the parsed expressions")
+    public void testParsedExpressionCacheHit() {
+        EvaluationCache cache = new EvaluationCache();
+        Assert.assertTrue(cache.getParsedExpression("a + b").isEmpty());
+
+        ExpressionNode parsedExpression = NodeParser.parseExpression("a + b");
+        cache.addParsedExpression("a + b", parsedExpression);
+        Optional<ExpressionNode> cachedExpression = cache.getParsedExpression("a + b");
+        Assert.assertTrue(cachedExpression.isPresent());
+        Assert.assertSame(cachedExpression.get(), parsedExpression);
+        Assert.assertTrue(cache.getParsedExpression("a - b").isEmpty());
+    }
+
+    @Test(description = "Test evicting the least recently used parsed expressions")
+    public void testParsedExpressionCacheEviction() {
+        EvaluationCache cache = new EvaluationCache();
+        for (int i = 0; i < 100; i++) {
+            cache.addParsedExpression("x" + i, NodeParser.parseExpression("x" + i));
+        }
+        // Accessing the first expression makes the second one the least recently used entry.
+        Assert.assertTrue(cache.getParsedExpression("x0").isPresent());
+        cache.addParsedExpression("x100", NodeParser.parseExpression("x100"));
+
+        Assert.assertTrue(cache.getParsedExpression("x0").isPresent());
+        Assert.assertTrue(cache.getParsedExpression("x1").isEmpty());
+        Assert.assertTrue(cache.getParsedExpression("x100").isPresent());
+    }
+
+    @Test(description = "Test reusing and invalidating the resolved imports")
+    public void testResolvedImportsCacheInvalidation() {
+        EvaluationCache cache = new EvaluationCache();
+        Path mainFile = Paths.get("project", "main.bal").toAbsolutePath();
+        Path utilsFile = Paths.get("project", "utils.bal").toAbsolutePath();
+        Map<String, BImport> imports = Map.of("io", new BImport("ballerina", "io", "io"));
+
+        cache.addResolvedImports(mainFile, imports);
+        Optional<Map<String, BImport>> cachedImports = cache.getResolvedImports(mainFile);
+        Assert.assertTrue(cachedImports.isPresent());
+        Assert.assertSame(cachedImports.get(), imports);
+        Assert.assertTrue(cache.getResolvedImports(utilsFile).isEmpty());
+
+        cache.addParsedExpression("a + b", NodeParser.parseExpression("a + b"));
+        cache.clearResolvedImports();
+        Assert.assertTrue(cache.getResolvedImports(mainFile).isEmpty());
+        // Parsed expressions do not depend on the project sources and therefore, are kept.
+        Assert.assertTrue(cache.getParsedExpression("a + b").isPresent());
+    }
+}
@@ -21,6 +21,13 @@ package org.ballerinalang.docgen.docs;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.Document;
 import io.ballerina.projects.Project;
@@ -54,12 +61,22 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -72,6 +89,7 @@ public class BallerinaDocGenerator {
 
     public static final String API_DOCS_JSON = "api-docs.json";
     private static final String API_DOCS_JS = "api-docs.js";
+    private static final String API_DOCS_HASH = "api-docs.hash";
     private static final String CENTRAL_STDLIB_INDEX_JSON = "stdlib-index.json";
     private static final String CENTRAL_STDLIB_SEARCH_JSON = "stdlib-search.json";
     private static final String BUILTIN_TYPES_DESCRIPTION_DIR = "builtin-types-descriptions";
@@ -190,11 +208,84 @@ public class BallerinaDocGenerator {
      */
     public static void generateAPIDocs(Project project, String output, boolean excludeUI)
             throws IOException {
+        generateAPIDocs(project, output, excludeUI, false);
+    }
+
+    /**
+     * API to generate API docs using a Project to a given folder.
+     * <p>
+     * In incremental mode, a hash of the public API of each module is recorded next to the generated docs. When docs
+     * are generated per module (i.e. {@code excludeUI} is set), modules whose hash matches the previous run are not
+     * regenerated. Otherwise all modules are written to a single file, which is only regenerated if the public API
+     * of any module has changed.
+     *
+     *  @param project Ballerina project
+     *  @param output Output path as a string
+     *  @param excludeUI Exclude UI elements being copied/generated
+     *  @param incremental Skip modules whose public API has not changed since the last run
+     */
+    public static void generateAPIDocs(Project project, String output, boolean excludeUI, boolean incremental)
+            throws IOException {
         Map<String, ModuleDoc> moduleDocMap = generateModuleDocMap(project);
+        String orgName = project.currentPackage().packageOrg().toString();
+        String version = project.currentPackage().packageVersion().toString();
+        Path outputPath = Path.of(output);
+
+        Map<String, String> apiHashes = new HashMap<>();
+        Set<String> modulesToGenerate = new HashSet<>(moduleDocMap.keySet());
+        if (incremental && !moduleDocMap.isEmpty()) {
+            for (Map.Entry<String, ModuleDoc> moduleDoc : moduleDocMap.entrySet()) {
+                apiHashes.put(moduleDoc.getKey(), getPublicApiHash(moduleDoc.getValue(), version, moduleDocMap));
+            }
+            if (excludeUI) {
+                for (String moduleName : moduleDocMap.keySet()) {
+                    Path moduleOutput = outputPath.resolve(orgName).resolve(moduleName)
+                            .resolve(getModuleVersion(version));
+                    if (apiHashes.get(moduleName).equals(readApiHash(moduleOutput))) {
+                        modulesToGenerate.remove(moduleName);
+                        apiHashes.remove(moduleName);
+                        if (BallerinaDocUtils.isDebugEnabled()) {
+                            out.println("docerina: public API of module " + moduleName + " is unchanged, skipping");
+                        }
+                    }
+                }
+                if (modulesToGenerate.isEmpty()) {
+                    return;
+                }
+            } else if (getPackageApiHash(apiHashes).equals(readApiHash(getDocsOutputPath(outputPath, orgName,
+                    moduleDocMap.keySet(), version)))) {
+                if (BallerinaDocUtils.isDebugEnabled()) {
+                    out.println("docerina: public API of the package is unchanged, skipping");
+                }
+                return;
+            }
+        }
+
         ModuleLibrary moduleLib = new ModuleLibrary();
-        moduleLib.modules = getDocsGenModel(moduleDocMap, project.currentPackage().packageOrg().toString(),
-                project.currentPackage().packageVersion().toString());
-        writeAPIDocs(moduleLib, Path.of(output), false, excludeUI);
+        moduleLib.modules = getDocsGenModel(moduleDocMap, orgName, version, modulesToGenerate);
+        writeAPIDocs(moduleLib, outputPath, false, excludeUI);
+
+        if (!incremental || moduleLib.modules.isEmpty()) {
+            return;
+        }
+        if (excludeUI) {
+            for (Module module : moduleLib.modules) {
+                writeApiHash(outputPath.resolve(module.orgName).resolve(module.id).resolve(module.version),
+                        apiHashes.get(module.id));
+            }
+        } else {
+            writeApiHash(getDocsOutputPath(outputPath, orgName, moduleDocMap.keySet(), version),
+                    getPackageApiHash(apiHashes));
+        }
+    }
+
+    /**
+     * Returns the directory the docs of all the modules of a package are written to when they are not generated per
+     * module, i.e. the directory of the module which is listed first.
+     */
+    private static Path getDocsOutputPath(Path output, String orgName, Set<String> moduleNames, String version) {
+        String firstModule = moduleNames.stream().min(String::compareToIgnoreCase).orElseThrow();
+        return output.resolve(orgName).resolve(firstModule).resolve(getModuleVersion(version));
     }
 
     private static void writeAPIDocs(ModuleLibrary moduleLib, Path output, boolean isMerge, boolean excludeUI) {
@@ -205,13 +296,19 @@ public class BallerinaDocGenerator {
         if (!isMerge && excludeUI) {
             // Doc gen for a bala.
             // Creates jsons for each modules
-            for (Module module : moduleLib.modules) {
+            runPerModule(moduleLib.modules, module -> {
+                long startTime = System.currentTimeMillis();
                 ModuleLibrary tempLib = new ModuleLibrary();
                 tempLib.modules.add(module);
                 Path outputPath = output.resolve(module.orgName).resolve(module.id).resolve(module.version);
                 genApiDocsJson(tempLib, outputPath, true);
                 copyResources(module.resources, outputPath);
-            }
+                if (BallerinaDocUtils.isDebugEnabled()) {
+                    out.println("docerina: wrote API docs of module " + module.id + " in "
+                            + (System.currentTimeMillis() - startTime) + "ms");
+                }
+                return module;
+            });
             return;
         } else if (!isMerge) {
             // Doc generation via doc command
@@ -474,51 +571,48 @@ public class BallerinaDocGenerator {
      * @return docs generator model of the project.
      */
     public static List<Module> getDocsGenModel(Map<String, ModuleDoc> docsMap, String orgName, String version) {
-        List<Module> moduleDocs = new ArrayList<>();
-        List<ModuleMetaData> relatedModules = new ArrayList<>();
-        for (Map.Entry<String, ModuleDoc> moduleDoc : docsMap.entrySet()) {
-            SemanticModel model = moduleDoc.getValue().semanticModel;
-            Module module = new Module();
-            module.id = moduleDoc.getKey();
-            module.orgName = orgName;
-            String moduleVersion = version;
-            // get version from system property if not found in bLangPackage
-            module.version = moduleVersion.isEmpty() ?
-                    System.getProperty(BallerinaDocConstants.VERSION) :
-                    moduleVersion;
-            module.summary = moduleDoc.getValue().summary;
-            module.description = moduleDoc.getValue().description;
-            module.isDefaultModule = moduleDoc.getValue().isDefault;
-
-            // collect module's doc resources
-            module.resources.addAll(moduleDoc.getValue().resources);
-
-            // Loop through bal files
-            for (Map.Entry<String, SyntaxTree> syntaxTreeMapEntry : moduleDoc.getValue().syntaxTreeMap.entrySet()) {
-                Generator.setModuleFromSyntaxTree(module,
-                        syntaxTreeMapEntry.getValue(), model);
+        return getDocsGenModel(docsMap, orgName, version, docsMap.keySet());
+    }
+
+    /**
+     * Generate docs generator model for the given subset of modules. The related modules of each model are resolved
+     * from all the modules in the docs map.
+     *
+     * @param docsMap moduleDocList modules list of the project.
+     * @param orgName organization name.
+     * @param version project version.
+     * @param modulesToGenerate names of the modules whose models to be generated.
+     * @return docs generator model of the given modules.
+     */
+    public static List<Module> getDocsGenModel(Map<String, ModuleDoc> docsMap, String orgName, String version,
+                                               Set<String> modulesToGenerate) {
+        List<Map.Entry<String, ModuleDoc>> moduleEntries = docsMap.entrySet().stream()
+                .filter(moduleDoc -> modulesToGenerate.contains(moduleDoc.getKey()))
+                .toList();
+        // The semantic models of the modules share the compiler context of the package, which is not thread-safe.
+        // Hence the models are generated sequentially, and only the docs of the modules are written concurrently.
+        List<Module> moduleDocs = new ArrayList<>(moduleEntries.size());
+        for (Map.Entry<String, ModuleDoc> moduleDoc : moduleEntries) {
+            long startTime = System.currentTimeMillis();
+            Module module = generateModuleModel(moduleDoc.getKey(), moduleDoc.getValue(), orgName, version);
+            if (BallerinaDocUtils.isDebugEnabled()) {
+                out.println("docerina: generated doc model of module " + module.id + " in "
+                        + (System.currentTimeMillis() - startTime) + "ms");
             }
-            module.records.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.functions.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.classes.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.clients.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.listeners.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.objectTypes.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.enums.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.types.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.constants.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.annotations.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
-            module.errors.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
             moduleDocs.add(module);
+        }
+        moduleDocs.sort((module1, module2) -> module1.id.compareToIgnoreCase(module2.id));
+
+        List<ModuleMetaData> relatedModules = new ArrayList<>();
+        for (Map.Entry<String, ModuleDoc> moduleDoc : docsMap.entrySet()) {
             ModuleMetaData moduleMeta = new ModuleMetaData();
-            moduleMeta.id = module.id;
-            moduleMeta.orgName = module.orgName;
-            moduleMeta.summary = module.summary;
-            moduleMeta.version = module.version;
-            moduleMeta.isDefaultModule = module.isDefaultModule;
+            moduleMeta.id = moduleDoc.getKey();
+            moduleMeta.orgName = orgName;
+            moduleMeta.summary = moduleDoc.getValue().summary;
+            moduleMeta.version = getModuleVersion(version);
+            moduleMeta.isDefaultModule = moduleDoc.getValue().isDefault;
             relatedModules.add(moduleMeta);
         }
-        moduleDocs.sort((module1, module2) -> module1.id.compareToIgnoreCase(module2.id));
         if (relatedModules.size() > 1) {
             relatedModules.sort((mod1, mod2) -> mod1.id.compareToIgnoreCase(mod2.id));
             moduleDocs.forEach(module -> module.relatedModules = relatedModules);
@@ -526,6 +620,187 @@ public class BallerinaDocGenerator {
         return moduleDocs;
     }
 
+    private static Module generateModuleModel(String moduleName, ModuleDoc moduleDoc, String orgName,
+                                              String version) {
+        SemanticModel model = moduleDoc.semanticModel;
+        Module module = new Module();
+        module.id = moduleName;
+        module.orgName = orgName;
+        module.version = getModuleVersion(version);
+        module.summary = moduleDoc.summary;
+        module.description = moduleDoc.description;
+        module.isDefaultModule = moduleDoc.isDefault;
+
+        // collect module's doc resources
+        module.resources.addAll(moduleDoc.resources);
+
+        // Loop through bal files
+        for (Map.Entry<String, SyntaxTree> syntaxTreeMapEntry : moduleDoc.syntaxTreeMap.entrySet()) {
+            Generator.setModuleFromSyntaxTree(module,
+                    syntaxTreeMapEntry.getValue(), model);
+        }
+        module.records.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.functions.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.classes.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.clients.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.listeners.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.objectTypes.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.enums.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.types.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.constants.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.annotations.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        module.errors.sort((o1, o2) -> o1.name.compareToIgnoreCase(o2.name));
+        return module;
+    }
+
+    private static String getModuleVersion(String version) {
+        // get version from system property if not found in bLangPackage
+        return version.isEmpty() ? System.getProperty(BallerinaDocConstants.VERSION) : version;
+    }
+
+    /**
+     * Runs the given task for each of the given items using a bounded thread pool, and returns the results in the
+     * order of the items.
+     */
+    private static <T, R> List<R> runPerModule(List<T> items, Function<T, R> task) {
+        if (items.size() < 2) {
+            return items.stream().map(task).toList();
+        }
+        int poolSize = Math.min(items.size(), Math.max(1, Runtime.getRuntime().availableProcessors()));
+        ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+        try {
+            List<Future<R>> futures = new ArrayList<>(items.size());
+            for (T item : items) {
+                futures.add(executor.submit(() -> task.apply(item)));
+            }
+            List<R> results = new ArrayList<>(items.size());
+            for (Future<R> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("API documentation generation was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Computes a hash of the public API of a module, i.e. the signatures and documentation of its public module
+     * members, its type definitions, its Module.md and the package version. Function and method bodies are left out,
+     * since they are not part of the docs. The sorted list of the modules of the package and their summaries is
+     * included as well, since the docs of each module list the related modules.
+     */
+    private static String getPublicApiHash(ModuleDoc moduleDoc, String version, Map<String, ModuleDoc> moduleDocMap) {
+        MessageDigest digest = getApiHashDigest();
+        digest.update(getApiDocsVersion().getBytes(StandardCharsets.UTF_8));
+        digest.update(version.getBytes(StandardCharsets.UTF_8));
+        digest.update(moduleDoc.description.getBytes(StandardCharsets.UTF_8));
+        List<String> moduleNames = new ArrayList<>(moduleDocMap.keySet());
+        moduleNames.sort(String::compareTo);
+        for (String moduleName : moduleNames) {
+            digest.update(moduleName.getBytes(StandardCharsets.UTF_8));
+            digest.update(moduleDocMap.get(moduleName).summary.getBytes(StandardCharsets.UTF_8));
+        }
+        List<String> fileNames = new ArrayList<>(moduleDoc.syntaxTreeMap.keySet());
+        fileNames.sort(String::compareTo);
+        for (String fileName : fileNames) {
+            SyntaxTree syntaxTree = moduleDoc.syntaxTreeMap.get(fileName);
+            if (!syntaxTree.containsModulePart()) {
+                continue;
+            }
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                if (member.kind() == SyntaxKind.TYPE_DEFINITION || isPublic(member)) {
+                    updateApiHash(digest, member);
+                }
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Computes a hash of the public API of all the modules of a package from the hashes of its modules.
+     */
+    private static String getPackageApiHash(Map<String, String> moduleApiHashes) {
+        MessageDigest digest = getApiHashDigest();
+        List<String> moduleNames = new ArrayList<>(moduleApiHashes.keySet());
+        moduleNames.sort(String::compareTo);
+        for (String moduleName : moduleNames) {
+            digest.update(moduleName.getBytes(StandardCharsets.UTF_8));
+            digest.update(moduleApiHashes.get(moduleName).getBytes(StandardCharsets.UTF_8));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest getApiHashDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void updateApiHash(MessageDigest digest, Node node) {
+        switch (node.kind()) {
+            case FUNCTION_DEFINITION, OBJECT_METHOD_DEFINITION, RESOURCE_ACCESSOR_DEFINITION -> {
+                // Only the signature and the documentation of a function are part of its public API
+                FunctionDefinitionNode function = (FunctionDefinitionNode) node;
+                function.metadata().ifPresent(metadata -> updateApiHash(digest, metadata));
+                function.qualifierList().forEach(qualifier -> updateApiHash(digest, qualifier));
+                updateApiHash(digest, function.functionName());
+                function.relativeResourcePath().forEach(pathSegment -> updateApiHash(digest, pathSegment));
+                updateApiHash(digest, function.functionSignature());
+            }
+            case CLASS_DEFINITION -> {
+                ClassDefinitionNode classDefinition = (ClassDefinitionNode) node;
+                classDefinition.metadata().ifPresent(metadata -> updateApiHash(digest, metadata));
+                classDefinition.classTypeQualifiers().forEach(qualifier -> updateApiHash(digest, qualifier));
+                updateApiHash(digest, classDefinition.className());
+                classDefinition.members().forEach(member -> updateApiHash(digest, member));
+            }
+            default -> digest.update(node.toSourceCode().strip().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static boolean isPublic(NonTerminalNode member) {
+        for (Node child : member.children()) {
+            if (child.kind() == SyntaxKind.PUBLIC_KEYWORD) {
+                return true;
+            }
+            if (child.kind() == SyntaxKind.LIST && isPublic((NonTerminalNode) child)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String readApiHash(Path moduleOutput) {
+        Path hashFile = moduleOutput.resolve(API_DOCS_HASH);
+        if (!Files.exists(hashFile) || !Files.exists(moduleOutput.resolve(API_DOCS_JSON))) {
+            return null;
+        }
+        try {
+            return Files.readString(hashFile, StandardCharsets.UTF_8).trim();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static void writeApiHash(Path moduleOutput, String apiHash) {
+        try {
+            Files.writeString(moduleOutput.resolve(API_DOCS_HASH), apiHash, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("docerina: failed to write the API hash of {}", moduleOutput, e);
+        }
+    }
+
     private static List<Path> getResourcePaths(Path absolutePkgPath) throws IOException {
         Path resourcesDirPath = absolutePkgPath.resolve("resources");
         List<Path> resources = new ArrayList<>();
@@ -75,6 +75,28 @@ public class GenDocsForBalaTest {
         Assert.assertTrue(sfWorldModuleApiDocsJsonAsString.contains("PersonZ"), "PersonZ class is missing");
     }
 
+    @Test
+    public void incrementalDocsGenerationForBalaTest() throws IOException {
+        Path balaPath = this.resourceDir.resolve("balas").resolve("foo-fb-any-1.3.5.bala");
+
+        ProjectEnvironmentBuilder defaultBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        defaultBuilder.addCompilationCacheFactory(TempDirCompilationCache::from);
+        BalaProject balaProject = BalaProject.loadProject(defaultBuilder, balaPath);
+
+        BallerinaDocGenerator.generateAPIDocs(balaProject, this.docsPath.toString(), true, true);
+        Path apiDocsJson = this.docsPath.resolve("foo").resolve("fb.world").resolve("1.3.5")
+                .resolve(BallerinaDocGenerator.API_DOCS_JSON);
+        Assert.assertTrue(Files.exists(apiDocsJson), "fb.world module docs are missing");
+
+        // Unchanged modules should not be regenerated in the next incremental run
+        Files.writeString(apiDocsJson, "{}");
+        BallerinaDocGenerator.generateAPIDocs(balaProject, this.docsPath.toString(), true, true);
+        Assert.assertEquals(Files.readString(apiDocsJson), "{}");
+
+        BallerinaDocGenerator.generateAPIDocs(balaProject, this.docsPath.toString(), true, false);
+        Assert.assertTrue(Files.readString(apiDocsJson).contains("PersonZ"), "PersonZ class is missing");
+    }
+
     @Test
     public void testDocutilsGetSummary() {
         String description = "Connects the fb communication services!@#$%^&*()-=+_';/?><|\"";
@@ -309,31 +309,43 @@ public class FormatterUtils {
             return true;
         }
 
-        int nodeStartLine = node.lineRange().startLine().line();
-        int nodeStartColumn = node.lineRange().startLine().offset();
-        int nodeEndLine = node.lineRange().endLine().line();
-        int nodeEndColumn = node.lineRange().endLine().offset();
+        return !isBeforeRange(node, lineRange) && !isAfterRange(node, lineRange);
+    }
 
+    /**
+     * Check whether the given node ends before the given line range.
+     *
+     * @param node Node to check
+     * @param lineRange Line range to check against
+     * @return Flag indicating whether the node ends before the range
+     */
+    static boolean isBeforeRange(Node node, LineRange lineRange) {
+        int nodeEndLine = node.lineRange().endLine().line();
         int rangeStartLine = lineRange.startLine().line();
-        int rangeStartColumn = lineRange.startLine().offset();
-        int rangeEndLine = lineRange.endLine().line();
-        int rangeEndColumn = lineRange.endLine().offset();
-
-        // Node ends before the range
-        if (nodeEndLine < rangeStartLine) {
-            return false;
-        } else if (nodeEndLine == rangeStartLine) {
-            return nodeEndColumn > rangeStartColumn;
+        if (nodeEndLine != rangeStartLine) {
+            return nodeEndLine < rangeStartLine;
         }
+        return node.lineRange().endLine().offset() <= lineRange.startLine().offset();
+    }
 
-        // Node starts after the range
-        if (nodeStartLine > rangeEndLine) {
+    /**
+     * Check whether the given node starts after the given line range.
+     *
+     * @param node Node to check
+     * @param lineRange Line range to check against
+     * @return Flag indicating whether the node starts after the range
+     */
+    static boolean isAfterRange(Node node, LineRange lineRange) {
+        // Nodes ending on or before the first line of the range are never considered to be after the range
+        if (node.lineRange().endLine().line() <= lineRange.startLine().line()) {
             return false;
-        } else if (nodeStartLine == rangeEndLine) {
-            return nodeStartColumn < rangeEndColumn;
         }
-
-        return true;
+        int nodeStartLine = node.lineRange().startLine().line();
+        int rangeEndLine = lineRange.endLine().line();
+        if (nodeStartLine != rangeEndLine) {
+            return nodeStartLine > rangeEndLine;
+        }
+        return node.lineRange().startLine().offset() >= lineRange.endLine().offset();
     }
 
     /**
@@ -262,6 +262,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 
+import static org.ballerinalang.formatter.core.FormatterUtils.isAfterRange;
+import static org.ballerinalang.formatter.core.FormatterUtils.isBeforeRange;
 import static org.ballerinalang.formatter.core.FormatterUtils.isInlineRange;
 import static org.ballerinalang.formatter.core.FormatterUtils.openBraceTrailingNLs;
 import static org.ballerinalang.formatter.core.FormatterUtils.getConstDefWidth;
@@ -3939,8 +3941,14 @@ public class FormattingTreeModifier extends TreeModifier {
         }
 
         Node[] newNodes = new Node[size];
+        int firstIndex = firstItemToFormat(members);
+        int lastIndex = lastItemToFormat(members);
         for (int index = 0; index < size; index++) {
             T currentMember = members.get(index);
+            if (index < firstIndex || index > lastIndex) {
+                newNodes[index] = currentMember;
+                continue;
+            }
             Node nextMember = null;
             if (index < size - 1) {
                 nextMember = members.get(index + 1);
@@ -4028,8 +4036,14 @@ public class FormattingTreeModifier extends TreeModifier {
         boolean nodeModified = false;
         int size = nodeList.size();
         Node[] newNodes = new Node[size];
+        int firstIndex = firstItemToFormat(nodeList);
+        int lastIndex = lastItemToFormat(nodeList);
         for (int index = 0; index < size; index++) {
             T oldNode = nodeList.get(index);
+            if (index < firstIndex || index > lastIndex) {
+                newNodes[index] = oldNode;
+                continue;
+            }
             T newNode;
             newNode = formatListItem(itemTrailingWS, itemTrailingNL, listTrailingWS, listTrailingNL, size, index,
                     oldNode);
@@ -4047,6 +4061,56 @@ public class FormattingTreeModifier extends TreeModifier {
         return (NodeList<T>) NodeFactory.createNodeList(newNodes);
     }
 
+    /**
+     * Returns the index of the first list item to be formatted. When formatting a range, the items which end before
+     * the range are left as they are, except the last of them, which sets the newline state for the items that follow.
+     *
+     * @param nodeList Node list to be formatted
+     * @return Index of the first item to be formatted
+     */
+    private <T extends Node> int firstItemToFormat(NodeList<T> nodeList) {
+        if (lineRange == null) {
+            return 0;
+        }
+
+        int low = 0;
+        int high = nodeList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isBeforeRange(nodeList.get(mid), lineRange)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return Math.max(low - 1, 0);
+    }
+
+    /**
+     * Returns the index of the last list item to be formatted. When formatting a range, the items which start after
+     * the range are left as they are.
+     *
+     * @param nodeList Node list to be formatted
+     * @return Index of the last item to be formatted
+     */
+    private <T extends Node> int lastItemToFormat(NodeList<T> nodeList) {
+        if (lineRange == null) {
+            return nodeList.size() - 1;
+        }
+
+        int low = 0;
+        int high = nodeList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfterRange(nodeList.get(mid), lineRange)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low - 1;
+    }
+
     private <T extends Node> T formatListItem(int itemTrailingWS, int itemTrailingNL, int listTrailingWS,
                                               int listTrailingNL, int size, int index, T oldNode) {
         T newNode;
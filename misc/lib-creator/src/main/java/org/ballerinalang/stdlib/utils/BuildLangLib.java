@@ -45,6 +45,7 @@ import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Optional;
+import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -146,8 +147,9 @@ public class BuildLangLib {
 
             //Generate docs
             out.println("Generating docs...");
+            // Docs of modules whose public API has not changed since the last build are not regenerated
             BallerinaDocGenerator.generateAPIDocs(project, targetPath.resolve(ProjectConstants.TARGET_API_DOC_DIRECTORY)
-                    .toString(), true);
+                    .toString(), true, true);
 
         } catch (Exception e) {
             out.println("Unknown error building : " + projectDir.toString());
@@ -157,8 +159,21 @@ public class BuildLangLib {
     }
 
     private static void clearTarget(Path targetPath) throws IOException {
-        if (Files.exists(targetPath)) {
-            deleteDirectory(targetPath);
+        if (!Files.exists(targetPath)) {
+            return;
+        }
+        // The API docs are kept, so that they are only regenerated for modules whose public API has changed
+        try (Stream<Path> paths = Files.list(targetPath)) {
+            for (Path path : paths.toList()) {
+                if (path.getFileName().toString().equals(ProjectConstants.TARGET_API_DOC_DIRECTORY)) {
+                    continue;
+                }
+                if (Files.isDirectory(path)) {
+                    deleteDirectory(path);
+                } else {
+                    Files.delete(path);
+                }
+            }
         }
     }
 
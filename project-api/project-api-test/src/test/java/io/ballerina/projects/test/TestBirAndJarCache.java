@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -102,7 +103,26 @@ public class TestBirAndJarCache {
                                                 moduleName.toString(),
                                                 module.descriptor().version());
             Assert.assertTrue(foundPaths.contains(jarName + BLANG_COMPILED_JAR_EXT));
+
+            // Cached BIR is detected without loading it
+            Assert.assertTrue(testCompilationCache.hasBir(moduleName));
+        }
+
+        // The BIR of a mutable cache is read again, even when it is rewritten with the same size and modified time
+        ModuleName moduleName = currentPackage.getDefaultModule().moduleName();
+        Path birFile;
+        try (Stream<Path> birFiles = Files.find(cacheDirPath, 100, (path, fileAttributes) ->
+                path.getFileName().toString().equals(moduleName + ".bir"))) {
+            birFile = birFiles.findFirst().orElseThrow();
         }
+        byte[] birContent = testCompilationCache.getBir(moduleName);
+        byte[] rewrittenContent = birContent.clone();
+        rewrittenContent[rewrittenContent.length - 1]++;
+        FileTime lastModifiedTime = Files.getLastModifiedTime(birFile);
+        Files.write(birFile, rewrittenContent);
+        Files.setLastModifiedTime(birFile, lastModifiedTime);
+        Assert.assertEquals(testCompilationCache.getBir(moduleName), rewrittenContent);
+        Files.write(birFile, birContent);
     }
 
     @Test
@@ -19,6 +19,7 @@ package io.ballerina.projects.test;
 
 import com.google.gson.JsonObject;
 import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.impl.symbols.BallerinaSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.projects.BalToolToml;
 import io.ballerina.projects.BallerinaToml;
@@ -71,6 +72,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.util.RepoUtils;
 
@@ -1391,6 +1393,120 @@ public class TestBuildProject extends BaseTest {
                 .contains("unknown type 'PersonalDetails'"));
     }
 
+    @Test
+    public void testEditDependantModuleFunctionBodyWithIncrementalAnalysis() {
+        Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
+        String updatedBodyStr = """
+                public function concatStrings(string a, string b) returns string {
+                \treturn a + b + 1;
+                }
+                """;
+        String updatedSignatureStr = """
+                public function concatStrings(string a, string b, string c) returns string {
+                \treturn a + b;
+                }
+                """;
+
+        // 1) Initialize the project instance with incremental analysis
+        BuildOptions buildOptions = BuildOptions.builder().setIncrementalAnalysis(true).build();
+        BuildProject project = loadBuildProject(projectPath, buildOptions);
+        Assert.assertTrue(project.buildOptions().incrementalAnalysis());
+
+        // 2) Compile the package
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        Assert.assertEquals(compilation.diagnosticResult().diagnosticCount(), 0);
+        BSymbol mainFunctionSymbol = getMainFunctionSymbol(project);
+
+        // 3) Edit the body of a function used by another module
+        Module module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId documentId = module.documentIds().stream().findFirst().get();
+        module.document(documentId).modify().withContent(updatedBodyStr).apply();
+
+        DiagnosticResult diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnosticCount(), 1);
+        Assert.assertEquals(diagnosticResult.diagnostics().stream().findAny().get().location().lineRange().fileName(),
+                Paths.get("modules").resolve("util").resolve("util.bal").toString());
+        // The dependant default module is not recompiled, hence its symbols are the same
+        Assert.assertSame(getMainFunctionSymbol(project), mainFunctionSymbol);
+
+        // 4) Edit the signature of the same function, which requires the dependant module to be recompiled
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(updatedSignatureStr).apply();
+
+        diagnosticResult = project.currentPackage().getCompilation().diagnosticResult();
+        Assert.assertEquals(diagnosticResult.diagnosticCount(), 1);
+        Assert.assertEquals(diagnosticResult.diagnostics().stream().findAny().get().location().lineRange().fileName(),
+                "main.bal");
+        Assert.assertTrue(diagnosticResult.diagnostics().stream().findAny().get().message()
+                .contains("missing required parameter 'c'"));
+        Assert.assertNotSame(getMainFunctionSymbol(project), mainFunctionSymbol);
+    }
+
+    @Test
+    public void testShiftPublicMemberPositionWithIncrementalAnalysis() {
+        Path projectPath = tempResourceDir.resolve("projects_for_edit_api_tests/package_with_dependencies");
+        String utilStr = """
+                function prefix() returns string {
+                \treturn "";
+                }
+
+                public function concatStrings(string a, string b) returns string {
+                \treturn prefix() + a + b;
+                }
+                """;
+        String updatedBodyStr = """
+                function prefix() returns string {
+                \treturn "my";
+                }
+
+                public function concatStrings(string a, string b) returns string {
+                \treturn prefix() + a + b;
+                }
+                """;
+        String shiftedMemberStr = """
+                function prefix() returns string {
+                \tstring value = "my";
+                \treturn value;
+                }
+
+                public function concatStrings(string a, string b) returns string {
+                \treturn prefix() + a + b;
+                }
+                """;
+
+        // 1) Initialize the project instance with incremental analysis and add a function before the public one
+        BuildOptions buildOptions = BuildOptions.builder().setIncrementalAnalysis(true).build();
+        BuildProject project = loadBuildProject(projectPath, buildOptions);
+        Module module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        DocumentId documentId = module.documentIds().stream().findFirst().get();
+        module.document(documentId).modify().withContent(utilStr).apply();
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+        BSymbol mainFunctionSymbol = getMainFunctionSymbol(project);
+
+        // 2) Edit the body of the function without moving the public function
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(updatedBodyStr).apply();
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+        Assert.assertSame(getMainFunctionSymbol(project), mainFunctionSymbol);
+
+        // 3) Edit the body of the function such that the public function moves down by a line, which requires the
+        // dependant module to be recompiled
+        module = project.currentPackage().module(ModuleName.from(PackageName.from("myproject"), "util"));
+        module.document(documentId).modify().withContent(shiftedMemberStr).apply();
+        Assert.assertEquals(project.currentPackage().getCompilation().diagnosticResult().diagnosticCount(), 0);
+        Assert.assertNotSame(getMainFunctionSymbol(project), mainFunctionSymbol);
+    }
+
+    private static BSymbol getMainFunctionSymbol(Project project) {
+        Module defaultModule = project.currentPackage().getDefaultModule();
+        SemanticModel semanticModel = project.currentPackage().getCompilation()
+                .getSemanticModel(defaultModule.moduleId());
+        Document document = defaultModule.document(defaultModule.documentIds().stream().findFirst().get());
+        Optional<Symbol> symbol = semanticModel.symbol(document, LinePosition.from(2, 16));
+        Assert.assertTrue(symbol.isPresent());
+        return ((BallerinaSymbol) symbol.get()).getInternalSymbol();
+    }
+
     @Test
     public void testEditPackageWithCyclicDependency() {
         Path projectPath = tempResourceDir
@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.projects.test;
+
+import io.ballerina.projects.BuildOptions;
+import io.ballerina.projects.JBallerinaBackend;
+import io.ballerina.projects.JarLibrary;
+import io.ballerina.projects.JvmTarget;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests the removal of unreachable dependency functions with the eliminateDeadCode build option.
+ *
+ * @since 2201.10.0
+ */
+public class TestDeadCodeElimination {
+
+    private static final String APP_PROJECT = "dead_code_elimination/app";
+    private static final String DEPENDENCY_JAR_NAME = "deadcode-utils-0.1.0.jar";
+    private static final String DEPENDENCY_FUNCTIONS_CLASS = "deadcode.utils.0.utils";
+
+    @BeforeClass
+    public void setup() {
+        CompileResult compileResult = BCompileUtil.compileAndCacheBala("dead_code_elimination/utils");
+        Assert.assertEquals(compileResult.getErrorCount(), 0, Arrays.toString(compileResult.getDiagnostics()));
+    }
+
+    @Test(description = "Unreachable functions of a dependency are not generated")
+    public void testUnreachableDependencyFunctionsAreRemoved() throws Exception {
+        Set<String> functions = getDependencyFunctions(BuildOptions.builder().setEliminateDeadCode(true).build());
+
+        // Reachable through direct calls, function pointers and methods
+        Assert.assertTrue(functions.contains("usedFunction"), functions.toString());
+        Assert.assertTrue(functions.contains("helper"), functions.toString());
+        Assert.assertTrue(functions.contains("getPointer"), functions.toString());
+        Assert.assertTrue(functions.contains("pointerTarget"), functions.toString());
+        Assert.assertTrue(functions.contains("countHelper"), functions.toString());
+
+        Assert.assertFalse(functions.contains("unusedFunction"), functions.toString());
+        Assert.assertFalse(functions.contains("unusedHelper"), functions.toString());
+    }
+
+    @Test(description = "Default value functions called by the runtime are not removed")
+    public void testDefaultValueFunctionsAreRetained() {
+        CompileResult compileResult =
+                BCompileUtil.compile(APP_PROJECT, BuildOptions.builder().setEliminateDeadCode(true).build());
+        Assert.assertEquals(compileResult.getErrorCount(), 0, Arrays.toString(compileResult.getDiagnostics()));
+
+        Object result = BRunUtil.invoke(compileResult, "greetWithDefault");
+        Assert.assertEquals(result.toString(), "Hello World");
+    }
+
+    @Test(description = "Pruned dependency code is not written to the shared compilation cache",
+            dependsOnMethods = "testUnreachableDependencyFunctionsAreRemoved")
+    public void testPrunedCodeIsNotCached() throws Exception {
+        Set<String> functions = getDependencyFunctions(BuildOptions.builder().build());
+        Assert.assertTrue(functions.contains("usedFunction"), functions.toString());
+        Assert.assertTrue(functions.contains("unusedFunction"), functions.toString());
+        Assert.assertTrue(functions.contains("unusedHelper"), functions.toString());
+    }
+
+    private static Set<String> getDependencyFunctions(BuildOptions buildOptions) throws Exception {
+        Project project = BCompileUtil.loadProject(APP_PROJECT, buildOptions);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(compilation, JvmTarget.JAVA_17);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors(),
+                TestUtils.getDiagnosticsAsString(jBallerinaBackend.diagnosticResult()));
+
+        Collection<JarLibrary> jarLibraries = jBallerinaBackend.jarResolver().getJarFilePathsRequiredForExecution();
+        Assert.assertTrue(jarLibraries.stream()
+                .anyMatch(jarLibrary -> jarLibrary.path().getFileName().toString().equals(DEPENDENCY_JAR_NAME)));
+        try (URLClassLoader classLoader = new URLClassLoader(getUrls(jarLibraries), null)) {
+            Class<?> functionsClass = Class.forName(DEPENDENCY_FUNCTIONS_CLASS, false, classLoader);
+            return Arrays.stream(functionsClass.getDeclaredMethods()).map(Method::getName)
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static URL[] getUrls(Collection<JarLibrary> jarLibraries) throws MalformedURLException {
+        List<URL> urls = new ArrayList<>();
+        for (JarLibrary jarLibrary : jarLibraries) {
+            urls.add(jarLibrary.path().toUri().toURL());
+        }
+        return urls.toArray(new URL[0]);
+    }
+}
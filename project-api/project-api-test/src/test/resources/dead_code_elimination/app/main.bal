@@ -0,0 +1,12 @@
+import deadcode/utils;
+
+public function main() {
+    int result = utils:usedFunction(1);
+    function (int) returns int pointer = utils:getPointer();
+    _ = pointer(result);
+}
+
+public function greetWithDefault() returns string {
+    // The runtime calls the default value function of the parameter by name
+    return <string>checkpanic function:call(utils:getGreeter());
+}
@@ -0,0 +1,45 @@
+public function usedFunction(int value) returns int {
+    return helper(value) + 1;
+}
+
+function helper(int value) returns int {
+    return value * 2;
+}
+
+public function unusedFunction() returns string {
+    return unusedHelper();
+}
+
+function unusedHelper() returns string {
+    return "unused";
+}
+
+public function getPointer() returns function (int) returns int {
+    return pointerTarget;
+}
+
+function pointerTarget(int value) returns int {
+    return value;
+}
+
+public class Counter {
+    public function count() returns int {
+        return countHelper();
+    }
+}
+
+function countHelper() returns int {
+    return 1;
+}
+
+public function getGreeter() returns function {
+    return greet;
+}
+
+function greet(string name = defaultName()) returns string {
+    return "Hello " + name;
+}
+
+function defaultName() returns string {
+    return "World";
+}
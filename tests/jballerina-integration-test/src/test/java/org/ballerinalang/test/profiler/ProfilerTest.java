@@ -23,12 +23,15 @@ import org.ballerinalang.test.context.BMainInstance;
 import org.ballerinalang.test.context.BallerinaTestException;
 import org.ballerinalang.test.context.LogLeecher;
 import org.ballerinalang.test.context.ServerLogReader;
+import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.ballerinalang.util.Lists;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
@@ -82,6 +85,33 @@ public class ProfilerTest extends BaseTest {
         }
     }
 
+    @Test
+    public void testProfilerExecutionWithSamplingInterval() throws BallerinaTestException, IOException {
+        String packageName = "projectForProfile" + File.separator + "package_c";
+        String sourceRoot = testFileLocation + File.separator;
+        Path htmlFilePath = Paths.get(sourceRoot, packageName, "target", "profiler", outputFile);
+        Files.deleteIfExists(htmlFilePath);
+        List<LogLeecher> leechers = Lists.of(
+                new LogLeecher("[1/6] Initializing..."),
+                new LogLeecher("[2/6] Copying executable..."),
+                new LogLeecher("[3/6] Performing analysis..."),
+                new LogLeecher("[4/6] Preparing sampler..."),
+                new LogLeecher("      Module count: "),
+                new LogLeecher("      Sampling interval: 1 ms"),
+                new LogLeecher("[5/6] Running executable..."),
+                new LogLeecher("[6/6] Generating output..."),
+                new LogLeecher("      Output: "),
+                new LogLeecher(htmlFilePath.toString()));
+        bMainInstance.runMain("profile", new String[]{"--sampling-interval", "1", packageName}, new HashMap<>(),
+                null, leechers.toArray(new LogLeecher[0]), sourceRoot);
+        for (LogLeecher leecher : leechers) {
+            leecher.waitForText(5000);
+        }
+        // The sampled call stacks are written when the program returns from its main method.
+        Assert.assertTrue(Files.readString(htmlFilePath).contains("fibonacci"),
+                "Sampled function is missing in the profiler report");
+    }
+
     private List<LogLeecher> getProfilerLogLeechers(String htmlFilePath) {
         return Lists.of(
                 new LogLeecher("[1/6] Initializing..."),
@@ -166,6 +166,8 @@ public class GroupByClauseTest {
                 "testEnumInInput",
                 "testEmptyGroups",
                 "testErrorSeq",
+                "testGroupByStructuredKeys",
+                "testGroupByMutableKeys",
                 "testGroupByExpressionAndSelectWithNonGroupingKeys1",
                 "testGroupByExpressionAndSelectWithGroupingKeys10",
                 "testGroupByExpressionAndSelectWithGroupingKeys11",
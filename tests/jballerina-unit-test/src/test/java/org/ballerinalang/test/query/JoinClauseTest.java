@@ -124,6 +124,16 @@ public class JoinClauseTest {
     public void testJoinClauseWithLargeList() {
         BRunUtil.invoke(result, "testJoinClauseWithLargeList");
     }
+
+    @Test(description = "Test join clause with tuple, mapping and decimal keys")
+    public void testJoinClauseWithStructuredKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithStructuredKeys");
+    }
+
+    @Test(description = "Test join clause with nil keys")
+    public void testJoinClauseWithNilKeys() {
+        BRunUtil.invoke(result, "testJoinClauseWithNilKeys");
+    }
     
     @Test(description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
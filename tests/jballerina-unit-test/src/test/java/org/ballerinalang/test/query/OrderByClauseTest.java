@@ -231,6 +231,16 @@ public class OrderByClauseTest {
                 "<author>Dan Brown</author><author>Enid Blyton</author>");
     }
 
+    @Test(description = "Test query expr with multiple order keys having equal values")
+    public void testQueryExprWithMultiKeyOrderByClauseIsStable() {
+        BRunUtil.invoke(result, "testQueryExprWithMultiKeyOrderByClauseIsStable");
+    }
+
+    @Test(description = "Test query expr with order by clause followed by a limit clause")
+    public void testQueryExprWithOrderByAndLimitClauses() {
+        BRunUtil.invoke(result, "testQueryExprWithOrderByAndLimitClauses");
+    }
+
     @Test(description = "Test negative scenarios for query expr with order by clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 3);
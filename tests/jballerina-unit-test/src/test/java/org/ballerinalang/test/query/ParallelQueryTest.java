@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import io.ballerina.projects.BuildOptions;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.tree.BLangFunction;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.tree.BLangSimpleVariable;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * This contains methods to test query expressions which are evaluated over partitions of a list in parallel.
+ *
+ * @since 2201.10.0
+ */
+public class ParallelQueryTest {
+
+    private static final String SOURCE_FILE = "test-src/query/parallel_query.bal";
+    private CompileResult parallelResult;
+    private CompileResult sequentialResult;
+
+    @BeforeClass
+    public void setup() {
+        parallelResult = BCompileUtil.compile(SOURCE_FILE, BuildOptions.builder().setParallelQueries(true).build());
+        sequentialResult = BCompileUtil.compile(SOURCE_FILE);
+        Assert.assertEquals(parallelResult.getErrorCount(), 0);
+        Assert.assertEquals(sequentialResult.getErrorCount(), 0);
+    }
+
+    @Test(dataProvider = "dataToTestParallelQuery")
+    public void testParallelQuery(String functionName) {
+        BRunUtil.invoke(parallelResult, functionName);
+    }
+
+    @Test(dataProvider = "dataToTestParallelQuery")
+    public void testParallelQueryDisabled(String functionName) {
+        BRunUtil.invoke(sequentialResult, functionName);
+    }
+
+    @DataProvider
+    public Object[] dataToTestParallelQuery() {
+        return new Object[]{
+                "testParallelQueryKeepsOrder",
+                "testParallelQueryWithLangLibCalls",
+                "testParallelQueryWithSmallList",
+                "testParallelQueryPanic",
+                "testQueriesWithSideEffectsAreSequential"
+        };
+    }
+
+    @Test
+    public void testQueriesEvaluatedInParallel() {
+        Set<Integer> parallelQueryLines = getParallelQueryLines(parallelResult);
+        for (int line : new int[]{30, 47, 56, 63, 69, 75}) {
+            Assert.assertTrue(parallelQueryLines.contains(line), "query at line " + line + " is not parallel");
+        }
+        // Queries which refer to variables declared outside the query or call functions which are not lang library
+        // functions with immutable arguments are evaluated sequentially.
+        for (int line : new int[]{98, 104, 112}) {
+            Assert.assertFalse(parallelQueryLines.contains(line), "query at line " + line + " is parallel");
+        }
+        Assert.assertTrue(getParallelQueryLines(sequentialResult).isEmpty());
+    }
+
+    private static Set<Integer> getParallelQueryLines(CompileResult compileResult) {
+        Set<Integer> lines = new HashSet<>();
+        for (BLangFunction function : ((BLangPackage) compileResult.getAST()).functions) {
+            for (BLangSimpleVariable param : function.requiredParams) {
+                if ("$startIndex$".equals(param.name.value)) {
+                    lines.add(function.pos.lineRange().startLine().line() + 1);
+                }
+            }
+        }
+        return lines;
+    }
+
+    @AfterClass
+    public void tearDown() {
+        parallelResult = null;
+        sequentialResult = null;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.test.query;
+
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+
+/**
+ * This contains methods to test query expressions which are desugared into plain loops.
+ *
+ * @since 2201.10.0
+ */
+public class QueryLoopDesugarTest {
+    private CompileResult result;
+    private BIRNode.BIRPackage birPackage;
+
+    @BeforeClass
+    public void setup() {
+        result = BCompileUtil.compile("test-src/query/query_loop_desugar.bal");
+        Assert.assertEquals(result.getErrorCount(), 0);
+        birPackage = BCompileUtil.generateBIR("test-src/query/query_loop_desugar.bal").getExpectedBIR();
+    }
+
+    @Test(dataProvider = "dataToTestQueryLoopDesugar")
+    public void testQueryLoopDesugar(String functionName) {
+        BRunUtil.invoke(result, functionName);
+    }
+
+    @DataProvider
+    public Object[] dataToTestQueryLoopDesugar() {
+        return new Object[]{
+                "testWhereAndLetInLoopQuery",
+                "testTypeNarrowingInWhereOfLoopQuery",
+                "testClosuresInLoopQuery",
+                "testLoopQueryWithEmptySource",
+                "testQueriesWithOtherResultTypes"
+        };
+    }
+
+    @Test(dataProvider = "dataToTestStreamPipelinesInBIR")
+    public void testStreamPipelinesInBIR(String functionName, int pipelineCount) {
+        BIRNode.BIRFunction function = birPackage.functions.stream()
+                .filter(birFunction -> birFunction.getName().getValue().equals(functionName))
+                .findFirst()
+                .orElseThrow();
+        long createPipelineCalls = function.basicBlocks.stream()
+                .map(basicBlock -> basicBlock.terminator)
+                .filter(terminator -> terminator instanceof BIRTerminator.Call)
+                .filter(terminator -> ((BIRTerminator.Call) terminator).name.value.equals("createPipeline"))
+                .count();
+        Assert.assertEquals(createPipelineCalls, pipelineCount);
+    }
+
+    @DataProvider
+    public Object[][] dataToTestStreamPipelinesInBIR() {
+        // Queries desugared into loops do not create a stream pipeline, while the rest create one each
+        return new Object[][]{
+                // The query with a binding pattern in the from clause
+                {"testWhereAndLetInLoopQuery", 1},
+                {"testTypeNarrowingInWhereOfLoopQuery", 0},
+                // The queries with a lambda and a nested query in the select clause
+                {"testClosuresInLoopQuery", 2},
+                {"testLoopQueryWithEmptySource", 0},
+                {"testQueriesWithOtherResultTypes", 5}
+        };
+    }
+
+    @AfterClass
+    public void tearDown() {
+        result = null;
+        birPackage = null;
+    }
+}
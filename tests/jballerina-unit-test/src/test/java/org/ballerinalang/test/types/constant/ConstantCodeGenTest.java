@@ -0,0 +1,136 @@
+/*
+ *  Copyright (c) 2024, WSO2 LLC. (http://www.wso2.com).
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied. See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.test.types.constant;
+
+import io.ballerina.projects.JarResolver;
+import io.ballerina.projects.PackageManifest;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import org.ballerinalang.test.BCompileUtil;
+import org.ballerinalang.test.BRunUtil;
+import org.ballerinalang.test.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for the code generated for module constants.
+ *
+ * @since 2201.10.0
+ */
+public class ConstantCodeGenTest {
+
+    private static final String INIT_CLASS_NAME = "$_init";
+    private static final String CONSTANTS_CLASS_NAME = "constants.$_constants";
+    private static final String[] CONSTANT_NAMES = {"INT_CONST", "STRING_CONST", "FLOAT_CONST", "BOOLEAN_CONST",
+            "DECIMAL_CONST", "BYTE_CONST", "NIL_CONST", "FINITE_CONST", "POINT_CONST", "MAP_CONST", "TUPLE_CONST",
+            "NESTED_MAP_CONST"};
+
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/types/constant/lazy-constant-init.bal");
+    }
+
+    @Test
+    public void testConstantFieldsInConstantsClass() throws ClassNotFoundException {
+        ClassLoader classLoader = compileResult.getClassLoader();
+        Class<?> constantsClass = Class.forName(getQualifiedClassName(CONSTANTS_CLASS_NAME), false, classLoader);
+        Class<?> initClass = Class.forName(getQualifiedClassName(INIT_CLASS_NAME), false, classLoader);
+        for (String constantName : CONSTANT_NAMES) {
+            Field field = getDeclaredField(constantsClass, constantName);
+            Assert.assertNotNull(field, "constant field is missing: " + constantName);
+            Assert.assertTrue(Modifier.isPublic(field.getModifiers()) && Modifier.isStatic(field.getModifiers()));
+            Assert.assertNull(getDeclaredField(initClass, constantName),
+                    "constant field should not be in the init class: " + constantName);
+        }
+        Assert.assertNotNull(getDeclaredField(initClass, "counter"));
+    }
+
+    @Test
+    public void testInitClassDoesNotInitializeConstants() throws IOException {
+        String initClassFile = getQualifiedClassName(INIT_CLASS_NAME).replace('.', '/') + ".class";
+        String constantsClass = getQualifiedClassName(CONSTANTS_CLASS_NAME).replace('.', '/');
+        try (InputStream inputStream = compileResult.getClassLoader().getResourceAsStream(initClassFile)) {
+            Assert.assertNotNull(inputStream);
+            String classContent = new String(inputStream.readAllBytes(), StandardCharsets.ISO_8859_1);
+            Assert.assertFalse(classContent.contains(constantsClass),
+                    "init class should not refer to the constants class");
+        }
+    }
+
+    @Test
+    public void testConstantsInitializedOnFirstAccess() throws ReflectiveOperationException {
+        Object returns = BRunUtil.invoke(compileResult, "testConstantValues");
+        Assert.assertEquals(returns.toString(), "Ballerina:10:2.5:true");
+
+        Class<?> constantsClass = Class.forName(getQualifiedClassName(CONSTANTS_CLASS_NAME), true,
+                compileResult.getClassLoader());
+        Assert.assertEquals(constantsClass.getField("INT_CONST").get(null), 10L);
+        Assert.assertEquals(((BString) constantsClass.getField("STRING_CONST").get(null)).getValue(), "Ballerina");
+        Assert.assertEquals(constantsClass.getField("BOOLEAN_CONST").get(null), true);
+    }
+
+    @Test
+    public void testComplexConstantsInitializedInConstantsClass() throws ReflectiveOperationException {
+        Object returns = BRunUtil.invoke(compileResult, "testComplexConstantValues");
+        Assert.assertEquals(returns.toString(), "12.5:255:true:5:{\"x\":1,\"y\":2}:" +
+                "{\"name\":\"Ballerina\",\"kind\":\"language\"}:[1,\"two\",3.0]:{\"origin\":{\"x\":0,\"y\":0}}");
+        Assert.assertTrue((Boolean) BRunUtil.invoke(compileResult, "testComplexConstantsAreReadOnly"));
+
+        Class<?> constantsClass = Class.forName(getQualifiedClassName(CONSTANTS_CLASS_NAME), true,
+                compileResult.getClassLoader());
+        Assert.assertEquals(constantsClass.getField("BYTE_CONST").getType(), int.class);
+        Assert.assertEquals(constantsClass.getField("BYTE_CONST").get(null), 255);
+        Assert.assertTrue(constantsClass.getField("DECIMAL_CONST").get(null) instanceof BDecimal);
+        Assert.assertNull(constantsClass.getField("NIL_CONST").get(null));
+        Assert.assertTrue(constantsClass.getField("POINT_CONST").get(null) instanceof BMap);
+        Assert.assertTrue(constantsClass.getField("MAP_CONST").get(null) instanceof BMap);
+        Assert.assertTrue(constantsClass.getField("TUPLE_CONST").get(null) instanceof BArray);
+    }
+
+    private String getQualifiedClassName(String className) {
+        PackageManifest manifest = compileResult.project().currentPackage().manifest();
+        return JarResolver.getQualifiedClassName(manifest.org().toString(), manifest.name().toString(),
+                manifest.version().toString(), className);
+    }
+
+    private static Field getDeclaredField(Class<?> clazz, String name) {
+        try {
+            return clazz.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    @AfterClass
+    public void tearDown() {
+        compileResult = null;
+    }
+}
@@ -2239,6 +2239,67 @@ function testErrorSeq() {
     
 }
 
+function testGroupByStructuredKeys() {
+    var input = [{name: "Saman", zip: [1, 2], price: 10d},
+                    {name: "Kamal", zip: [1, 2], price: 11d},
+                    {name: "Saman", zip: [1, 2], price: 12d},
+                    {name: "Saman", zip: [2, 1], price: 13d},
+                    {name: "Kamal", zip: [1, 2], price: 14d}];
+
+    var x1 = from var {name, zip, price} in input
+                group by var key = [name, zip]
+                select [price];
+    assertEquality([[10d, 12d], [11d, 14d], [13d]], x1);
+
+    var x2 = from var {name, zip, price} in input
+                group by var key = {name, zip}
+                select key;
+    assertEquality([{name: "Saman", zip: [1, 2]}, {name: "Kamal", zip: [1, 2]}, {name: "Saman", zip: [2, 1]}], x2);
+
+    // Keys are compared with `==`, so decimal keys with different precisions fall into the same group.
+    var decimals = [{amount: 1.0d, id: 1}, {amount: 1.00d, id: 2}, {amount: 2d, id: 3}];
+    var x3 = from var {amount, id} in decimals
+                group by amount
+                select [id];
+    assertEquality([[1, 2], [3]], x3);
+}
+
+type Location record {|
+    string city;
+    int[] zip;
+|};
+
+type Listing record {|
+    Location location;
+    int price;
+    boolean shouldRelocate;
+|};
+
+function relocate(Location location, boolean shouldRelocate) returns boolean {
+    if shouldRelocate {
+        location.city = "Kandy";
+        location.zip.push(3);
+    }
+    return shouldRelocate;
+}
+
+function testGroupByMutableKeys() {
+    Location colombo = {city: "Colombo", zip: [1, 2]};
+    Listing[] input = [{location: colombo, price: 10, shouldRelocate: false},
+                        {location: colombo, price: 20, shouldRelocate: true},
+                        {location: {city: "Colombo", zip: [1, 2]}, price: 30, shouldRelocate: false},
+                        {location: {city: "Kandy", zip: [1, 2, 3]}, price: 40, shouldRelocate: false}];
+
+    // The key of the first group is mutated after the group is created, which must not change
+    // the group a later frame with the original key falls into.
+    var x1 = from var {location, price, shouldRelocate} in input
+                let boolean relocated = relocate(location, shouldRelocate)
+                group by location
+                select [price];
+    assertEquality([[10, 30], [20, 40]], x1);
+    assertEquality({city: "Kandy", zip: [1, 2, 3]}, colombo);
+}
+
 function assertEquality(anydata expected, anydata actual) {
     if expected == actual {
         return;
@@ -527,6 +527,87 @@ function getCommonList(string character) returns int {
     return commonList.length();
 }
 
+type Employee record {|
+    string name;
+    int orgId;
+    int deptId;
+    string? team;
+|};
+
+type Unit record {|
+    int orgId;
+    int deptId;
+    string unitName;
+    string? team;
+|};
+
+function testJoinClauseWithStructuredKeys() {
+    Employee[] employees = [
+        {name: "Alex", orgId: 1, deptId: 1, team: "A"},
+        {name: "Ranjan", orgId: 1, deptId: 2, team: "B"},
+        {name: "John", orgId: 2, deptId: 1, team: "A"}
+    ];
+    Unit[] units = [
+        {orgId: 1, deptId: 1, unitName: "HR", team: "A"},
+        {orgId: 2, deptId: 1, unitName: "Finance", team: "A"},
+        {orgId: 1, deptId: 1, unitName: "Payroll", team: "A"},
+        {orgId: 2, deptId: 2, unitName: "Legal", team: "B"}
+    ];
+
+    string[] tupleKeyResult = from var emp in employees
+        join var unit in units on [emp.orgId, emp.deptId] equals [unit.orgId, unit.deptId]
+        select emp.name + ":" + unit.unitName;
+    // Candidates with the same key are joined in the order of the rhs.
+    assertEquality(["Alex:HR", "Alex:Payroll", "John:Finance"], tupleKeyResult);
+
+    string[] mappingKeyResult = from var emp in employees
+        join var unit in units on {org: emp.orgId, dept: emp.deptId} equals {org: unit.orgId, dept: unit.deptId}
+        select emp.name + ":" + unit.unitName;
+    assertEquality(["Alex:HR", "Alex:Payroll", "John:Finance"], mappingKeyResult);
+
+    string[] outerJoinResult = from var emp in employees
+        outer join var unit in units on [emp.orgId, emp.deptId] equals [unit.orgId, unit.deptId]
+        select emp.name + ":" + (unit?.unitName ?: "-");
+    assertEquality(["Alex:HR", "Alex:Payroll", "Ranjan:-", "John:Finance"], outerJoinResult);
+
+    // Keys are compared with `==`, so decimal keys with different precisions match.
+    decimal[] prices = [1.0d, 2.5d];
+    decimal[] otherPrices = [1.00d, 2.50d, 3d];
+    decimal[] decimalResult = from decimal p in prices
+        join decimal q in otherPrices on p equals q
+        select q;
+    assertEquality([1.00d, 2.50d], decimalResult);
+}
+
+function testJoinClauseWithNilKeys() {
+    Employee[] employees = [
+        {name: "Alex", orgId: 1, deptId: 1, team: ()},
+        {name: "Ranjan", orgId: 1, deptId: 2, team: ""},
+        {name: "John", orgId: 2, deptId: 1, team: "A"}
+    ];
+    Unit[] units = [
+        {orgId: 1, deptId: 1, unitName: "HR", team: ()},
+        {orgId: 2, deptId: 1, unitName: "Finance", team: "A"},
+        {orgId: 2, deptId: 2, unitName: "Legal", team: ()}
+    ];
+
+    // A nil key matches only other nil keys, and not an empty string.
+    string[] innerJoinResult = from var emp in employees
+        join var unit in units on emp.team equals unit.team
+        select emp.name + ":" + unit.unitName;
+    assertEquality(["Alex:HR", "Alex:Legal", "John:Finance"], innerJoinResult);
+
+    string[] outerJoinResult = from var emp in employees
+        outer join var unit in units on emp.team equals unit.team
+        select emp.name + ":" + (unit?.unitName ?: "-");
+    assertEquality(["Alex:HR", "Alex:Legal", "Ranjan:-", "John:Finance"], outerJoinResult);
+
+    string[] nestedNilKeyResult = from var emp in employees
+        join var unit in units on [emp.orgId, emp.team] equals [unit.orgId, unit.team]
+        select emp.name + ":" + unit.unitName;
+    assertEquality(["Alex:HR", "John:Finance"], nestedNilKeyResult);
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertEquality(any|error expected, any|error actual) {
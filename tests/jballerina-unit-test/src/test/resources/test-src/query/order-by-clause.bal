@@ -502,3 +502,110 @@ function incrementCount(int i) returns int {
     int count = i + 2;
     return count;
 }
+
+type Score record {|
+    string name;
+    string? team;
+    int points;
+|};
+
+function getScores() returns Score[] {
+    return [
+        {name: "Alex", team: "B", points: 10},
+        {name: "Ranjan", team: (), points: 30},
+        {name: "John", team: "A", points: 10},
+        {name: "Anne", team: "B", points: 20},
+        {name: "Mike", team: "A", points: 30},
+        {name: "Kate", team: "B", points: 10},
+        {name: "Sam", team: (), points: 10}
+    ];
+}
+
+function testQueryExprWithMultiKeyOrderByClauseIsStable() {
+    Score[] scores = getScores();
+
+    // Frames with equal keys keep their input order.
+    string[] byPoints = from var {name, points} in scores
+        order by points descending
+        select name;
+    assertEquality(["Ranjan", "Mike", "Anne", "Alex", "John", "Kate", "Sam"], byPoints);
+
+    // () is ordered last in both directions.
+    string[] byTeamAndPoints = from var {name, team, points} in scores
+        order by team ascending, points descending
+        select name;
+    assertEquality(["Mike", "John", "Anne", "Alex", "Kate", "Ranjan", "Sam"], byTeamAndPoints);
+
+    string[] byTeamDescending = from var {name, team} in scores
+        order by team descending
+        select name;
+    assertEquality(["Alex", "Anne", "Kate", "John", "Mike", "Ranjan", "Sam"], byTeamDescending);
+
+    // Equal keys in every order key keep the input order as well.
+    string[] byAllKeys = from var {name, team, points} in scores
+        order by team descending, points ascending
+        select name;
+    assertEquality(["Alex", "Kate", "Anne", "John", "Mike", "Sam", "Ranjan"], byAllKeys);
+}
+
+function testQueryExprWithOrderByAndLimitClauses() {
+    Score[] scores = getScores();
+
+    string[] topTwo = from var {name, points} in scores
+        order by points descending
+        limit 2
+        select name;
+    assertEquality(["Ranjan", "Mike"], topTwo);
+
+    // Ties at the boundary of the limit are resolved by the input order.
+    string[] topThree = from var {name, points} in scores
+        order by points ascending
+        limit 3
+        select name;
+    assertEquality(["Alex", "John", "Kate"], topThree);
+
+    int n = 5;
+    string[] topN = from var {name, team, points} in scores
+        order by team ascending, points descending
+        limit n
+        select name;
+    assertEquality(["Mike", "John", "Anne", "Alex", "Kate"], topN);
+
+    string[] limitLargerThanSource = from var {name, points} in scores
+        order by points descending
+        limit 100
+        select name;
+    assertEquality(["Ranjan", "Mike", "Anne", "Alex", "John", "Kate", "Sam"], limitLargerThanSource);
+
+    string[] limitZero = from var {name, points} in scores
+        order by points descending
+        limit 0
+        select name;
+    assertEquality([], limitZero);
+
+    Score[] empty = [];
+    string[] emptySource = from var {name, points} in empty
+        order by points descending
+        limit 2
+        select name;
+    assertEquality([], emptySource);
+
+    // The limit applies to the frames emitted by the clauses after the order by clause.
+    string[] limitAfterWhere = from var {name, points} in scores
+        order by points descending
+        where points < 30
+        limit 2
+        select name;
+    assertEquality(["Anne", "Alex"], limitAfterWhere);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
@@ -0,0 +1,130 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+// Lists which are at least as long as the threshold of lang.query are evaluated over partitions.
+const int LIST_LENGTH = 100000;
+
+function getList() returns int[] {
+    int[] list = [];
+    foreach int i in 0 ..< LIST_LENGTH {
+        list.push(i);
+    }
+    return list;
+}
+
+function testParallelQueryKeepsOrder() {
+    int[] list = getList();
+    int[] result = from int i in list
+        where i % 3 == 0
+        let int square = i * i
+        select square + 1;
+
+    int[] expected = [];
+    foreach int i in list {
+        if i % 3 == 0 {
+            expected.push(i * i + 1);
+        }
+    }
+    assertEquality(expected.length(), result.length());
+    assertEquality(expected, result);
+}
+
+function testParallelQueryWithLangLibCalls() {
+    int[] list = getList();
+    string[] result = from int i in list
+        let string str = i.toString()
+        where str.length() == 3
+        select str.substring(1);
+    assertEquality(900, result.length());
+    assertEquality("00", result[0]);
+    assertEquality("99", result[899]);
+
+    int[] & readonly immutableList = list.cloneReadOnly();
+    int[] fromImmutable = from int i in immutableList
+        where i >= LIST_LENGTH - 3
+        select i;
+    assertEquality([LIST_LENGTH - 3, LIST_LENGTH - 2, LIST_LENGTH - 1], fromImmutable);
+}
+
+function testParallelQueryWithSmallList() {
+    int[] result = from int i in [1, 2, 3, 4]
+        where i % 2 == 0
+        select i * 10;
+    assertEquality([20, 40], result);
+
+    int[] empty = [];
+    int[] emptyResult = from int i in empty
+        select i;
+    assertEquality([], emptyResult);
+}
+
+function testParallelQueryPanic() {
+    string[] list = from int i in getList()
+        select i == 20000 || i == 90000 ? "x" + i.toString() : i.toString();
+    int[]|error result = trap (from string s in list
+        select checkpanic int:fromString(s));
+    if result is int[] {
+        panic error(ASSERTION_ERROR_REASON, message = "expected an error");
+    }
+    // The failure of the first partition which fails is reported, as in the sequential evaluation.
+    assertTrue(result.message().includes("x20000"));
+}
+
+type Counter record {|
+    int count;
+|};
+
+function increment(Counter counter) returns int {
+    counter.count += 1;
+    return counter.count;
+}
+
+function testQueriesWithSideEffectsAreSequential() {
+    int[] list = getList();
+    int offset = 5;
+    int[] result = from int i in list
+        where i < 3
+        select i + offset;
+    assertEquality([5, 6, 7], result);
+
+    Counter counter = {count: 0};
+    int[] counts = from int i in list
+        select increment(counter);
+    assertEquality(LIST_LENGTH, counter.count);
+    assertEquality(1, counts[0]);
+    assertEquality(LIST_LENGTH, counts[LIST_LENGTH - 1]);
+
+    Counter[] counters = from int i in [1, 2, 3]
+        select {count: i};
+    int[] updated = from Counter c in counters
+        select increment(c);
+    assertEquality([2, 3, 4], updated);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
+
+function assertTrue(anydata actual) {
+    return assertEquality(true, actual);
+}
@@ -0,0 +1,147 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+type Person record {|
+    string name;
+    int age;
+|};
+
+function testWhereAndLetInLoopQuery() {
+    int[] values = [1, 2, 3, 4, 5];
+    int[] result = from int v in values
+        let int doubled = v * 2
+        where doubled > 4
+        let int incremented = doubled + 1
+        where incremented != 9
+        select incremented;
+    assertEquality([7, 11], result);
+
+    Person[] people = [{name: "Alex", age: 25}, {name: "Ranjan", age: 17}, {name: "John", age: 40}];
+    string[] names = from var {name, age} in people
+        where age >= 18
+        let string upper = name.toUpperAscii()
+        select upper;
+    assertEquality(["ALEX", "JOHN"], names);
+
+    // The result is a new mutable array, which can be appended to
+    result.push(13);
+    assertEquality([7, 11, 13], result);
+}
+
+function testTypeNarrowingInWhereOfLoopQuery() {
+    (int|string)[] values = [1, "two", 3, "four"];
+    int[] ints = from var v in values
+        where v is int
+        select v * 10;
+    assertEquality([10, 30], ints);
+
+    int?[] optionals = [1, (), 3];
+    int[] nonNil = from int? v in optionals
+        where v != ()
+        select v + 1;
+    assertEquality([2, 4], nonNil);
+}
+
+function testClosuresInLoopQuery() {
+    int threshold = 2;
+    int factor = 3;
+    int[] values = [1, 2, 3, 4];
+
+    // Captures enclosing locals directly
+    int[] result = from int v in values
+        where v > threshold
+        select v * factor;
+    assertEquality([9, 12], result);
+
+    // Query within an anonymous function which captures the enclosing locals
+    function () returns int[] fn = function() returns int[] {
+        return from int v in values
+            where v != threshold
+            select v * factor;
+    };
+    assertEquality([3, 9, 12], fn());
+
+    // Anonymous function in the select clause which captures the query variable
+    int[] captured = from int v in values
+        select (function() returns int {
+            return v * factor;
+        })();
+    assertEquality([3, 6, 9, 12], captured);
+
+    // Nested query which refers to the outer query variable
+    int[][] nested = from int v in [1, 2]
+        select from int w in [10, 20]
+            select v * w;
+    assertEquality([[10, 20], [20, 40]], nested);
+}
+
+function testLoopQueryWithEmptySource() {
+    int[] empty = [];
+    int counter = 0;
+    function (int) returns int increment = function(int value) returns int {
+        counter += 1;
+        return value + 1;
+    };
+    int[] result = from int v in empty
+        let int incremented = increment(v)
+        where incremented > 0
+        select incremented;
+    assertEquality(0, result.length());
+    assertEquality(0, counter);
+
+    result.push(1);
+    assertEquality([1], result);
+}
+
+function testQueriesWithOtherResultTypes() {
+    int[] values = [1, 2, 3];
+
+    int[] & readonly immutable = from int v in values
+        where v > 1
+        select v;
+    assertEquality([2, 3], immutable);
+    any immutableValue = immutable;
+    assertTrue(immutableValue is readonly);
+
+    int[]|error arrayOrError = from int v in values
+        select v * 2;
+    assertEquality([2, 4, 6], arrayOrError);
+
+    stream<int> intStream = stream from int v in values
+        select v;
+    int[] fromStream = from int v in intStream
+        select v;
+    assertEquality([1, 2, 3], fromStream);
+
+    string joined = from int v in values
+        select v.toString();
+    assertEquality("123", joined);
+}
+
+const ASSERTION_ERROR_REASON = "AssertionError";
+
+function assertEquality(anydata expected, anydata actual) {
+    if expected == actual {
+        return;
+    }
+
+    panic error(ASSERTION_ERROR_REASON,
+                message = "expected '" + expected.toString() + "', found '" + actual.toString() + "'");
+}
+
+function assertTrue(anydata actual) {
+    return assertEquality(true, actual);
+}
@@ -0,0 +1,53 @@
+// Copyright (c) 2024 WSO2 LLC. (http://www.wso2.com).
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+const int INT_CONST = 10;
+const string STRING_CONST = "Ballerina";
+const float FLOAT_CONST = 2.5;
+const boolean BOOLEAN_CONST = true;
+const decimal DECIMAL_CONST = 12.5;
+const byte BYTE_CONST = 255;
+const () NIL_CONST = ();
+const FINITE_CONST = 5;
+
+type Point record {|
+    int x;
+    int y;
+|};
+
+const Point POINT_CONST = {x: 1, y: 2};
+const map<string> MAP_CONST = {name: "Ballerina", kind: "language"};
+const [int, string, decimal] TUPLE_CONST = [1, "two", 3.0];
+const map<Point> NESTED_MAP_CONST = {origin: {x: 0, y: 0}};
+
+int counter = 0;
+
+function testConstantValues() returns string {
+    counter += INT_CONST;
+    return STRING_CONST + ":" + counter.toString() + ":" + FLOAT_CONST.toString() + ":" + BOOLEAN_CONST.toString();
+}
+
+function testComplexConstantValues() returns string {
+    int finite = FINITE_CONST;
+    return DECIMAL_CONST.toString() + ":" + BYTE_CONST.toString() + ":" + (NIL_CONST is ()).toString() + ":" +
+        finite.toString() + ":" + POINT_CONST.toString() + ":" + MAP_CONST.toString() + ":" +
+        TUPLE_CONST.toString() + ":" + NESTED_MAP_CONST.toString();
+}
+
+function testComplexConstantsAreReadOnly() returns boolean {
+    return POINT_CONST.isReadOnly() && MAP_CONST.isReadOnly() && TUPLE_CONST.isReadOnly() &&
+        NESTED_MAP_CONST.isReadOnly() && NESTED_MAP_CONST["origin"].isReadOnly();
+}